@@ -0,0 +1,96 @@
+package com.corporate.payroll.benchmark;
+
+import com.corporate.payroll.application.service.RowValidationService;
+import com.corporate.payroll.application.util.DelimitedLineTokenizer;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Filas de ejemplo tomadas de dev-tools/txt y separadas en válidas e inválidas con la misma
+ * validación de la carga. El directorio se indica con la propiedad benchmark.rows.dir.
+ */
+final class BenchmarkRows {
+
+    /** Filas procesadas por invocación; los resultados se reportan por fila con @OperationsPerInvocation. */
+    static final int BATCH_SIZE = 1024;
+    static final String PROCESS_ID = "benchmark";
+    static final String FILE_NAME = "benchmark.txt";
+
+    private static final String ROWS_DIR_PROPERTY = "benchmark.rows.dir";
+    private static final String DEFAULT_ROWS_DIR = "../../dev-tools/txt";
+
+    private BenchmarkRows() {
+    }
+
+    /**
+     * Lote de {@link #BATCH_SIZE} filas repitiendo las de ejemplo. Las filas válidas reciben un
+     * número de identificación único para que la verificación de duplicados no las rechace.
+     *
+     * @param kind "valid" o "invalid"
+     */
+    static String[] batch(String kind) {
+        boolean valid = "valid".equals(kind);
+        List<String> samples = load(valid);
+        String[] batch = new String[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            String line = samples.get(i % samples.size());
+            batch[i] = valid ? withIdNumber(line, String.valueOf(1_000_000_000L + i)) : line;
+        }
+        return batch;
+    }
+
+    /**
+     * Un tokenizador por fila, ya procesado, para medir la validación sin el costo de separar campos
+     */
+    static DelimitedLineTokenizer[] tokenize(String[] lines) {
+        DelimitedLineTokenizer[] tokenizers = new DelimitedLineTokenizer[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            tokenizers[i] = DelimitedLineTokenizer.forFirstLine(lines[i]);
+            tokenizers[i].tokenize(lines[i]);
+        }
+        return tokenizers;
+    }
+
+    private static List<String> load(boolean valid) {
+        Path dir = Path.of(System.getProperty(ROWS_DIR_PROPERTY, DEFAULT_ROWS_DIR));
+        RowValidationService validator = new RowValidationService();
+        List<String> rows = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".txt")).sorted().toList()) {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    DelimitedLineTokenizer tokenizer = DelimitedLineTokenizer.forFirstLine(line);
+                    tokenizer.tokenize(line);
+                    boolean rowValid = validator.validateFields(tokenizer, 1, PROCESS_ID, FILE_NAME).isEmpty();
+                    if (rowValid == valid) {
+                        rows.add(line);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron leer las filas de " + dir.toAbsolutePath(), e);
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("No hay filas " + (valid ? "válidas" : "inválidas") + " en " + dir.toAbsolutePath());
+        }
+        return rows;
+    }
+
+    private static String withIdNumber(String line, String idNumber) {
+        DelimitedLineTokenizer tokenizer = DelimitedLineTokenizer.forFirstLine(line);
+        tokenizer.tokenize(line);
+        String[] fields = tokenizer.toArray();
+        fields[FileProcessingConstants.INDEX_ID_NUMBER] = idNumber;
+        return String.join(String.valueOf(tokenizer.getDelimiter()), fields);
+    }
+}
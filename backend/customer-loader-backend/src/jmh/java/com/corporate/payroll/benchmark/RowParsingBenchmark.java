@@ -0,0 +1,61 @@
+package com.corporate.payroll.benchmark;
+
+import com.corporate.payroll.application.util.DelimitedLineTokenizer;
+import com.corporate.payroll.application.util.FileFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Separación de una fila en campos. parseCsvLine detecta el delimitador y crea un tokenizador
+ * por línea; reusedTokenizer es el camino de la carga, con un tokenizador por archivo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowParsingBenchmark {
+
+    @Param({"valid", "invalid"})
+    private String rows;
+
+    private String[] lines;
+    private DelimitedLineTokenizer tokenizer;
+
+    @Setup
+    public void setUp() {
+        lines = BenchmarkRows.batch(rows);
+        tokenizer = DelimitedLineTokenizer.forFirstLine(lines[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkRows.BATCH_SIZE)
+    public void parseCsvLine(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(FileFieldValidator.parseCsvLine(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkRows.BATCH_SIZE)
+    public void reusedTokenizer(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(tokenizer.tokenize(line));
+            blackhole.consume(tokenizer.field(1));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.corporate.payroll.benchmark;
+
+import com.corporate.payroll.application.service.RowValidationService;
+import com.corporate.payroll.application.util.DelimitedLineTokenizer;
+import com.corporate.payroll.application.util.DuplicateIdDetector;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.domain.service.ClientValidator;
+import com.corporate.payroll.domain.util.ValidationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validación de filas ya separadas en campos. Las filas inválidas de dev-tools/txt recorren
+ * los caminos con excepciones y mensajes de error, que son los que más asignan memoria.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowValidationBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final LocalDateTime PROCESSING_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Param({"valid", "invalid"})
+    private String rows;
+
+    private final RowValidationService rowValidationService = new RowValidationService();
+    private DelimitedLineTokenizer[] tokenizers;
+    private String[][] fields;
+
+    @Setup
+    public void setUp() {
+        tokenizers = BenchmarkRows.tokenize(BenchmarkRows.batch(rows));
+        fields = new String[tokenizers.length][];
+        for (int i = 0; i < tokenizers.length; i++) {
+            fields[i] = new String[FileProcessingConstants.MIN_COLUMNS_REQUIRED];
+            for (int column = 0; column < fields[i].length; column++) {
+                fields[i][column] = tokenizers[i].field(column);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkRows.BATCH_SIZE)
+    public void validateClient(Blackhole blackhole) {
+        for (int i = 0; i < fields.length; i++) {
+            String[] row = fields[i];
+            blackhole.consume(ClientValidator.validateClient(row[0], row[1], row[2], row[3], row[4], row[5], i + 1));
+        }
+    }
+
+    /**
+     * Incluye un detector de duplicados nuevo por lote, como por archivo en la carga
+     */
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkRows.BATCH_SIZE)
+    public void validateRow(Blackhole blackhole) {
+        try (DuplicateIdDetector duplicateDetector = new DuplicateIdDetector()) {
+            for (int i = 0; i < tokenizers.length; i++) {
+                blackhole.consume(rowValidationService.validateRow(tokenizers[i], i + 1,
+                        BenchmarkRows.PROCESS_ID, BenchmarkRows.FILE_NAME, duplicateDetector));
+            }
+        }
+    }
+
+    /**
+     * En la carga solo se invoca para filas válidas; con filas inválidas mide el mismo trabajo
+     */
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkRows.BATCH_SIZE)
+    public void createValidContext(Blackhole blackhole) {
+        for (int i = 0; i < tokenizers.length; i++) {
+            blackhole.consume(rowValidationService.createValidContext(tokenizers[i], i + 1,
+                    BenchmarkRows.FILE_NAME, PROCESSING_DATE, BenchmarkRows.PROCESS_ID));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkRows.BATCH_SIZE)
+    public void validateDate(Blackhole blackhole) {
+        for (int i = 0; i < fields.length; i++) {
+            blackhole.consume(ValidationUtils.validateDate(fields[i][FileProcessingConstants.INDEX_JOIN_DATE],
+                    DATE_FORMATTER, "Fecha inválida", i + 1));
+        }
+    }
+}
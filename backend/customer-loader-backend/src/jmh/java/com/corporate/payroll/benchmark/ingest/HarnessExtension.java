@@ -0,0 +1,29 @@
+package com.corporate.payroll.benchmark.ingest;
+
+import com.corporate.payroll.application.service.CounterConsistencyJob;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.transaction.Transactional;
+
+/**
+ * Ajusta el despliegue del arnés:
+ * - {@link Transactional#value()} es un miembro de la interceptor binding, por lo que el servidor
+ *   usa un interceptor por tipo de propagación; aquí se declara no vinculante para que
+ *   {@link ResourceLocalTransactionInterceptor} atienda todos los tipos.
+ * - Excluye la verificación periódica de contadores, que ejecutaría COUNT(*) en medio de una medición.
+ */
+public class HarnessExtension implements Extension {
+
+    void registerTransactionalBinding(@Observes BeforeBeanDiscovery event) {
+        event.configureInterceptorBinding(Transactional.class)
+                .filterMethods(method -> "value".equals(method.getJavaMember().getName()))
+                .forEach(method -> method.add(Nonbinding.Literal.INSTANCE));
+    }
+
+    void vetoBackgroundJobs(@Observes ProcessAnnotatedType<CounterConsistencyJob> event) {
+        event.veto();
+    }
+}
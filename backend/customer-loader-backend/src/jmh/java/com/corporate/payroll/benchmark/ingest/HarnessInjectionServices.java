@@ -0,0 +1,137 @@
+package com.corporate.payroll.benchmark.ingest;
+
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.jboss.weld.injection.spi.JpaInjectionServices;
+import org.jboss.weld.injection.spi.ResourceInjectionServices;
+import org.jboss.weld.injection.spi.ResourceReference;
+import org.jboss.weld.injection.spi.ResourceReferenceFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resuelve las inyecciones que en WildFly provee el servidor: @PersistenceContext,
+ * @PersistenceUnit y los @Resource usados por la aplicación (ejecutores administrados, fábrica
+ * de hilos y registro de sincronización de transacciones).
+ */
+final class HarnessInjectionServices implements JpaInjectionServices, ResourceInjectionServices {
+
+    private final HarnessTransactions transactions;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Object managedExecutor;
+
+    HarnessInjectionServices(HarnessTransactions transactions, EntityManagerFactory entityManagerFactory,
+                             int threads) {
+        this.transactions = transactions;
+        this.entityManagerFactory = entityManagerFactory;
+        this.executor = new ScheduledThreadPoolExecutor(threads, daemonThreads());
+        this.managedExecutor = Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ManagedScheduledExecutorService.class}, (proxy, method, args) -> {
+                    if (!method.getDeclaringClass().isInstance(executor)) {
+                        throw new UnsupportedOperationException("Operación no soportada por el arnés: " + method.getName());
+                    }
+                    try {
+                        return method.invoke(executor, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    @Override
+    public ResourceReferenceFactory<EntityManager> registerPersistenceContextInjectionPoint(InjectionPoint injectionPoint) {
+        EntityManager entityManager = transactions.entityManager();
+        return () -> reference(entityManager);
+    }
+
+    @Override
+    public ResourceReferenceFactory<EntityManagerFactory> registerPersistenceUnitInjectionPoint(InjectionPoint injectionPoint) {
+        return () -> reference(entityManagerFactory);
+    }
+
+    @Override
+    public ResourceReferenceFactory<Object> registerResourceInjectionPoint(InjectionPoint injectionPoint) {
+        Object resource = resourceFor(injectionPoint.getType());
+        return () -> reference(resource);
+    }
+
+    @Override
+    public ResourceReferenceFactory<Object> registerResourceInjectionPoint(String jndiName, String mappedName) {
+        throw new UnsupportedOperationException("Recurso JNDI no soportado por el arnés: " + jndiName);
+    }
+
+    private Object resourceFor(java.lang.reflect.Type type) {
+        if (type == ManagedExecutorService.class || type == ManagedScheduledExecutorService.class) {
+            return managedExecutor;
+        }
+        if (type == ManagedThreadFactory.class) {
+            return new HarnessThreadFactory();
+        }
+        if (type == TransactionSynchronizationRegistry.class) {
+            return transactions;
+        }
+        throw new UnsupportedOperationException("Recurso no soportado por el arnés: " + type.getTypeName());
+    }
+
+    @Override
+    public void cleanup() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> ResourceReference<T> reference(T instance) {
+        return new ResourceReference<>() {
+            @Override
+            public T getInstance() {
+                return instance;
+            }
+
+            @Override
+            public void release() {
+                // el arnés cierra los recursos al detener el contenedor
+            }
+        };
+    }
+
+    /** Hilos daemon para tareas sueltas y los hilos por defecto para pools fork-join. */
+    private static final class HarnessThreadFactory implements ManagedThreadFactory {
+
+        private final ThreadFactory threads = daemonThreads();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            return threads.newThread(task);
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            return ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "harness-executor-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
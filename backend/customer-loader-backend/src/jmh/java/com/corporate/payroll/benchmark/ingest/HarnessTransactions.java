@@ -0,0 +1,209 @@
+package com.corporate.payroll.benchmark.ingest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Transacciones locales de JPA asociadas al hilo, en lugar de las transacciones JTA de WildFly.
+ *
+ * Cada hilo tiene una pila de ámbitos: una transacción abierta por REQUIRED o REQUIRES_NEW,
+ * o una suspensión por NOT_SUPPORTED. El EntityManager inyectado en los adaptadores delega en
+ * el del ámbito superior; sin transacción usa uno propio del hilo que se limpia en cada operación,
+ * como el contexto de persistencia sin transacción de un contenedor.
+ */
+final class HarnessTransactions implements TransactionSynchronizationRegistry {
+
+    private static final Set<String> NON_TRANSACTIONAL_ENTRY_POINTS = Set.of(
+            "find", "createQuery", "createNamedQuery", "createNativeQuery", "getReference");
+
+    private static volatile HarnessTransactions current;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ThreadLocal<Deque<Scope>> scopes = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<EntityManager> nonTransactional = new ThreadLocal<>();
+    private final List<EntityManager> nonTransactionalManagers = new ArrayList<>();
+
+    private HarnessTransactions(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    static HarnessTransactions install(EntityManagerFactory entityManagerFactory) {
+        current = new HarnessTransactions(entityManagerFactory);
+        return current;
+    }
+
+    static HarnessTransactions current() {
+        if (current == null) {
+            throw new IllegalStateException("Las transacciones del arnés no fueron inicializadas");
+        }
+        return current;
+    }
+
+    boolean isActive() {
+        Scope top = scopes.get().peek();
+        return top != null && top.entityManager != null;
+    }
+
+    void begin() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        scopes.get().push(new Scope(entityManager));
+    }
+
+    /**
+     * Confirma o revierte la transacción superior. Se revierte también cuando fue marcada
+     * con setRollbackOnly o cuando falla el commit.
+     */
+    void end(boolean commit) {
+        Scope scope = scopes.get().pop();
+        EntityTransaction transaction = scope.entityManager.getTransaction();
+        int status = Status.STATUS_ROLLEDBACK;
+        try {
+            if (commit && !transaction.getRollbackOnly()) {
+                scope.beforeCompletion();
+                transaction.commit();
+                status = Status.STATUS_COMMITTED;
+            } else {
+                transaction.rollback();
+            }
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            scope.entityManager.close();
+            scope.afterCompletion(status);
+        }
+    }
+
+    void suspend() {
+        scopes.get().push(new Scope(null));
+    }
+
+    void resume() {
+        scopes.get().pop();
+    }
+
+    /**
+     * EntityManager que delega en el del ámbito actual del hilo que lo invoca.
+     */
+    EntityManager entityManager() {
+        return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(),
+                new Class<?>[]{EntityManager.class}, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "equals" -> proxy == args[0];
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            default -> "EntityManager del arnés";
+                        };
+                    }
+                    EntityManager target = isActive() ? scopes.get().peek().entityManager
+                            : nonTransactionalEntityManager(method.getName());
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private EntityManager nonTransactionalEntityManager(String operation) {
+        EntityManager entityManager = nonTransactional.get();
+        if (entityManager == null) {
+            entityManager = entityManagerFactory.createEntityManager();
+            nonTransactional.set(entityManager);
+            synchronized (nonTransactionalManagers) {
+                nonTransactionalManagers.add(entityManager);
+            }
+        } else if (NON_TRANSACTIONAL_ENTRY_POINTS.contains(operation)) {
+            entityManager.clear();
+        }
+        return entityManager;
+    }
+
+    void close() {
+        synchronized (nonTransactionalManagers) {
+            nonTransactionalManagers.forEach(EntityManager::close);
+            nonTransactionalManagers.clear();
+        }
+        entityManagerFactory.close();
+    }
+
+    @Override
+    public Object getTransactionKey() {
+        return isActive() ? scopes.get().peek() : null;
+    }
+
+    @Override
+    public void putResource(Object key, Object value) {
+        activeScope().resources.put(key, value);
+    }
+
+    @Override
+    public Object getResource(Object key) {
+        return activeScope().resources.get(key);
+    }
+
+    @Override
+    public void registerInterposedSynchronization(Synchronization synchronization) {
+        activeScope().synchronizations.add(synchronization);
+    }
+
+    @Override
+    public int getTransactionStatus() {
+        if (!isActive()) {
+            return Status.STATUS_NO_TRANSACTION;
+        }
+        return activeScope().entityManager.getTransaction().getRollbackOnly()
+                ? Status.STATUS_MARKED_ROLLBACK : Status.STATUS_ACTIVE;
+    }
+
+    @Override
+    public void setRollbackOnly() {
+        activeScope().entityManager.getTransaction().setRollbackOnly();
+    }
+
+    @Override
+    public boolean getRollbackOnly() {
+        return activeScope().entityManager.getTransaction().getRollbackOnly();
+    }
+
+    private Scope activeScope() {
+        if (!isActive()) {
+            throw new IllegalStateException("No hay una transacción activa");
+        }
+        return scopes.get().peek();
+    }
+
+    private static final class Scope {
+
+        private final EntityManager entityManager;
+        private final Map<Object, Object> resources = new HashMap<>();
+        private final List<Synchronization> synchronizations = new ArrayList<>();
+
+        private Scope(EntityManager entityManager) {
+            this.entityManager = entityManager;
+        }
+
+        private void beforeCompletion() {
+            synchronizations.forEach(Synchronization::beforeCompletion);
+        }
+
+        private void afterCompletion(int status) {
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        }
+    }
+}
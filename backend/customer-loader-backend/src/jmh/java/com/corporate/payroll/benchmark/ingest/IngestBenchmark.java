@@ -0,0 +1,371 @@
+package com.corporate.payroll.benchmark.ingest;
+
+import com.corporate.payroll.adapter.in.web.dto.BulkLoadStatisticsResponseDto;
+import com.corporate.payroll.application.port.in.IngestMode;
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark de extremo a extremo de la carga masiva: genera archivos de nómina con una mezcla de
+ * errores conocida y los procesa con {@link com.corporate.payroll.application.port.in.BulkLoadClientUseCase#processBulkLoad}
+ * sobre {@link IngestHarness}. Por cada archivo reporta filas por segundo, pico de heap,
+ * tiempo y cantidad de recolecciones y sentencias enviadas a la base.
+ *
+ * mvn -Pbenchmark test-compile exec:exec@ingest -Dingest.rows=10000,1000000 -Dingest.formats=pipe,comma
+ *
+ * Sin --jdbc-url usa una base H2 en modo MySQL dentro de target, creada desde scripts/database.sql
+ * y vaciada antes de cada medición. Con una base MySQL local las tablas deben existir
+ * (o indicar --create-schema=true) y solo se vacían con --reset=true.
+ */
+public final class IngestBenchmark {
+
+    /** Separación entre los números de identificación de dos mediciones de la misma ejecución. */
+    private static final long ID_STRIDE = 50_000_000L;
+    private static final int MAX_ROWS = (int) ID_STRIDE;
+    private static final long HEAP_SAMPLE_MILLIS = 5;
+
+    private IngestBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        Files.createDirectories(options.workDir.resolve("files"));
+
+        List<Result> results = new ArrayList<>();
+        try (IngestHarness harness = IngestHarness.start(options.jdbcUrl, options.user, options.password,
+                options.createSchema ? options.schemaScript : null, options.threads)) {
+            SyntheticDatabook.setLatencyNanos(TimeUnit.MICROSECONDS.toNanos(options.databookLatencyMicros));
+            PayrollFileGenerator generator = new PayrollFileGenerator(options.seed, options.errors);
+
+            long idBase = options.idBase;
+            if (options.warmupRows > 0) {
+                System.out.printf(Locale.ROOT, "Calentamiento con %d filas%n", options.warmupRows);
+                run(harness, generator, options, options.warmupRows, options.formats.get(0), idBase);
+                idBase += ID_STRIDE;
+            }
+            printHeader();
+            for (int rows : options.rows) {
+                for (Format format : options.formats) {
+                    Result result = run(harness, generator, options, rows, format, idBase);
+                    idBase += ID_STRIDE;
+                    results.add(result);
+                    print(result);
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println("Resumen (" + options.mode + ", errores " + options.errors + ", semilla " + options.seed + ")");
+        printHeader();
+        results.forEach(IngestBenchmark::print);
+        writeCsv(options.workDir.resolve("ingest-results.csv"), options, results);
+    }
+
+    private static Result run(IngestHarness harness, PayrollFileGenerator generator, Options options,
+                              int rows, Format format, long idBase) throws Exception {
+        Path file = options.workDir.resolve("files").resolve("payroll-" + rows + "-" + format.label + ".txt");
+        PayrollFileGenerator.Expected expected = generator.generate(file, rows, format.delimiter, idBase);
+        if (options.reset) {
+            harness.reset();
+        }
+
+        System.gc();
+        StatementCountingDataSource statements = harness.statements();
+        long executionsBefore = statements.executions();
+        long batchedBefore = statements.batchedRows();
+        GcTotals gcBefore = GcTotals.now();
+
+        BulkLoadStatisticsResponseDto response;
+        long elapsedNanos;
+        long peakHeap;
+        try (HeapPeakMonitor heap = HeapPeakMonitor.start(); InputStream in = Files.newInputStream(file)) {
+            long start = System.nanoTime();
+            response = harness.bulkLoad().processBulkLoad(in, file.getFileName().toString(), options.mode);
+            elapsedNanos = System.nanoTime() - start;
+            peakHeap = heap.peak();
+        }
+
+        GcTotals gc = GcTotals.now().minus(gcBefore);
+        return new Result(rows, format, expected, response.getSuccessfulCount(), response.getErrorCount(),
+                elapsedNanos, peakHeap, gc.millis, gc.count,
+                statements.executions() - executionsBefore, statements.batchedRows() - batchedBefore);
+    }
+
+    private static void printHeader() {
+        System.out.printf(Locale.ROOT, "%10s %6s %9s %11s %10s %9s %6s %11s %11s %17s %17s%n",
+                "filas", "fmt", "seg", "filas/s", "heap MB", "GC ms", "GCs", "sentencias", "en lotes",
+                "exitosos/esp.", "errores/esp.");
+    }
+
+    private static void print(Result result) {
+        System.out.printf(Locale.ROOT, "%10d %6s %9.2f %11.0f %10.1f %9d %6d %11d %11d %17s %17s%s%n",
+                result.rows, result.format.label, result.seconds(), result.rowsPerSecond(),
+                result.peakHeapBytes / (1024.0 * 1024.0), result.gcMillis, result.gcCount,
+                result.statements, result.batchedRows,
+                result.successful + "/" + result.expected.valid(), result.errors + "/" + result.expected.errors(),
+                result.matchesExpected() ? "" : "  <- distinto al esperado");
+    }
+
+    private static void writeCsv(Path file, Options options, List<Result> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (Files.notExists(file)) {
+            lines.add("rows,format,mode,errors,seed,seconds,rows_per_second,peak_heap_bytes,gc_millis,gc_count,"
+                    + "statements,batched_rows,successful,expected_successful,errors,expected_errors");
+        }
+        for (Result result : results) {
+            lines.add(String.format(Locale.ROOT, "%d,%s,%s,\"%s\",%d,%.3f,%.0f,%d,%d,%d,%d,%d,%d,%d,%d,%d",
+                    result.rows, result.format.label, options.mode, options.errors, options.seed,
+                    result.seconds(), result.rowsPerSecond(), result.peakHeapBytes, result.gcMillis, result.gcCount,
+                    result.statements, result.batchedRows, result.successful, result.expected.valid(),
+                    result.errors, result.expected.errors()));
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        System.out.println("Resultados agregados a " + file);
+    }
+
+    private enum Format {
+        PIPE("pipe", '|'),
+        COMMA("comma", ',');
+
+        private final String label;
+        private final char delimiter;
+
+        Format(String label, char delimiter) {
+            this.label = label;
+            this.delimiter = delimiter;
+        }
+
+        static Format parse(String value) {
+            return switch (value.strip().toLowerCase(Locale.ROOT)) {
+                case "pipe", "|" -> PIPE;
+                case "comma", "," -> COMMA;
+                default -> throw new IllegalArgumentException("Formato desconocido: " + value + " (pipe o comma)");
+            };
+        }
+    }
+
+    private record Result(int rows, Format format, PayrollFileGenerator.Expected expected, int successful,
+                          int errors, long elapsedNanos, long peakHeapBytes, long gcMillis, long gcCount,
+                          long statements, long batchedRows) {
+
+        double seconds() {
+            return elapsedNanos / 1e9;
+        }
+
+        double rowsPerSecond() {
+            return rows / seconds();
+        }
+
+        boolean matchesExpected() {
+            return successful == expected.valid() && errors == expected.errors();
+        }
+    }
+
+    private record GcTotals(long millis, long count) {
+
+        static GcTotals now() {
+            long millis = 0;
+            long count = 0;
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                millis += Math.max(0, collector.getCollectionTime());
+                count += Math.max(0, collector.getCollectionCount());
+            }
+            return new GcTotals(millis, count);
+        }
+
+        GcTotals minus(GcTotals other) {
+            return new GcTotals(millis - other.millis, count - other.count);
+        }
+    }
+
+    /**
+     * Pico de heap usado durante la carga: el mayor entre muestras periódicas y el uso
+     * informado justo antes de cada recolección, que el muestreo puede perder.
+     */
+    private static final class HeapPeakMonitor implements AutoCloseable {
+
+        private final AtomicLong peak = new AtomicLong();
+        private final Thread sampler;
+        private final Set<String> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .map(MemoryPoolMXBean::getName)
+                .collect(Collectors.toSet());
+        private final List<NotificationEmitter> emitters = new ArrayList<>();
+        private final NotificationListener beforeGcListener = (notification, handback) -> {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                Map<String, MemoryUsage> beforeGc = GarbageCollectionNotificationInfo
+                        .from((CompositeData) notification.getUserData()).getGcInfo().getMemoryUsageBeforeGc();
+                record(beforeGc.entrySet().stream()
+                        .filter(entry -> heapPools.contains(entry.getKey()))
+                        .mapToLong(entry -> entry.getValue().getUsed())
+                        .sum());
+            }
+        };
+
+        private HeapPeakMonitor() {
+            sampler = Thread.ofPlatform().daemon().name("heap-sampler").unstarted(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    record(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+                    try {
+                        Thread.sleep(HEAP_SAMPLE_MILLIS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        static HeapPeakMonitor start() {
+            HeapPeakMonitor monitor = new HeapPeakMonitor();
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (collector instanceof NotificationEmitter emitter) {
+                    emitter.addNotificationListener(monitor.beforeGcListener, null, null);
+                    monitor.emitters.add(emitter);
+                }
+            }
+            monitor.sampler.start();
+            return monitor;
+        }
+
+        long peak() {
+            record(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+            return peak.get();
+        }
+
+        private void record(long used) {
+            peak.accumulateAndGet(used, Math::max);
+        }
+
+        @Override
+        public void close() {
+            sampler.interrupt();
+            for (NotificationEmitter emitter : emitters) {
+                try {
+                    emitter.removeNotificationListener(beforeGcListener);
+                } catch (ListenerNotFoundException e) {
+                    // ya removido
+                }
+            }
+        }
+    }
+
+    /**
+     * Opciones --nombre=valor; los valores por defecto corresponden a una ejecución corta.
+     */
+    private static final class Options {
+
+        private List<Integer> rows = List.of(10_000, 100_000);
+        private List<Format> formats = List.of(Format.PIPE, Format.COMMA);
+        private PayrollFileGenerator.ErrorMix errors =
+                new PayrollFileGenerator.ErrorMix(0.01, 0.01, 0.01, 0.02);
+        private IngestMode mode = IngestMode.STREAMING;
+        private long seed = 42;
+        private long idBase;
+        private int warmupRows = 20_000;
+        private long databookLatencyMicros;
+        private Path workDir = Path.of("target", "ingest-benchmark");
+        private Path schemaScript = Path.of("..", "..", "scripts", "database.sql");
+        private String jdbcUrl;
+        private String user = "";
+        private String password = "";
+        private Boolean createSchema;
+        private Boolean reset;
+        private int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+        static Options parse(String[] args) throws IOException {
+            Options options = new Options();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Argumento inválido: " + arg + " (se espera --nombre=valor)");
+                }
+                String name = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1).strip();
+                if (value.isEmpty()) {
+                    continue;
+                }
+                switch (name) {
+                    case "rows" -> options.rows = Stream.of(value.split(",")).map(String::strip)
+                            .map(Integer::parseInt).toList();
+                    case "formats" -> options.formats = Stream.of(value.split(",")).map(Format::parse).toList();
+                    case "errors" -> options.errors = PayrollFileGenerator.ErrorMix.parse(value);
+                    case "mode" -> options.mode = IngestMode.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "seed" -> options.seed = Long.parseLong(value);
+                    case "id-base" -> options.idBase = Long.parseLong(value);
+                    case "warmup-rows" -> options.warmupRows = Integer.parseInt(value);
+                    case "databook-latency-micros" -> options.databookLatencyMicros = Long.parseLong(value);
+                    case "work-dir" -> options.workDir = Path.of(value);
+                    case "schema" -> options.schemaScript = Path.of(value);
+                    case "jdbc-url" -> options.jdbcUrl = value;
+                    case "jdbc-user" -> options.user = value;
+                    case "jdbc-password" -> options.password = value;
+                    case "create-schema" -> options.createSchema = Boolean.parseBoolean(value);
+                    case "reset" -> options.reset = Boolean.parseBoolean(value);
+                    case "threads" -> options.threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Opción desconocida: --" + name);
+                }
+            }
+            options.validate();
+
+            boolean embedded = options.jdbcUrl == null;
+            if (embedded) {
+                Path database = options.workDir.resolve("db").toAbsolutePath();
+                deleteDirectory(database);
+                options.jdbcUrl = "jdbc:h2:file:" + database.resolve("payroll")
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;LOCK_TIMEOUT=30000";
+                options.user = "sa";
+            }
+            options.createSchema = options.createSchema != null ? options.createSchema : embedded;
+            options.reset = options.reset != null ? options.reset : embedded;
+            return options;
+        }
+
+        private void validate() {
+            for (int count : rows) {
+                if (count <= 0 || count > MAX_ROWS) {
+                    throw new IllegalArgumentException("La cantidad de filas debe estar entre 1 y " + MAX_ROWS);
+                }
+            }
+            if (formats.isEmpty()) {
+                throw new IllegalArgumentException("Se requiere al menos un formato");
+            }
+            if (warmupRows < 0 || warmupRows > MAX_ROWS || databookLatencyMicros < 0 || threads < 2 || idBase < 0) {
+                throw new IllegalArgumentException("Opciones fuera de rango");
+            }
+        }
+
+        private static void deleteDirectory(Path directory) throws IOException {
+            if (Files.notExists(directory)) {
+                return;
+            }
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.corporate.payroll.benchmark.ingest;
+
+import com.corporate.payroll.application.port.in.BulkLoadClientUseCase;
+import com.corporate.payroll.application.service.BulkLoadClientUse;
+import com.mchange.v2.c3p0.ComboPooledDataSource;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.Configuration;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Levanta la aplicación fuera de WildFly para medir la carga de extremo a extremo: los beans
+ * reales en Weld SE, Hibernate con las propiedades de persistence.xml sobre un pool c3p0 y
+ * transacciones locales en lugar de JTA ({@link HarnessTransactions}). Databook se reemplaza por
+ * {@link SyntheticDatabook} y la verificación periódica de contadores queda excluida.
+ */
+final class IngestHarness implements AutoCloseable {
+
+    /** Tablas con datos de las cargas, de hijas a padres. */
+    private static final List<String> LOAD_TABLES = List.of("bulk_load_stage_timings", "bulk_load_errors",
+            "payroll_payments", "accounts", "clients", "bulk_load_processes");
+
+    /** Propiedades de persistence.xml que dependen del servidor o solo agregan salida. */
+    private static final Set<String> SERVER_PROPERTIES = Set.of("hibernate.dialect", "hibernate.show_sql",
+            "hibernate.format_sql", "hibernate.hbm2ddl.auto");
+
+    private static final Pattern CREATE_TABLE = Pattern.compile("CREATE TABLE (\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INLINE_INDEX = Pattern.compile("INDEX (\\w+) \\(");
+
+    private final ComboPooledDataSource pool;
+    private final StatementCountingDataSource statements;
+    private final HarnessTransactions transactions;
+    private final WeldContainer container;
+    private final BulkLoadClientUseCase bulkLoad;
+
+    private IngestHarness(ComboPooledDataSource pool, StatementCountingDataSource statements,
+                          HarnessTransactions transactions, WeldContainer container) {
+        this.pool = pool;
+        this.statements = statements;
+        this.transactions = transactions;
+        this.container = container;
+        this.bulkLoad = container.select(BulkLoadClientUseCase.class).get();
+    }
+
+    /**
+     * @param schemaScript script de creación de tablas, o null si la base ya las tiene
+     * @param threads      hilos del ejecutor que reemplaza a los ejecutores administrados
+     */
+    static IngestHarness start(String jdbcUrl, String user, String password, Path schemaScript,
+                               int threads) throws Exception {
+        ComboPooledDataSource pool = new ComboPooledDataSource();
+        pool.setJdbcUrl(jdbcUrl);
+        pool.setUser(user);
+        pool.setPassword(password);
+        pool.setMinPoolSize(2);
+        pool.setMaxPoolSize(threads + 8);
+        pool.setCheckoutTimeout(30_000);
+        if (schemaScript != null) {
+            createSchema(pool, schemaScript);
+        }
+
+        List<Class<?>> applicationClasses = applicationClasses();
+        StatementCountingDataSource statements = new StatementCountingDataSource(pool);
+        EntityManagerFactory entityManagerFactory = entityManagerFactory(statements, applicationClasses);
+        HarnessTransactions transactions = HarnessTransactions.install(entityManagerFactory);
+
+        Weld weld = new Weld()
+                .disableDiscovery()
+                .setBeanDiscoveryMode(BeanDiscoveryMode.ANNOTATED)
+                .beanClasses(applicationClasses.toArray(Class<?>[]::new))
+                .addBeanClasses(SyntheticDatabook.class, ResourceLocalTransactionInterceptor.class)
+                .addExtension(new HarnessExtension())
+                .addServices(new HarnessInjectionServices(transactions, entityManagerFactory, threads));
+        return new IngestHarness(pool, statements, transactions, weld.initialize());
+    }
+
+    BulkLoadClientUseCase bulkLoad() {
+        return bulkLoad;
+    }
+
+    StatementCountingDataSource statements() {
+        return statements;
+    }
+
+    /**
+     * Vacía las tablas de carga y los contadores para que cada medición empiece con la misma
+     * base. Usa el pool directamente, sin contar sentencias.
+     */
+    void reset() throws SQLException {
+        try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+            for (String table : LOAD_TABLES) {
+                statement.executeUpdate("DELETE FROM " + table);
+            }
+            statement.executeUpdate("UPDATE entity_counters SET counter_value = 0");
+        }
+    }
+
+    @Override
+    public void close() {
+        container.shutdown();
+        transactions.close();
+        pool.close();
+    }
+
+    /**
+     * Ejecuta scripts/database.sql omitiendo la creación y selección de la base de datos,
+     * que corresponden a la URL JDBC. En H2 los nombres de índice son únicos por esquema y no
+     * por tabla, así que se les antepone el nombre de la tabla.
+     */
+    private static void createSchema(ComboPooledDataSource pool, Path script) throws IOException, SQLException {
+        StringBuilder sql = new StringBuilder();
+        for (String line : Files.readAllLines(script, StandardCharsets.UTF_8)) {
+            String trimmed = line.strip();
+            if (!trimmed.startsWith("--")) {
+                sql.append(line).append('\n');
+            }
+        }
+        try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+            boolean h2 = "H2".equals(connection.getMetaData().getDatabaseProductName());
+            for (String command : sql.toString().split(";")) {
+                String normalized = command.strip().toUpperCase(Locale.ROOT);
+                if (normalized.isEmpty() || normalized.startsWith("USE ")
+                        || normalized.startsWith("DROP DATABASE") || normalized.startsWith("CREATE DATABASE")) {
+                    continue;
+                }
+                Matcher table = CREATE_TABLE.matcher(command);
+                if (h2 && table.find()) {
+                    command = INLINE_INDEX.matcher(command).replaceAll("INDEX " + table.group(1) + "_$1 (");
+                }
+                statement.execute(command);
+            }
+        }
+    }
+
+    private static EntityManagerFactory entityManagerFactory(StatementCountingDataSource statements,
+                                                             List<Class<?>> applicationClasses) throws Exception {
+        Configuration configuration = new Configuration();
+        applicationClasses.stream()
+                .filter(type -> type.isAnnotationPresent(Entity.class))
+                .forEach(configuration::addAnnotatedClass);
+        persistenceProperties().forEach(configuration::setProperty);
+        configuration.setProperty("hibernate.hbm2ddl.auto", "none");
+        configuration.getProperties().put("hibernate.connection.datasource", statements.dataSource());
+        return configuration.buildSessionFactory();
+    }
+
+    private static Map<String, String> persistenceProperties() throws Exception {
+        Map<String, String> properties = new LinkedHashMap<>();
+        try (InputStream xml = BulkLoadClientUse.class.getResourceAsStream("/META-INF/persistence.xml")) {
+            if (xml == null) {
+                return properties;
+            }
+            NodeList nodes = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(xml)
+                    .getElementsByTagName("property");
+            for (int i = 0; i < nodes.getLength(); i++) {
+                Element property = (Element) nodes.item(i);
+                if (!SERVER_PROPERTIES.contains(property.getAttribute("name"))) {
+                    properties.put(property.getAttribute("name"), property.getAttribute("value"));
+                }
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Clases compiladas de la aplicación (target/classes), como las vería el despliegue
+     */
+    private static List<Class<?>> applicationClasses() throws URISyntaxException {
+        Path root = Path.of(BulkLoadClientUse.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        ClassLoader loader = BulkLoadClientUse.class.getClassLoader();
+        List<Class<?>> classes = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".class")).sorted().toList()) {
+                String name = root.relativize(file).toString();
+                if (name.endsWith("module-info.class") || name.endsWith("package-info.class")) {
+                    continue;
+                }
+                classes.add(Class.forName(name.substring(0, name.length() - ".class".length())
+                        .replace(file.getFileSystem().getSeparator(), "."), false, loader));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("No se pudo cargar una clase de la aplicación", e);
+        }
+        return classes;
+    }
+}
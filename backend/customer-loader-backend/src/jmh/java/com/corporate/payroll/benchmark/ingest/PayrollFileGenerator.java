@@ -0,0 +1,184 @@
+package com.corporate.payroll.benchmark.ingest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Genera archivos de nómina reproducibles: con la misma semilla, cantidad de filas, separador
+ * y mezcla de errores el contenido es idéntico byte a byte.
+ *
+ * Cada fila es válida o presenta exactamente un problema de la mezcla, de modo que el
+ * resultado esperado de la carga se conoce de antemano ({@link Expected}).
+ */
+final class PayrollFileGenerator {
+
+    /** Prefijo de los números de identificación que {@link SyntheticDatabook} no encuentra. */
+    static final char DATABOOK_MISS_PREFIX = '8';
+
+    private static final String[] EMAIL_DOMAINS = {"example.com", "correo.ec", "empresa.com.ec"};
+    private static final LocalDate FIRST_JOIN_DATE = LocalDate.of(2015, 1, 1);
+    private static final int JOIN_DATE_RANGE_DAYS = 3650;
+    private static final int RECENT_IDS = 1024;
+    private static final double PASSPORT_RATE = 0.1;
+
+    private final long seed;
+    private final ErrorMix mix;
+
+    PayrollFileGenerator(long seed, ErrorMix mix) {
+        this.seed = seed;
+        this.mix = mix;
+    }
+
+    /**
+     * Escribe el archivo completo en un temporal y lo renombra al terminar.
+     *
+     * @param idBase primer número de identificación; cargas contra la misma base deben usar
+     *               bases que no se solapen
+     */
+    Expected generate(Path file, int rows, char delimiter, long idBase) throws IOException {
+        Path partial = file.resolveSibling(file.getFileName() + ".part");
+        Expected expected;
+        try (BufferedWriter writer = Files.newBufferedWriter(partial, StandardCharsets.UTF_8)) {
+            expected = write(writer, rows, delimiter, idBase);
+        }
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+        return expected;
+    }
+
+    private Expected write(BufferedWriter writer, int rows, char delimiter, long idBase) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] recentIds = new String[RECENT_IDS];
+        int recentCount = 0;
+        long nextId = idBase;
+        int valid = 0;
+        int invalid = 0;
+        int duplicates = 0;
+        int misses = 0;
+
+        StringBuilder line = new StringBuilder(96);
+        for (int row = 0; row < rows; row++) {
+            double roll = random.nextDouble();
+            String idType = random.nextDouble() < PASSPORT_RATE ? "P" : "C";
+            String idNumber;
+            String joinDate = FIRST_JOIN_DATE.plusDays(random.nextInt(JOIN_DATE_RANGE_DAYS)).toString();
+            String phone = "09" + digits(random.nextInt(100_000_000), 8);
+
+            if (roll < mix.badDates()) {
+                idNumber = identification(idType, nextId++);
+                joinDate = random.nextBoolean() ? joinDate.substring(0, 5) + "13" + joinDate.substring(7)
+                        : joinDate.substring(8) + "/" + joinDate.substring(5, 7) + "/" + joinDate.substring(0, 4);
+                invalid++;
+            } else if ((roll -= mix.badDates()) < mix.shortPhones()) {
+                idNumber = identification(idType, nextId++);
+                phone = phone.substring(0, 2 + random.nextInt(7));
+                invalid++;
+            } else if ((roll -= mix.shortPhones()) < mix.duplicates() && recentCount > 0) {
+                idNumber = recentIds[random.nextInt(Math.min(recentCount, RECENT_IDS))];
+                duplicates++;
+            } else if ((roll -= mix.duplicates()) < mix.databookMisses()) {
+                idNumber = DATABOOK_MISS_PREFIX + digits(nextId++, 9);
+                misses++;
+            } else {
+                idNumber = identification(idType, nextId++);
+                recentIds[recentCount++ % RECENT_IDS] = idNumber;
+                valid++;
+            }
+
+            line.setLength(0);
+            line.append(idType).append(delimiter)
+                    .append(idNumber).append(delimiter)
+                    .append(joinDate).append(delimiter)
+                    .append(400 + random.nextInt(4601)).append(delimiter)
+                    .append("empleado").append(row).append('@')
+                    .append(EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)]).append(delimiter)
+                    .append(phone)
+                    .append('\n');
+            writer.append(line);
+        }
+        return new Expected(rows, valid, invalid, duplicates, misses);
+    }
+
+    /** Cédula de 10 dígitos que empieza en 1, o pasaporte alfanumérico de 10 caracteres. */
+    private static String identification(String idType, long id) {
+        return ("P".equals(idType) ? "P" : "1") + digits(id, 9);
+    }
+
+    private static String digits(long value, int width) {
+        String text = Long.toString(value % pow10(width));
+        return "0".repeat(width - text.length()) + text;
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    /**
+     * Proporción de filas con cada tipo de problema, entre 0 y 1 y con suma menor o igual a 1.
+     */
+    record ErrorMix(double badDates, double shortPhones, double duplicates, double databookMisses) {
+
+        ErrorMix {
+            double total = badDates + shortPhones + duplicates + databookMisses;
+            if (badDates < 0 || shortPhones < 0 || duplicates < 0 || databookMisses < 0 || total > 1) {
+                throw new IllegalArgumentException("Mezcla de errores inválida: las proporciones deben sumar entre 0 y 1");
+            }
+        }
+
+        /**
+         * Formato "bad-dates=0.01,short-phones=0.01,duplicates=0.01,databook-misses=0.02";
+         * las proporciones omitidas valen 0.
+         */
+        static ErrorMix parse(String spec) {
+            double badDates = 0;
+            double shortPhones = 0;
+            double duplicates = 0;
+            double misses = 0;
+            for (String entry : spec.split(",")) {
+                if (entry.isBlank()) {
+                    continue;
+                }
+                String[] pair = entry.split("=", 2);
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Entrada de mezcla de errores inválida: " + entry);
+                }
+                double rate = Double.parseDouble(pair[1].trim());
+                switch (pair[0].trim().toLowerCase(Locale.ROOT)) {
+                    case "bad-dates" -> badDates = rate;
+                    case "short-phones" -> shortPhones = rate;
+                    case "duplicates" -> duplicates = rate;
+                    case "databook-misses" -> misses = rate;
+                    default -> throw new IllegalArgumentException("Tipo de error desconocido: " + pair[0]);
+                }
+            }
+            return new ErrorMix(badDates, shortPhones, duplicates, misses);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "bad-dates=%s,short-phones=%s,duplicates=%s,databook-misses=%s",
+                    badDates, shortPhones, duplicates, databookMisses);
+        }
+    }
+
+    /**
+     * Resultado esperado de cargar el archivo en una base sin esos clientes. Las filas válidas se
+     * registran; las demás terminan como error (formato, duplicado en el archivo o Databook).
+     */
+    record Expected(int rows, int valid, int invalid, int duplicates, int databookMisses) {
+
+        int errors() {
+            return invalid + duplicates + databookMisses;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.corporate.payroll.benchmark.ingest;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.transaction.InvalidTransactionException;
+import jakarta.transaction.TransactionRequiredException;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.TransactionalException;
+
+/**
+ * Interpreta {@link Transactional} con las reglas de Jakarta Transactions sobre
+ * {@link HarnessTransactions}: los tipos de propagación y rollbackOn/dontRollbackOn
+ * (por defecto revierten solo las excepciones no verificadas).
+ */
+@Interceptor
+@Transactional
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 200)
+public class ResourceLocalTransactionInterceptor {
+
+    @AroundInvoke
+    public Object manageTransaction(InvocationContext context) throws Exception {
+        Transactional transactional = findTransactional(context);
+        HarnessTransactions transactions = HarnessTransactions.current();
+
+        return switch (transactional.value()) {
+            case REQUIRED -> transactions.isActive()
+                    ? joinTransaction(context, transactional, transactions)
+                    : inNewTransaction(context, transactional, transactions);
+            case REQUIRES_NEW -> inNewTransaction(context, transactional, transactions);
+            case MANDATORY -> {
+                if (!transactions.isActive()) {
+                    throw new TransactionalException("Se requiere una transacción activa",
+                            new TransactionRequiredException());
+                }
+                yield joinTransaction(context, transactional, transactions);
+            }
+            case SUPPORTS -> transactions.isActive()
+                    ? joinTransaction(context, transactional, transactions)
+                    : context.proceed();
+            case NOT_SUPPORTED -> withoutTransaction(context, transactions);
+            case NEVER -> {
+                if (transactions.isActive()) {
+                    throw new TransactionalException("No se permite una transacción activa",
+                            new InvalidTransactionException());
+                }
+                yield context.proceed();
+            }
+        };
+    }
+
+    private Object inNewTransaction(InvocationContext context, Transactional transactional,
+                                    HarnessTransactions transactions) throws Exception {
+        transactions.begin();
+        Object result;
+        try {
+            result = context.proceed();
+        } catch (Exception e) {
+            transactions.end(!rollsBack(transactional, e));
+            throw e;
+        } catch (Error e) {
+            transactions.end(false);
+            throw e;
+        }
+        transactions.end(true);
+        return result;
+    }
+
+    private Object joinTransaction(InvocationContext context, Transactional transactional,
+                                   HarnessTransactions transactions) throws Exception {
+        try {
+            return context.proceed();
+        } catch (Exception e) {
+            if (rollsBack(transactional, e)) {
+                transactions.setRollbackOnly();
+            }
+            throw e;
+        }
+    }
+
+    private Object withoutTransaction(InvocationContext context, HarnessTransactions transactions) throws Exception {
+        transactions.suspend();
+        try {
+            return context.proceed();
+        } finally {
+            transactions.resume();
+        }
+    }
+
+    private static boolean rollsBack(Transactional transactional, Exception exception) {
+        for (Class<?> type : transactional.dontRollbackOn()) {
+            if (type.isInstance(exception)) {
+                return false;
+            }
+        }
+        for (Class<?> type : transactional.rollbackOn()) {
+            if (type.isInstance(exception)) {
+                return true;
+            }
+        }
+        return exception instanceof RuntimeException;
+    }
+
+    /**
+     * La anotación del método tiene precedencia sobre la de la clase
+     */
+    private static Transactional findTransactional(InvocationContext context) {
+        Transactional transactional = context.getMethod().getAnnotation(Transactional.class);
+        if (transactional != null) {
+            return transactional;
+        }
+        for (Class<?> type = context.getMethod().getDeclaringClass(); type != null; type = type.getSuperclass()) {
+            transactional = type.getAnnotation(Transactional.class);
+            if (transactional != null) {
+                return transactional;
+            }
+        }
+        for (Class<?> type = context.getTarget().getClass(); type != null; type = type.getSuperclass()) {
+            transactional = type.getAnnotation(Transactional.class);
+            if (transactional != null) {
+                return transactional;
+            }
+        }
+        throw new IllegalStateException("Método sin @Transactional: " + context.getMethod());
+    }
+}
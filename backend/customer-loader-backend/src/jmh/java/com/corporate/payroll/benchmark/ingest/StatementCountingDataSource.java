@@ -0,0 +1,77 @@
+package com.corporate.payroll.benchmark.ingest;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource que cuenta las sentencias enviadas a la base. Cada execute* y cada executeBatch
+ * cuenta como un viaje a la base; las filas agregadas con addBatch se cuentan aparte.
+ */
+final class StatementCountingDataSource {
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder batchedRows = new LongAdder();
+    private final DataSource dataSource;
+
+    StatementCountingDataSource(DataSource target) {
+        this.dataSource = proxy(DataSource.class, target, (method, result) ->
+                result instanceof Connection connection ? proxy(Connection.class, connection, this::wrapStatement) : result);
+    }
+
+    DataSource dataSource() {
+        return dataSource;
+    }
+
+    long executions() {
+        return executions.sum();
+    }
+
+    long batchedRows() {
+        return batchedRows.sum();
+    }
+
+    private Object wrapStatement(Method method, Object result) {
+        if (result instanceof CallableStatement statement) {
+            return proxy(CallableStatement.class, statement, null);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement, null);
+        }
+        if (result instanceof Statement statement) {
+            return proxy(Statement.class, statement, null);
+        }
+        return result;
+    }
+
+    private <T> T proxy(Class<T> type, T target, ResultWrapper wrapper) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                executions.increment();
+            } else if ("addBatch".equals(name)) {
+                batchedRows.increment();
+            } else if ("unwrap".equals(name) && args[0] == type) {
+                return proxy;
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return wrapper != null ? wrapper.wrap(method, result) : result;
+        }));
+    }
+
+    @FunctionalInterface
+    private interface ResultWrapper {
+        Object wrap(Method method, Object result);
+    }
+}
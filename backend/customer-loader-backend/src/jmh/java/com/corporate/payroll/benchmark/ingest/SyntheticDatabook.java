@@ -0,0 +1,60 @@
+package com.corporate.payroll.benchmark.ingest;
+
+import com.corporate.payroll.adapter.in.web.dto.DatabookResponseDto;
+import com.corporate.payroll.application.port.out.DatabookPort;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.interceptor.Interceptor;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Databook sintético que reemplaza a {@link com.corporate.payroll.adapter.out.external.DatabookAdapter}
+ * en el arnés. Encuentra toda identificación salvo las que empiezan con
+ * {@link PayrollFileGenerator#DATABOOK_MISS_PREFIX}, y los datos devueltos dependen solo del número,
+ * así que dos ejecuciones con el mismo archivo registran los mismos clientes.
+ */
+@Alternative
+@Priority(Interceptor.Priority.APPLICATION + 100)
+@ApplicationScoped
+public class SyntheticDatabook implements DatabookPort {
+
+    private static final String[] FIRST_NAMES = {
+            "María José", "Juan Carlos", "Ana Lucía", "Luis Alberto", "Carmen Elena", "Jorge Andrés",
+            "Rosa María", "Diego Fernando", "Paola Andrea", "Miguel Ángel"};
+    private static final String[] LAST_NAMES = {
+            "Pérez Gómez", "Rodríguez Vera", "Castillo Mora", "Andrade León", "Torres Salazar",
+            "Vásquez Ortiz", "Herrera Cedeño", "Zambrano Ruiz", "Morales Paredes", "Suárez Jaramillo"};
+    private static final LocalDate FIRST_BIRTH_DATE = LocalDate.of(1960, 1, 1);
+    private static final int BIRTH_DATE_RANGE_DAYS = 40 * 365;
+
+    /** Latencia simulada por consulta, en nanosegundos; la fija el arnés antes de cargar. */
+    private static volatile long latencyNanos;
+
+    static void setLatencyNanos(long nanos) {
+        latencyNanos = nanos;
+    }
+
+    @Override
+    public Optional<DatabookResponseDto> getClientInfo(String idType, String idNumber) {
+        long latency = latencyNanos;
+        if (latency > 0) {
+            LockSupport.parkNanos(latency);
+        }
+        if (idNumber == null || idNumber.isEmpty() || idNumber.charAt(0) == PayrollFileGenerator.DATABOOK_MISS_PREFIX) {
+            return Optional.empty();
+        }
+
+        int hash = idNumber.hashCode() & Integer.MAX_VALUE;
+        return Optional.of(DatabookResponseDto.builder()
+                .idType(idType)
+                .idNumber(idNumber)
+                .firstNames(FIRST_NAMES[hash % FIRST_NAMES.length])
+                .lastNames(LAST_NAMES[(hash / FIRST_NAMES.length) % LAST_NAMES.length])
+                .birthDate(FIRST_BIRTH_DATE.plusDays(hash % BIRTH_DATE_RANGE_DAYS).toString())
+                .build());
+    }
+}
@@ -0,0 +1,17 @@
+package com.corporate.payroll.adapter.in.web.cache;
+
+import jakarta.ws.rs.NameBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca los GET de recursos identificados por el path param processId cuyas respuestas
+ * no cambian una vez terminado el proceso. Ver {@link ConditionalGetFilter}.
+ */
+@NameBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+}
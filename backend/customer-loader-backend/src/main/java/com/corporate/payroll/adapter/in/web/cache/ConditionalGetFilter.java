@@ -0,0 +1,157 @@
+package com.corporate.payroll.adapter.in.web.cache;
+
+import com.corporate.payroll.adapter.in.web.compression.GzipWriterInterceptor;
+import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
+import com.corporate.payroll.application.service.ingest.IngestProgressRegistry;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.application.util.FileProcessingConstants.ProcessStatus;
+import com.corporate.payroll.domain.model.BulkLoadProcess;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * GET condicional para procesos terminados.
+ * Antes de invocar el recurso se busca el proceso (desde el cache de consultas cuando está completado);
+ * si está en COMPLETED o ERROR se calcula un ETag fuerte a partir de su estado, sus contadores y la URI
+ * pedida, y un If-None-Match coincidente se responde con 304 sin ejecutar las consultas de página
+ * ni de totales. Las respuestas 200 de procesos terminados llevan el ETag y Cache-Control.
+ * Un proceso que sigue activo en este nodo no es condicional y no se consulta en la base.
+ *
+ * Un proceso en ERROR puede reanudarse, por eso se revalida siempre (no-cache); uno COMPLETED
+ * se puede reutilizar sin revalidar durante {@link FileProcessingConstants#FINISHED_PROCESS_MAX_AGE_SECONDS}.
+ */
+@Slf4j
+@Provider
+@ConditionalGet
+@ApplicationScoped
+public class ConditionalGetFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private static final String PROCESS_ID_PARAM = "processId";
+    private static final String ENTITY_TAG_PROPERTY = ConditionalGetFilter.class.getName() + ".etag";
+    private static final String CACHE_CONTROL_PROPERTY = ConditionalGetFilter.class.getName() + ".cacheControl";
+
+    /** Cambiar cuando cambie el formato de las respuestas, para invalidar los ETag ya emitidos. */
+    private static final String REPRESENTATION_VERSION = "2";
+
+    @Inject
+    private BulkLoadProcessRepositoryPort processRepository;
+
+    @Inject
+    private IngestProgressRegistry progressRegistry;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+            return;
+        }
+        String processId = requestContext.getUriInfo().getPathParameters().getFirst(PROCESS_ID_PARAM);
+        if (processId == null || progressRegistry.isActive(processId)) {
+            return;
+        }
+        BulkLoadProcess process = processRepository.findByProcessId(processId).orElse(null);
+        if (process == null || !isFinished(process)) {
+            return;
+        }
+
+        boolean gzip = GzipWriterInterceptor.acceptsGzip(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        EntityTag entityTag = new EntityTag(entityTag(process, requestContext.getUriInfo().getRequestUri(), gzip));
+        String cacheControl = cacheControl(process);
+        requestContext.setProperty(ENTITY_TAG_PROPERTY, entityTag);
+        requestContext.setProperty(CACHE_CONTROL_PROPERTY, cacheControl);
+
+        Response.ResponseBuilder notModified = requestContext.getRequest().evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            log.debug("Proceso {} sin cambios para {}", processId, requestContext.getUriInfo().getPath());
+            requestContext.abortWith(notModified.tag(entityTag)
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build());
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object entityTag = requestContext.getProperty(ENTITY_TAG_PROPERTY);
+        if (entityTag == null || responseContext.getStatus() != Response.Status.OK.getStatusCode()) {
+            return;
+        }
+        MultivaluedMap<String, Object> headers = responseContext.getHeaders();
+        headers.putSingle(HttpHeaders.ETAG, entityTag);
+        headers.putSingle(HttpHeaders.CACHE_CONTROL, requestContext.getProperty(CACHE_CONTROL_PROPERTY));
+    }
+
+    private static boolean isFinished(BulkLoadProcess process) {
+        return ProcessStatus.COMPLETED.getValue().equals(process.getStatus())
+                || ProcessStatus.ERROR.getValue().equals(process.getStatus());
+    }
+
+    private static String cacheControl(BulkLoadProcess process) {
+        return ProcessStatus.COMPLETED.getValue().equals(process.getStatus())
+                ? "private, max-age=" + FileProcessingConstants.FINISHED_PROCESS_MAX_AGE_SECONDS
+                : "private, no-cache";
+    }
+
+    /**
+     * ETag de una respuesta: resumen del estado del proceso y de la URI pedida, con los
+     * parámetros de consulta ordenados para que su orden no genere ETags distintos.
+     * La variante gzip tiene otros bytes, por eso tiene su propio ETag.
+     */
+    static String entityTag(BulkLoadProcess process, URI requestUri, boolean gzip) {
+        StringBuilder source = new StringBuilder(REPRESENTATION_VERSION)
+                .append('|').append(gzip ? "gzip" : "identity")
+                .append('|').append(process.getProcessId())
+                .append('|').append(process.getStatus())
+                .append('|').append(process.getTotalRecords())
+                .append('|').append(process.getSuccessfulCount())
+                .append('|').append(process.getErrorCount())
+                .append('|').append(process.getLastCommittedLine())
+                .append('|').append(requestUri.getRawPath());
+        for (Map.Entry<String, List<String>> parameter : sortedQuery(requestUri.getRawQuery()).entrySet()) {
+            source.append('|').append(parameter.getKey()).append('=').append(parameter.getValue());
+        }
+        return HexFormat.of().formatHex(sha256(source.toString()), 0, 16);
+    }
+
+    private static Map<String, List<String>> sortedQuery(String rawQuery) {
+        Map<String, List<String>> parameters = new TreeMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator >= 0 ? pair.substring(0, separator) : pair;
+            String value = separator >= 0 ? pair.substring(separator + 1) : "";
+            parameters.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        return parameters;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
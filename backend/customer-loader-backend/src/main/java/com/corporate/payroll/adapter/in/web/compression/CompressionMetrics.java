@@ -0,0 +1,42 @@
+package com.corporate.payroll.adapter.in.web.compression;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de la compresión de respuestas, actualizados desde muchos hilos sin bloqueo
+ */
+@ApplicationScoped
+public class CompressionMetrics {
+
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder uncompressedResponses = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder cpuNanos = new LongAdder();
+
+    public void recordCompressed(long originalBytes, long compressedBytes, long compressionCpuNanos) {
+        compressedResponses.increment();
+        bytesIn.add(originalBytes);
+        bytesOut.add(compressedBytes);
+        cpuNanos.add(compressionCpuNanos);
+    }
+
+    public void recordUncompressed() {
+        uncompressedResponses.increment();
+    }
+
+    public CompressionStatistics statistics() {
+        long in = bytesIn.sum();
+        long out = bytesOut.sum();
+        return new CompressionStatistics(
+                compressedResponses.sum(),
+                uncompressedResponses.sum(),
+                in,
+                out,
+                out == 0 ? 0 : (double) in / out,
+                TimeUnit.NANOSECONDS.toMillis(cpuNanos.sum()));
+    }
+}
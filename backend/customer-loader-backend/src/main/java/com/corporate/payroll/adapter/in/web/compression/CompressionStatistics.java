@@ -0,0 +1,16 @@
+package com.corporate.payroll.adapter.in.web.compression;
+
+/**
+ * Estadísticas acumuladas de la compresión de respuestas
+ *
+ * @param compressionRatio bytes originales por byte enviado en las respuestas comprimidas
+ * @param cpuMillis        tiempo de CPU de los hilos de petición dedicado a comprimir
+ */
+public record CompressionStatistics(
+        long compressedResponses,
+        long uncompressedResponses,
+        long bytesIn,
+        long bytesOut,
+        double compressionRatio,
+        long cpuMillis) {
+}
@@ -0,0 +1,123 @@
+package com.corporate.payroll.adapter.in.web.compression;
+
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Comprime con gzip las respuestas JSON, NDJSON y CSV cuando el cliente lo acepta y el cuerpo
+ * supera {@link FileProcessingConstants#COMPRESSION_MIN_BYTES} (configurable con COMPRESSION_MIN_BYTES).
+ * Las respuestas pequeñas se envían sin comprimir: el encabezado gzip y el costo de CPU no compensan.
+ */
+@Slf4j
+@Provider
+@ApplicationScoped
+@Priority(Priorities.ENTITY_CODER)
+public class GzipWriterInterceptor implements WriterInterceptor {
+
+    private static final String GZIP = "gzip";
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "application/json", "application/x-ndjson", "text/csv");
+
+    @Context
+    private HttpHeaders requestHeaders;
+
+    @Inject
+    private CompressionMetrics metrics;
+
+    private int minBytes;
+
+    @PostConstruct
+    void init() {
+        String configured = System.getenv("COMPRESSION_MIN_BYTES");
+        minBytes = configured != null && !configured.isBlank()
+                ? Integer.parseInt(configured.trim())
+                : FileProcessingConstants.COMPRESSION_MIN_BYTES;
+        log.info("Compresión gzip de respuestas desde {} bytes", minBytes);
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        if (!isCompressible(context.getMediaType())) {
+            context.proceed();
+            return;
+        }
+
+        MultivaluedMap<String, Object> headers = context.getHeaders();
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+                || !acceptsGzip(requestHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING))) {
+            context.proceed();
+            return;
+        }
+
+        ThresholdGzipOutputStream output = new ThresholdGzipOutputStream(context.getOutputStream(), minBytes,
+                FileProcessingConstants.COMPRESSION_LEVEL, () -> {
+                    headers.putSingle(HttpHeaders.CONTENT_ENCODING, GZIP);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                }, metrics);
+        context.setOutputStream(output);
+        context.proceed();
+        output.finish();
+    }
+
+    /**
+     * Indica si el encabezado Accept-Encoding admite gzip. Una entrada gzip explícita
+     * prevalece sobre el comodín; q=0 la rechaza.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (GZIP.equals(name)) {
+                gzipQuality = quality(parts);
+            } else if ("*".equals(name)) {
+                wildcardQuality = quality(parts);
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static boolean isCompressible(MediaType mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        String type = (mediaType.getType() + "/" + mediaType.getSubtype()).toLowerCase(Locale.ROOT);
+        return COMPRESSIBLE_TYPES.contains(type);
+    }
+}
@@ -0,0 +1,140 @@
+package com.corporate.payroll.adapter.in.web.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Retiene los primeros bytes de la respuesta hasta decidir si se comprime.
+ * Si se supera el umbral se invoca onCompress (antes de escribir nada en el destino, cuando
+ * todavía se pueden cambiar los encabezados) y el resto se escribe en gzip; si la respuesta
+ * termina antes, se escribe tal cual. No cierra el stream destino.
+ */
+class ThresholdGzipOutputStream extends OutputStream {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final CountingOutputStream target;
+    private final int threshold;
+    private final int level;
+    private final Runnable onCompress;
+    private final CompressionMetrics metrics;
+
+    private ByteArrayOutputStream pending;
+    private GZIPOutputStream gzip;
+    private long bytesIn;
+    private long cpuNanos;
+    private boolean finished;
+
+    ThresholdGzipOutputStream(OutputStream target, int threshold, int level, Runnable onCompress,
+                              CompressionMetrics metrics) {
+        this.target = new CountingOutputStream(target);
+        this.threshold = threshold;
+        this.level = level;
+        this.onCompress = onCompress;
+        this.metrics = metrics;
+        this.pending = new ByteArrayOutputStream(Math.min(threshold, 8192));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        bytesIn += length;
+        if (gzip != null) {
+            compress(bytes, offset, length);
+        } else if (pending != null) {
+            pending.write(bytes, offset, length);
+            if (pending.size() > threshold) {
+                startCompression();
+            }
+        } else {
+            target.write(bytes, offset, length);
+        }
+    }
+
+    /**
+     * Mientras no se decide no se vacía nada al destino, para poder cambiar los encabezados
+     */
+    @Override
+    public void flush() throws IOException {
+        if (gzip != null) {
+            gzip.flush();
+        } else if (pending == null) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Escribe lo pendiente y registra las métricas de la respuesta
+     */
+    void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (gzip != null) {
+            long start = THREADS.getCurrentThreadCpuTime();
+            gzip.finish();
+            cpuNanos += THREADS.getCurrentThreadCpuTime() - start;
+            metrics.recordCompressed(bytesIn, target.count, cpuNanos);
+        } else {
+            if (pending != null) {
+                pending.writeTo(target);
+                pending = null;
+            }
+            metrics.recordUncompressed();
+        }
+        target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+    }
+
+    private void startCompression() throws IOException {
+        onCompress.run();
+        gzip = new GZIPOutputStream(target, 8192, true) {
+            {
+                def.setLevel(level);
+            }
+        };
+        byte[] buffered = pending.toByteArray();
+        pending = null;
+        compress(buffered, 0, buffered.length);
+    }
+
+    private void compress(byte[] bytes, int offset, int length) throws IOException {
+        long start = THREADS.getCurrentThreadCpuTime();
+        gzip.write(bytes, offset, length);
+        cpuNanos += THREADS.getCurrentThreadCpuTime() - start;
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.math.BigDecimal;
 public class AccountDetailDto {
     
     private String accountNumber;
+    private BigDecimal payrollValue;
     private BigDecimal balance;
     private String status;
 }
\ No newline at end of file
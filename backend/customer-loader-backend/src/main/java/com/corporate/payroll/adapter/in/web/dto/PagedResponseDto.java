@@ -28,4 +28,10 @@ public class PagedResponseDto<T> {
     private int number;
     
     private boolean empty;
+
+    /**
+     * Cursor de la página siguiente; null cuando no hay más resultados.
+     * Se envía en el parámetro cursor para paginar sin OFFSET.
+     */
+    private String nextCursor;
 }
@@ -2,6 +2,7 @@ package com.corporate.payroll.adapter.in.web.dto;
 
 import com.corporate.payroll.domain.model.Client;
 import com.corporate.payroll.domain.model.BulkLoadError;
+import com.corporate.payroll.domain.model.StageTiming;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,4 +25,6 @@ public class ProcessDetailsResponseDto {
     private LocalDateTime processingDate;
     private List<Client> clients;
     private List<BulkLoadError> errors;
+    private String errorsReportUrl;
+    private List<StageTiming> stageTimings;
 }
\ No newline at end of file
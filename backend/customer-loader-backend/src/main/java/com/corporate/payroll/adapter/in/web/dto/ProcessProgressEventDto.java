@@ -0,0 +1,24 @@
+package com.corporate.payroll.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de los eventos de GET /processes/{processId}/events
+ * rowsPerSecond es la velocidad de lectura desde el evento anterior
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessProgressEventDto {
+    private String processId;
+    private String status;
+    private long rowsRead;
+    private long validRows;
+    private long successfulCount;
+    private long errorCount;
+    private double rowsPerSecond;
+}
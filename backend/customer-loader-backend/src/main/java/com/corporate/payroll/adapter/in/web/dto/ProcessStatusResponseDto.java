@@ -0,0 +1,27 @@
+package com.corporate.payroll.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * DTO para la respuesta de GET /processes/{processId}/status
+ * Mientras la carga está activa los contadores provienen del progreso en memoria
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessStatusResponseDto {
+    private String processId;
+    private String status;
+    private long rowsRead;
+    private long validRows;
+    private long successfulCount;
+    private long errorCount;
+    private long errorsQueued;
+    private long errorsWritten;
+    private LocalDateTime startedAt;
+}
@@ -0,0 +1,95 @@
+package com.corporate.payroll.adapter.in.web.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias en microsegundos con buckets log-lineales, al estilo de HdrHistogram:
+ * cada potencia de dos se divide en 64 sub-buckets, con un error relativo máximo de 1/64 (~1,6%).
+ * El registro es un incremento atómico sin bloqueos; las lecturas trabajan sobre una copia y no
+ * detienen a los hilos que registran.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    private static final int MAX_EXPONENT = 40;
+    static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_VALUE));
+        counts.incrementAndGet(index(value));
+        totalCount.increment();
+        totalMicros.add(value);
+        long currentMax = maxMicros.get();
+        while (value > currentMax && !maxMicros.compareAndSet(currentMax, value)) {
+            currentMax = maxMicros.get();
+        }
+    }
+
+    /**
+     * Copia del estado con los percentiles pedidos, en microsegundos
+     */
+    public Snapshot snapshot(double... quantiles) {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        long max = maxMicros.get();
+        long[] values = new long[quantiles.length];
+        for (int q = 0; q < quantiles.length; q++) {
+            values[q] = Math.min(valueAt(copy, total, quantiles[q]), max);
+        }
+        return new Snapshot(totalCount.sum(), totalMicros.sum(), max, values);
+    }
+
+    private static long valueAt(long[] copy, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < copy.length; i++) {
+            seen += copy[i];
+            if (seen >= rank) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return highestEquivalentValue(copy.length - 1);
+    }
+
+    static int index(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        long mantissa = value >>> shift;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + (int) (mantissa - SUB_BUCKET_COUNT);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int shift = offset / SUB_BUCKET_COUNT + 1;
+        long mantissa = offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * @param quantileValues valores de los percentiles, en el orden en que se pidieron
+     */
+    public record Snapshot(long count, long sumMicros, long maxMicros, long[] quantileValues) {
+    }
+}
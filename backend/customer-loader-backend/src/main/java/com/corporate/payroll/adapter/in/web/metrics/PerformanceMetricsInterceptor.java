@@ -1,48 +1,59 @@
 package com.corporate.payroll.adapter.in.web.metrics;
 
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registra la latencia de cada invocación en el histograma del método. No escribe una línea de log
+ * por llamada: solo las llamadas lentas y las fallidas se registran en el log.
+ */
 @Interceptor
 @PerformanceMetrics
+@Priority(Interceptor.Priority.APPLICATION)
 @Slf4j
 public class PerformanceMetricsInterceptor {
 
+    private static final long SLOW_METHOD_MILLIS = 5000;
+    private static final String METHOD_KEY = "method";
+
+    @Inject
+    private PerformanceMetricsRegistry registry;
+
     @AroundInvoke
     public Object measurePerformance(InvocationContext context) throws Exception {
-        String methodName = context.getMethod().getDeclaringClass().getSimpleName() + "." + context.getMethod().getName();
-        long startTime = System.currentTimeMillis();
-        
-        MDC.put("method", methodName);
-        MDC.put("startTime", String.valueOf(startTime));
-        
+        PerformanceMetricsRegistry.MethodMetrics metrics = registry.forMethod(context.getMethod());
+        String previousMethod = MDC.get(METHOD_KEY);
+        MDC.put(METHOD_KEY, metrics.getName());
+        long startTime = System.nanoTime();
+        boolean failed = true;
+
         try {
             Object result = context.proceed();
-            long duration = System.currentTimeMillis() - startTime;
-            
-            MDC.put("duration", String.valueOf(duration));
-            MDC.put("status", "SUCCESS");
-            
-            if (duration > 5000) {
-                log.warn("Método lento detectado: {} tomó {}ms", methodName, duration);
-            } else {
-                log.info("Método ejecutado: {} en {}ms", methodName, duration);
-            }
-            
+            failed = false;
             return result;
         } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            MDC.put("duration", String.valueOf(duration));
-            MDC.put("status", "ERROR");
-            MDC.put("error", e.getClass().getSimpleName());
-            
-            log.error("Error en método: {} después de {}ms", methodName, duration, e);
+            log.error("Error en método: {} después de {}ms", metrics.getName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), e);
             throw e;
         } finally {
-            MDC.clear();
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime);
+            metrics.record(micros, failed);
+            if (!failed && micros > TimeUnit.MILLISECONDS.toMicros(SLOW_METHOD_MILLIS)) {
+                log.warn("Método lento detectado: {} tomó {}ms", metrics.getName(), micros / 1000);
+            }
+            if (previousMethod != null) {
+                MDC.put(METHOD_KEY, previousMethod);
+            } else {
+                MDC.remove(METHOD_KEY);
+            }
         }
     }
-}
\ No newline at end of file
+}
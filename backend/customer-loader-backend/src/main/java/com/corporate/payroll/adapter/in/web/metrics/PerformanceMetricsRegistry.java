@@ -0,0 +1,64 @@
+package com.corporate.payroll.adapter.in.web.metrics;
+
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y errores por método de los beans marcados con {@link PerformanceMetrics}
+ */
+@ApplicationScoped
+public class PerformanceMetricsRegistry {
+
+    private final ConcurrentMap<Method, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    public MethodMetrics forMethod(Method method) {
+        MethodMetrics existing = metrics.get(method);
+        return existing != null ? existing : metrics.computeIfAbsent(method,
+                key -> new MethodMetrics(key.getDeclaringClass().getSimpleName() + "." + key.getName()));
+    }
+
+    /**
+     * Métricas registradas, ordenadas por nombre
+     */
+    public List<MethodMetrics> all() {
+        return metrics.values().stream()
+                .sorted(Comparator.comparing(MethodMetrics::getName))
+                .toList();
+    }
+
+    public static final class MethodMetrics {
+        private final String name;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        MethodMetrics(String name) {
+            this.name = name;
+        }
+
+        public void record(long micros, boolean failed) {
+            latency.record(micros);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+    }
+}
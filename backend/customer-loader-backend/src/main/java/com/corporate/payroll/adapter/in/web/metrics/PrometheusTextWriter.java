@@ -0,0 +1,120 @@
+package com.corporate.payroll.adapter.in.web.metrics;
+
+import com.corporate.payroll.adapter.in.web.compression.CompressionStatistics;
+import com.corporate.payroll.adapter.out.persistence.cache.CacheStatistics;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Formato de exposición de texto de Prometheus (versión 0.0.4)
+ */
+public class PrometheusTextWriter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+    private static final String PREFIX = "customer_loader_";
+
+    private final StringBuilder out = new StringBuilder(4096);
+
+    public PrometheusTextWriter methods(List<PerformanceMetricsRegistry.MethodMetrics> methods) {
+        List<String> labels = methods.stream()
+                .map(method -> "method=\"" + escape(method.getName()) + "\"")
+                .toList();
+        List<LatencyHistogram.Snapshot> snapshots = methods.stream()
+                .map(method -> method.getLatency().snapshot(QUANTILES))
+                .toList();
+
+        String duration = PREFIX + "method_duration_seconds";
+        header(duration, "summary", "Latencia de los métodos marcados con @PerformanceMetrics");
+        for (int m = 0; m < methods.size(); m++) {
+            LatencyHistogram.Snapshot snapshot = snapshots.get(m);
+            for (int i = 0; i < QUANTILES.length; i++) {
+                sample(duration, labels.get(m) + ",quantile=\"" + QUANTILES[i] + "\"",
+                        seconds(snapshot.quantileValues()[i]));
+            }
+            sample(duration + "_sum", labels.get(m), seconds(snapshot.sumMicros()));
+            sample(duration + "_count", labels.get(m), snapshot.count());
+        }
+
+        String max = PREFIX + "method_duration_max_seconds";
+        header(max, "gauge", "Latencia máxima observada desde el inicio");
+        for (int m = 0; m < methods.size(); m++) {
+            sample(max, labels.get(m), seconds(snapshots.get(m).maxMicros()));
+        }
+
+        String errors = PREFIX + "method_errors_total";
+        header(errors, "counter", "Invocaciones terminadas con excepción");
+        for (int m = 0; m < methods.size(); m++) {
+            sample(errors, labels.get(m), methods.get(m).getErrors());
+        }
+        return this;
+    }
+
+    public PrometheusTextWriter compression(CompressionStatistics statistics) {
+        String responses = PREFIX + "response_compression_responses_total";
+        header(responses, "counter", "Respuestas comprimibles según se enviaron con o sin gzip");
+        sample(responses, "result=\"compressed\"", statistics.compressedResponses());
+        sample(responses, "result=\"uncompressed\"", statistics.uncompressedResponses());
+
+        String bytes = PREFIX + "response_compression_bytes_total";
+        header(bytes, "counter", "Bytes de las respuestas comprimidas antes y después de gzip");
+        sample(bytes, "stage=\"in\"", statistics.bytesIn());
+        sample(bytes, "stage=\"out\"", statistics.bytesOut());
+
+        String cpu = PREFIX + "response_compression_cpu_seconds_total";
+        header(cpu, "counter", "Tiempo de CPU dedicado a comprimir respuestas");
+        sample(cpu, null, statistics.cpuMillis() / 1000.0);
+        return this;
+    }
+
+    public PrometheusTextWriter caches(List<CacheStatistics> caches) {
+        String requests = PREFIX + "lookup_cache_requests_total";
+        header(requests, "counter", "Consultas a los caches según fueron aciertos o fallos");
+        for (CacheStatistics cache : caches) {
+            String label = "cache=\"" + escape(cache.name()) + "\"";
+            sample(requests, label + ",result=\"hit\"", cache.hits());
+            sample(requests, label + ",result=\"miss\"", cache.misses());
+        }
+
+        String size = PREFIX + "lookup_cache_entries";
+        header(size, "gauge", "Entradas actuales de cada cache");
+        for (CacheStatistics cache : caches) {
+            sample(size, "cache=\"" + escape(cache.name()) + "\"", cache.size());
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+
+    private void header(String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private void sample(String name, String labels, double value) {
+        out.append(name);
+        if (labels != null) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(format(value)).append('\n');
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+                ? Long.toString((long) value)
+                : String.format(Locale.ROOT, "%.6f", value);
+    }
+
+    private static double seconds(long micros) {
+        return micros / 1_000_000.0;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -1,5 +1,6 @@
 package com.corporate.payroll.adapter.in.web.rest;
 
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
 import com.corporate.payroll.application.service.AccountService;
 import com.corporate.payroll.domain.model.Account;
 import com.corporate.payroll.domain.model.PayrollPayment;
@@ -12,6 +13,7 @@ import jakarta.ws.rs.core.Response;
 import java.util.Optional;
 
 @ApplicationScoped
+@PerformanceMetrics
 @Path("/accounts")
 public class AccountResource {
 
@@ -1,10 +1,12 @@
 package com.corporate.payroll.adapter.in.web.rest;
 
-import com.corporate.payroll.adapter.in.web.metrics.PerformanceMetrics;
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
 import com.corporate.payroll.adapter.in.web.security.SecurityValidation;
 import com.corporate.payroll.application.port.in.web.rest.api.BulkLoadApiInputPort;
 import com.corporate.payroll.adapter.in.web.security.SecurityValidationInterceptor;
 import com.corporate.payroll.application.port.in.BulkLoadClientUseCase;
+import com.corporate.payroll.application.port.in.BulkLoadJobUseCase;
+import com.corporate.payroll.application.port.in.IngestMode;
 import com.corporate.payroll.adapter.in.web.dto.BulkLoadStatisticsResponseDto;
 import com.corporate.payroll.adapter.in.web.dto.BulkLoadResponseDto;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -13,6 +15,7 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.io.InputStream;
+import java.net.URI;
 
 
 @ApplicationScoped
@@ -24,25 +27,52 @@ public class BulkLoadClientResource implements BulkLoadApiInputPort {
     @Inject
     private BulkLoadClientUseCase bulkLoadUseCase;
 
+    @Inject
+    private BulkLoadJobUseCase bulkLoadJobUseCase;
+
+    @Override
+    public Response uploadClients(InputStream inputStream, String fileName) {
+        return uploadClients(inputStream, fileName, null, false);
+    }
+
     /**
      * POST /bulk-load/clients
-     * Procesa un archivo de carga masiva de clientes en línea
+     * Procesa un archivo de carga masiva de clientes en línea, o en segundo plano si async=true.
+     * En modo asíncrono responde 202 con el processId y la URL de consulta de estado.
      *
      * @param inputStream stream del archivo
      * @param fileName    nombre del archivo
+     * @param mode        modo de lectura: STREAMING (por defecto) o PARALLEL
+     * @param async       encola la carga en lugar de procesarla en la petición
      * @return Respuesta con processId, status y estadísticas
      */
     @POST
     @Consumes({MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM})
     @Produces(MediaType.APPLICATION_JSON)
-    @Override
     public Response uploadClients(
             InputStream inputStream,
-            @QueryParam("fileName") String fileName) {
+            @QueryParam("fileName") String fileName,
+            @QueryParam("mode") String mode,
+            @QueryParam("async") @DefaultValue("false") boolean async) {
 
         fileName = SecurityValidationInterceptor.sanitizeFileName(fileName);
+        IngestMode ingestMode = IngestMode.fromValue(mode);
+
+        if (async) {
+            String processId = bulkLoadJobUseCase.submitBulkLoad(inputStream, fileName, ingestMode);
+
+            BulkLoadResponseDto accepted = BulkLoadResponseDto.builder()
+                    .processId(processId)
+                    .status("PENDING")
+                    .message("Carga recibida, procesando en segundo plano")
+                    .build();
+
+            return Response.accepted(accepted)
+                    .location(URI.create("processes/" + processId + "/status"))
+                    .build();
+        }
         
-        BulkLoadStatisticsResponseDto stats = bulkLoadUseCase.processBulkLoad(inputStream, fileName);
+        BulkLoadStatisticsResponseDto stats = bulkLoadUseCase.processBulkLoad(inputStream, fileName, ingestMode);
         
         BulkLoadResponseDto response = BulkLoadResponseDto.builder()
                 .processId(stats.getProcessId())
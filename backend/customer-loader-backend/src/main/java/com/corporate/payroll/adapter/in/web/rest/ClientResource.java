@@ -1,8 +1,18 @@
 package com.corporate.payroll.adapter.in.web.rest;
 
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.adapter.in.web.cache.ConditionalGet;
+import com.corporate.payroll.adapter.in.web.dto.AccountDetailDto;
+import com.corporate.payroll.adapter.in.web.dto.ClientDetailDto;
+import com.corporate.payroll.adapter.in.web.dto.FirstPaymentDto;
 import com.corporate.payroll.adapter.in.web.service.PaginationService;
+import com.corporate.payroll.application.port.in.ClientDetailQueryUseCase;
+import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
 import com.corporate.payroll.application.port.out.ClientRepositoryPort;
+import com.corporate.payroll.application.port.out.EntityCounterPort;
+import com.corporate.payroll.application.service.dto.ClientDetail;
 import com.corporate.payroll.adapter.in.web.dto.PagedResponseDto;
+import com.corporate.payroll.domain.model.BulkLoadProcess;
 import com.corporate.payroll.domain.model.Client;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,15 +29,25 @@ import java.util.Optional;
 
 @Tag(name = "Clientes", description = "Operaciones relacionadas con clientes")
 @ApplicationScoped
+@PerformanceMetrics
 @Path("/clients")
 public class ClientResource {
 
     @Inject
     private ClientRepositoryPort clientRepository;
     
+    @Inject
+    private BulkLoadProcessRepositoryPort processRepository;
+
+    @Inject
+    private EntityCounterPort entityCounters;
+
     @Inject
     private PaginationService paginationService;
 
+    @Inject
+    private ClientDetailQueryUseCase clientDetailQuery;
+
     @Operation(
         summary = "Listar todos los clientes",
         description = "Obtiene todos los clientes registrados con paginación"
@@ -41,30 +61,41 @@ public class ClientResource {
     @Produces(MediaType.APPLICATION_JSON)
     public Response getAllClients(
             @Parameter(description = "Número de página (0-indexed)") @QueryParam("page") @DefaultValue("0") int page,
-            @Parameter(description = "Tamaño de página") @QueryParam("size") @DefaultValue("20") int size) {
+            @Parameter(description = "Tamaño de página") @QueryParam("size") @DefaultValue("20") int size,
+            @Parameter(description = "Cursor de la página siguiente (nextCursor); si se envía, page se ignora")
+            @QueryParam("cursor") String cursor) {
         
-        List<Client> clients = clientRepository.findAll(page, size);
-        long totalElements = clientRepository.countAll();
+        List<Client> clients = cursor != null && !cursor.isBlank()
+                ? clientRepository.findAllAfter(decodeIdCursor(cursor), size)
+                : clientRepository.findAll(page, size);
+        long totalElements = entityCounters.get(EntityCounterPort.Counter.CLIENTS);
         
         PagedResponseDto<Client> response = paginationService.createPagedResponse(
-                clients, totalElements, page, size);
+                clients, totalElements, page, size, client -> List.of(client.getId()));
         
         return Response.ok(response).build();
     }
 
     @GET
+    @ConditionalGet
     @Path("/{processId}")
     @Produces(MediaType.APPLICATION_JSON)
     public Response getClientsByProcess(
             @PathParam("processId") String processId,
             @QueryParam("page") @DefaultValue("0") int page,
-            @QueryParam("size") @DefaultValue("20") int size) {
+            @QueryParam("size") @DefaultValue("20") int size,
+            @QueryParam("cursor") String cursor) {
         
-        List<Client> clients = clientRepository.findByProcessId(processId, page, size);
-        long totalElements = clientRepository.countByProcessId(processId);
+        List<Client> clients = cursor != null && !cursor.isBlank()
+                ? clientRepository.findByProcessIdAfter(processId, decodeIdCursor(cursor), size)
+                : clientRepository.findByProcessId(processId, page, size);
+        long totalElements = processRepository.findByProcessId(processId)
+                .map(BulkLoadProcess::getSuccessfulCount)
+                .map(Integer::longValue)
+                .orElse(0L);
         
         PagedResponseDto<Client> response = paginationService.createPagedResponse(
-                clients, totalElements, page, size);
+                clients, totalElements, page, size, client -> List.of(client.getId()));
         
         return Response.ok(response).build();
     }
@@ -84,4 +115,53 @@ public class ClientResource {
         
         return Response.ok(clientOpt.get()).build();
     }
+
+    @Operation(
+        summary = "Detalle de cliente",
+        description = "Obtiene el cliente con su cuenta y su primer pago en una sola consulta"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Detalle del cliente",
+        content = @Content(mediaType = "application/json")
+    )
+    @GET
+    @Path("/code/{clientCode}/detail")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getClientDetail(@PathParam("clientCode") String clientCode) {
+        return Response.ok(toDto(clientDetailQuery.getClientDetail(clientCode))).build();
+    }
+
+    /**
+     * El saldo de la cuenta no se registra en el sistema, por eso balance queda en null
+     */
+    private static ClientDetailDto toDto(ClientDetail detail) {
+        ClientDetail.AccountDetail account = detail.getAccount();
+        ClientDetail.FirstPayment payment = detail.getFirstPayment();
+        return ClientDetailDto.builder()
+                .clientCode(detail.getClientCode())
+                .idType(detail.getIdType())
+                .idNumber(detail.getIdNumber())
+                .firstName(detail.getFirstName())
+                .lastName(detail.getLastName())
+                .email(detail.getEmail())
+                .phoneNumber(detail.getPhoneNumber())
+                .joinDate(detail.getJoinDate())
+                .birthDate(detail.getBirthDate())
+                .account(account == null ? null : AccountDetailDto.builder()
+                        .accountNumber(account.getAccountNumber())
+                        .payrollValue(account.getPayrollValue())
+                        .status(account.getStatus())
+                        .build())
+                .firstPayment(payment == null ? null : FirstPaymentDto.builder()
+                        .amount(payment.getAmount())
+                        .paymentDate(payment.getPaymentDate())
+                        .status(payment.getStatus())
+                        .build())
+                .build();
+    }
+
+    private long decodeIdCursor(String cursor) {
+        return paginationService.decodeCursor(cursor, 1, keys -> Long.parseLong(keys[0]));
+    }
 }
\ No newline at end of file
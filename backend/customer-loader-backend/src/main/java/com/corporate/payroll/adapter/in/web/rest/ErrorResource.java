@@ -1,9 +1,13 @@
 package com.corporate.payroll.adapter.in.web.rest;
 
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.adapter.in.web.cache.ConditionalGet;
 import com.corporate.payroll.adapter.in.web.service.PaginationService;
 import com.corporate.payroll.application.port.out.BulkLoadErrorRepositoryPort;
+import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
 import com.corporate.payroll.adapter.in.web.dto.PagedResponseDto;
 import com.corporate.payroll.domain.model.BulkLoadError;
+import com.corporate.payroll.domain.model.BulkLoadProcess;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
@@ -12,29 +16,48 @@ import jakarta.ws.rs.core.Response;
 import java.util.List;
 
 @ApplicationScoped
+@PerformanceMetrics
 @Path("/errors")
 public class ErrorResource {
 
     @Inject
     private BulkLoadErrorRepositoryPort errorRepository;
     
+    @Inject
+    private BulkLoadProcessRepositoryPort processRepository;
+
     @Inject
     private PaginationService paginationService;
 
     @GET
+    @ConditionalGet
     @Path("/{processId}")
     @Produces(MediaType.APPLICATION_JSON)
     public Response getProcessErrors(
             @PathParam("processId") String processId,
             @QueryParam("page") @DefaultValue("0") int page,
-            @QueryParam("size") @DefaultValue("5") int size) {
+            @QueryParam("size") @DefaultValue("5") int size,
+            @QueryParam("cursor") String cursor) {
         
-        List<BulkLoadError> errors = errorRepository.findByProcessId(processId, page, size);
-        long totalErrors = errorRepository.countByProcessId(processId);
+        List<BulkLoadError> errors;
+        if (cursor != null && !cursor.isBlank()) {
+            ErrorCursor after = paginationService.decodeCursor(cursor, 2,
+                    keys -> new ErrorCursor(Integer.parseInt(keys[0]), Long.parseLong(keys[1])));
+            errors = errorRepository.findByProcessIdAfter(processId, after.lineNumber(), after.id(), size);
+        } else {
+            errors = errorRepository.findByProcessId(processId, page, size);
+        }
+        long totalErrors = processRepository.findByProcessId(processId)
+                .map(BulkLoadProcess::getErrorCount)
+                .map(Integer::longValue)
+                .orElse(0L);
         
         PagedResponseDto<BulkLoadError> response = paginationService.createPagedResponse(
-                errors, totalErrors, page, size);
+                errors, totalErrors, page, size, error -> List.of(error.getLineNumber(), error.getId()));
         
         return Response.ok(response).build();
     }
+
+    private record ErrorCursor(int lineNumber, long id) {
+    }
 }
@@ -1,5 +1,8 @@
 package com.corporate.payroll.adapter.in.web.rest;
 
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.adapter.in.web.compression.CompressionMetrics;
+import com.corporate.payroll.adapter.out.persistence.cache.LookupCacheRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
@@ -16,6 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 @ApplicationScoped
+@PerformanceMetrics
 @Path("/health")
 @Slf4j
 public class HealthCheckResource {
@@ -23,6 +27,12 @@ public class HealthCheckResource {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Inject
+    private LookupCacheRegistry cacheRegistry;
+
+    @Inject
+    private CompressionMetrics compressionMetrics;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public Response healthCheck() {
@@ -49,6 +59,28 @@ public class HealthCheckResource {
         return Response.status(status).entity(health).build();
     }
 
+    /**
+     * GET /health/caches
+     * Estadísticas de aciertos, fallos y descartes de los caches de consultas
+     */
+    @GET
+    @Path("/caches")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response cacheStatistics() {
+        return Response.ok(cacheRegistry.statistics()).build();
+    }
+
+    /**
+     * GET /health/compression
+     * Respuestas comprimidas y sin comprimir, bytes antes y después de gzip y CPU usada
+     */
+    @GET
+    @Path("/compression")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response compressionStatistics() {
+        return Response.ok(compressionMetrics.statistics()).build();
+    }
+
     @GET
     @Path("/ready")
     @Produces(MediaType.APPLICATION_JSON)
@@ -0,0 +1,42 @@
+package com.corporate.payroll.adapter.in.web.rest;
+
+import com.corporate.payroll.adapter.in.web.compression.CompressionMetrics;
+import com.corporate.payroll.adapter.in.web.metrics.PerformanceMetricsRegistry;
+import com.corporate.payroll.adapter.in.web.metrics.PrometheusTextWriter;
+import com.corporate.payroll.adapter.out.persistence.cache.LookupCacheRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+
+@ApplicationScoped
+@Path("/metrics")
+public class MetricsResource {
+
+    @Inject
+    private PerformanceMetricsRegistry performanceMetrics;
+
+    @Inject
+    private CompressionMetrics compressionMetrics;
+
+    @Inject
+    private LookupCacheRegistry cacheRegistry;
+
+    /**
+     * GET /metrics
+     * Latencias por método (p50/p95/p99, máximo, conteo y errores), compresión y caches en
+     * formato de texto de Prometheus. La tasa de llamadas se obtiene con rate() sobre _count.
+     */
+    @GET
+    @Produces(PrometheusTextWriter.CONTENT_TYPE)
+    public Response metrics() {
+        String body = new PrometheusTextWriter()
+                .methods(performanceMetrics.all())
+                .compression(compressionMetrics.statistics())
+                .caches(cacheRegistry.statistics())
+                .toString();
+        return Response.ok(body, PrometheusTextWriter.CONTENT_TYPE).build();
+    }
+}
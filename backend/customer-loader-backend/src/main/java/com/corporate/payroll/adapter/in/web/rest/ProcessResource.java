@@ -1,26 +1,65 @@
 package com.corporate.payroll.adapter.in.web.rest;
 
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.adapter.in.web.cache.ConditionalGet;
+import com.corporate.payroll.adapter.in.web.service.ClientExportWriter;
+import com.corporate.payroll.adapter.in.web.service.ErrorReportWriter;
+import com.corporate.payroll.adapter.in.web.service.ExportFormat;
+import com.corporate.payroll.adapter.in.web.service.RowExportWriter;
+import com.corporate.payroll.adapter.in.web.sse.ProgressEventPublisher;
 import com.corporate.payroll.adapter.in.web.service.PaginationService;
 import com.corporate.payroll.adapter.in.web.dto.ProcessDetailsResponseDto;
 import com.corporate.payroll.adapter.in.web.dto.PagedResponseDto;
+import com.corporate.payroll.adapter.in.web.dto.ProcessStatusResponseDto;
+import com.corporate.payroll.adapter.in.web.dto.BulkLoadResponseDto;
+import com.corporate.payroll.application.port.in.BulkLoadJobUseCase;
+import com.corporate.payroll.application.port.in.IngestMode;
 import com.corporate.payroll.application.port.out.BulkLoadErrorRepositoryPort;
 import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
 import com.corporate.payroll.application.port.out.ClientRepositoryPort;
+import com.corporate.payroll.application.port.out.EntityCounterPort;
+import com.corporate.payroll.application.port.out.StageTimingRepositoryPort;
+import com.corporate.payroll.application.service.ingest.IngestProgress;
+import com.corporate.payroll.application.service.ingest.IngestProgressRegistry;
+import com.corporate.payroll.application.util.FileProcessingConstants;
 import com.corporate.payroll.domain.model.BulkLoadProcess;
 import com.corporate.payroll.domain.model.BulkLoadError;
 import com.corporate.payroll.domain.model.Client;
+import com.corporate.payroll.domain.model.StageTiming;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import lombok.extern.slf4j.Slf4j;
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
 
+@Slf4j
 @ApplicationScoped
+@PerformanceMetrics
 @Path("/processes")
 public class ProcessResource {
 
+    private static final int EXPORT_BUFFER_CHARS = 64 * 1024;
+
     @Inject
     private BulkLoadProcessRepositoryPort processRepository;
 
@@ -33,22 +72,143 @@ public class ProcessResource {
     @Inject
     private PaginationService paginationService;
 
+    @Inject
+    private IngestProgressRegistry progressRegistry;
+
+    @Inject
+    private BulkLoadJobUseCase bulkLoadJobUseCase;
+
+    @Inject
+    private EntityCounterPort entityCounters;
+
+    @Inject
+    private StageTimingRepositoryPort stageTimingRepository;
+
+    @Inject
+    private ProgressEventPublisher progressEventPublisher;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public Response getAllProcesses(
             @QueryParam("page") @DefaultValue("0") int page,
-            @QueryParam("size") @DefaultValue("20") int size) {
+            @QueryParam("size") @DefaultValue("20") int size,
+            @QueryParam("cursor") String cursor) {
         
-        List<BulkLoadProcess> processes = processRepository.findAll(page, size);
-        long totalElements = processRepository.countAll();
+        List<BulkLoadProcess> processes;
+        if (cursor != null && !cursor.isBlank()) {
+            ProcessCursor after = paginationService.decodeCursor(cursor, 2,
+                    keys -> new ProcessCursor(LocalDateTime.parse(keys[0]), Long.parseLong(keys[1])));
+            processes = processRepository.findAllAfter(after.processingDate(), after.id(), size);
+        } else {
+            processes = processRepository.findAll(page, size);
+        }
+        long totalElements = entityCounters.get(EntityCounterPort.Counter.PROCESSES);
         
         PagedResponseDto<BulkLoadProcess> response = paginationService.createPagedResponse(
-                processes, totalElements, page, size);
+                processes, totalElements, page, size,
+                process -> List.of(process.getProcessingDate(), process.getId()));
         
         return Response.ok(response).build();
     }
 
+    /**
+     * GET /processes/{processId}/status
+     * Estado de una carga. Si la carga sigue activa en este nodo se responde con los
+     * contadores en memoria sin consultar la base de datos.
+     */
+    @GET
+    @ConditionalGet
+    @Path("/{processId}/status")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getProcessStatus(@PathParam("processId") String processId) {
+        Optional<IngestProgress> progress = progressRegistry.find(processId);
+        if (progress.isPresent()) {
+            IngestProgress live = progress.get();
+            return Response.ok(ProcessStatusResponseDto.builder()
+                    .processId(processId)
+                    .status(live.getStatus())
+                    .rowsRead(live.getRowsRead().get())
+                    .validRows(live.getValidRows().get())
+                    .successfulCount(live.getPersistedCount().get())
+                    .errorCount(live.getErrorCount().get())
+                    .errorsQueued(live.getErrorsQueued().get())
+                    .errorsWritten(live.getErrorsWritten().get())
+                    .startedAt(live.getStartedAt())
+                    .build()).build();
+        }
+
+        Optional<BulkLoadProcess> process = processRepository.findByProcessId(processId);
+
+        if (process.isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity("{\"message\":\"Proceso no encontrado\"}")
+                    .build();
+        }
+
+        BulkLoadProcess processData = process.get();
+        return Response.ok(ProcessStatusResponseDto.builder()
+                .processId(processId)
+                .status(processData.getStatus())
+                .rowsRead(valueOf(processData.getTotalRecords()))
+                .validRows(valueOf(processData.getSuccessfulCount()))
+                .successfulCount(valueOf(processData.getSuccessfulCount()))
+                .errorCount(valueOf(processData.getErrorCount()))
+                .errorsQueued(valueOf(processData.getErrorCount()))
+                .errorsWritten(valueOf(processData.getErrorCount()))
+                .startedAt(processData.getProcessingDate())
+                .build()).build();
+    }
+
+    /**
+     * GET /processes/{processId}/events
+     * Progreso de una carga activa como Server-Sent Events: un evento "progress" por segundo con
+     * filas leídas, válidas, persistidas, con error y filas por segundo, tomados de los contadores
+     * en memoria, y un evento "complete" al terminar. Si la carga no corre en este nodo se envía
+     * un solo evento con el estado guardado.
+     */
+    @GET
+    @Path("/{processId}/events")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void streamProcessEvents(@PathParam("processId") String processId,
+                                    @Context SseEventSink sink, @Context Sse sse) {
+        progressEventPublisher.subscribe(processId, sink, sse);
+    }
+
+    /**
+     * POST /processes/{processId}/resume
+     * Reanuda una carga interrumpida desde su última línea confirmada.
+     * Si el archivo original ya no está en el servidor debe enviarse nuevamente en el cuerpo.
+     */
+    @POST
+    @Path("/{processId}/resume")
+    @Consumes({MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM})
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response resumeProcess(
+            InputStream inputStream,
+            @PathParam("processId") String processId,
+            @QueryParam("mode") String mode) {
+
+        bulkLoadJobUseCase.resumeBulkLoad(processId, inputStream, IngestMode.fromValue(mode));
+
+        BulkLoadResponseDto accepted = BulkLoadResponseDto.builder()
+                .processId(processId)
+                .status("PENDING")
+                .message("Reanudación en cola")
+                .build();
+
+        return Response.accepted(accepted)
+                .location(URI.create("processes/" + processId + "/status"))
+                .build();
+    }
+
+    /**
+     * GET /processes/{processId}/details
+     * Detalle de un proceso. Incluye solo los primeros errores; el listado completo
+     * se descarga desde errorsReportUrl. stageTimings indica en qué etapas se fue el tiempo
+     * de la carga, incluida la ejecución en curso si corre en este nodo.
+     */
     @GET
+    @ConditionalGet
     @Path("/{processId}/details")
     @Produces(MediaType.APPLICATION_JSON)
     public Response getProcessDetails(
@@ -66,9 +226,13 @@ public class ProcessResource {
         BulkLoadProcess processData = process.get();
         List<Client> clients = clientRepository.findByProcessId(processId, 0, 100);
         List<BulkLoadError> errors = null;
+        String errorsReportUrl = null;
         
-        if (includeErrors && processData.getErrorCount() != null && processData.getErrorCount() > 0) {
-            errors = errorRepository.findByProcessId(processId);
+        if (processData.getErrorCount() != null && processData.getErrorCount() > 0) {
+            errorsReportUrl = "processes/" + processId + "/errors/report";
+            if (includeErrors) {
+                errors = errorRepository.findByProcessId(processId, 0, FileProcessingConstants.ERROR_PREVIEW_SIZE);
+            }
         }
         
         ProcessDetailsResponseDto response = ProcessDetailsResponseDto.builder()
@@ -81,12 +245,15 @@ public class ProcessResource {
                 .processingDate(processData.getProcessingDate())
                 .clients(clients)
                 .errors(errors)
+                .errorsReportUrl(errorsReportUrl)
+                .stageTimings(stageTimings(processId))
                 .build();
 
         return Response.ok(response).build();
     }
 
     @GET
+    @ConditionalGet
     @Path("/{processId}/errors")
     @Produces(MediaType.APPLICATION_JSON)
     public Response getProcessErrors(
@@ -95,7 +262,9 @@ public class ProcessResource {
             @QueryParam("size") @DefaultValue("5") int size) {
 
         List<BulkLoadError> errors = errorRepository.findByProcessId(processId, page, size);
-        long totalErrors = errorRepository.countByProcessId(processId);
+        long totalErrors = processRepository.findByProcessId(processId)
+                .map(process -> valueOf(process.getErrorCount()))
+                .orElse(0L);
         
         PagedResponseDto<BulkLoadError> response = paginationService.createPagedResponse(
                 errors, totalErrors, page, size);
@@ -104,6 +273,7 @@ public class ProcessResource {
     }
 
     @GET
+    @ConditionalGet
     @Path("/{processId}/clients")
     @Produces(MediaType.APPLICATION_JSON)
     public Response getProcessClients(
@@ -120,11 +290,102 @@ public class ProcessResource {
         }
 
         List<Client> clients = clientRepository.findByProcessId(processId, page, size);
-        long totalClients = clientRepository.countByProcessId(processId);
+        long totalClients = valueOf(process.get().getSuccessfulCount());
         
         PagedResponseDto<Client> response = paginationService.createPagedResponse(
                 clients, totalClients, page, size);
 
         return Response.ok(response).build();
     }
-}
\ No newline at end of file
+
+    /**
+     * GET /processes/{processId}/clients/export?format=csv|ndjson
+     * Exporta todos los clientes del proceso. Las filas se leen con un cursor de solo avance
+     * y se escriben directamente en la respuesta, sin acumularlas en memoria.
+     */
+    @GET
+    @ConditionalGet
+    @Path("/{processId}/clients/export")
+    @Produces({"text/csv", "application/x-ndjson"})
+    public Response exportProcessClients(
+            @PathParam("processId") String processId,
+            @QueryParam("format") String format) {
+
+        return export(processId, ExportFormat.fromValue(format), "clients", ClientExportWriter::new,
+                writer -> clientRepository.forEachByProcessId(processId, writer::write));
+    }
+
+    /**
+     * GET /processes/{processId}/errors/report?format=csv|ndjson
+     * Reporte completo de errores del proceso, en orden de línea, escrito a medida que se lee.
+     */
+    @GET
+    @ConditionalGet
+    @Path("/{processId}/errors/report")
+    @Produces({"text/csv", "application/x-ndjson"})
+    public Response exportProcessErrors(
+            @PathParam("processId") String processId,
+            @QueryParam("format") String format) {
+
+        return export(processId, ExportFormat.fromValue(format), "errors", ErrorReportWriter::new,
+                writer -> errorRepository.forEachByProcessId(processId, writer::write));
+    }
+
+    private <T> Response export(String processId, ExportFormat format, String name,
+                                BiFunction<Writer, ExportFormat, RowExportWriter<T>> writerFactory,
+                                ToLongFunction<RowExportWriter<T>> rows) {
+        if (processRepository.findByProcessId(processId).isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity("{\"message\":\"Proceso no encontrado\"}")
+                    .build();
+        }
+
+        StreamingOutput body = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), EXPORT_BUFFER_CHARS);
+            RowExportWriter<T> exportWriter = writerFactory.apply(writer, format);
+            exportWriter.writeHeader();
+            try {
+                long exported = rows.applyAsLong(exportWriter);
+                log.info("Exportadas {} filas de {} del proceso {}", exported, name, processId);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+
+        return Response.ok(body, format.getMediaType() + ";charset=UTF-8")
+                .header("Content-Disposition",
+                        "attachment; filename=\"" + name + "-" + processId + "." + format.getExtension() + "\"")
+                .build();
+    }
+
+    private List<StageTiming> stageTimings(String processId) {
+        List<StageTiming> stored = stageTimingRepository.findByProcessId(processId);
+        Optional<IngestProgress> live = progressRegistry.find(processId);
+        if (live.isEmpty()) {
+            return stored;
+        }
+
+        Map<String, StageTiming> merged = new LinkedHashMap<>();
+        stored.forEach(timing -> merged.put(timing.getStage(), timing));
+        for (StageTiming current : live.get().getStageTimings().snapshot(processId)) {
+            merged.merge(current.getStage(), current, (previous, running) -> StageTiming.builder()
+                    .processId(processId)
+                    .stage(previous.getStage())
+                    .elapsedMillis(previous.getElapsedMillis() + running.getElapsedMillis())
+                    .calls(previous.getCalls() + running.getCalls())
+                    .build());
+        }
+        return merged.values().stream()
+                .sorted(Comparator.comparing(StageTiming::getElapsedMillis).reversed())
+                .toList();
+    }
+
+    private static long valueOf(Integer count) {
+        return count != null ? count : 0;
+    }
+
+    private record ProcessCursor(LocalDateTime processingDate, long id) {
+    }
+}
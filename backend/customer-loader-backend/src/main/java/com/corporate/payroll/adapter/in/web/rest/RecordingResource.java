@@ -0,0 +1,78 @@
+package com.corporate.payroll.adapter.in.web.rest;
+
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.application.monitoring.FlightRecordingService;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.nio.file.Files;
+
+/**
+ * Grabaciones de Flight Recorder para diagnosticar cargas en producción
+ */
+@ApplicationScoped
+@Path("/admin/recordings")
+@PerformanceMetrics
+public class RecordingResource {
+
+    @Inject
+    private FlightRecordingService recordingService;
+
+    /**
+     * POST /admin/recordings?durationSeconds=120&maxSizeMb=100&rowEvents=false
+     * Inicia una grabación acotada. rowEvents agrega un evento de parseo y otro de validación por fila.
+     */
+    @POST
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response start(
+            @QueryParam("durationSeconds") @DefaultValue("" + FileProcessingConstants.RECORDING_DEFAULT_DURATION_SECONDS) int durationSeconds,
+            @QueryParam("maxSizeMb") @DefaultValue("" + FileProcessingConstants.RECORDING_MAX_SIZE_MB) int maxSizeMb,
+            @QueryParam("rowEvents") @DefaultValue("false") boolean rowEvents) {
+        return Response.status(Response.Status.CREATED)
+                .entity(recordingService.start(durationSeconds, maxSizeMb, rowEvents))
+                .build();
+    }
+
+    /**
+     * GET /admin/recordings
+     * Estado de la grabación en curso
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response status() {
+        return Response.ok(recordingService.current()
+                .orElseThrow(() -> new BusinessLogicException("La grabación no existe"))).build();
+    }
+
+    /**
+     * POST /admin/recordings/stop
+     * Detiene la grabación y descarga el archivo .jfr, que se elimina del servidor al terminar el envío
+     */
+    @POST
+    @Path("/stop")
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public Response stop() {
+        java.nio.file.Path file = recordingService.stop();
+        StreamingOutput body = output -> {
+            try {
+                Files.copy(file, output);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return Response.ok(body, MediaType.APPLICATION_OCTET_STREAM)
+                .header("Content-Disposition", "attachment; filename=\"" + file.getFileName() + "\"")
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.corporate.payroll.adapter.in.web.service;
+
+import com.corporate.payroll.domain.model.Client;
+
+import java.io.Writer;
+
+/**
+ * Exportación de los clientes de un proceso
+ */
+public class ClientExportWriter extends RowExportWriter<Client> {
+
+    private static final String[] FIELDS = {
+            "id", "clientCode", "idType", "idNumber", "firstNames", "lastNames",
+            "birthDate", "joinDate", "email", "phoneNumber", "processId"
+    };
+
+    public ClientExportWriter(Writer writer, ExportFormat format) {
+        super(writer, format, FIELDS);
+    }
+
+    @Override
+    protected Object[] values(Client client) {
+        return new Object[]{
+                client.getId(), client.getClientCode(), client.getIdType(), client.getIdNumber(),
+                client.getFirstNames(), client.getLastNames(), client.getBirthDate(), client.getJoinDate(),
+                client.getEmail(), client.getPhoneNumber(), client.getProcessId()
+        };
+    }
+}
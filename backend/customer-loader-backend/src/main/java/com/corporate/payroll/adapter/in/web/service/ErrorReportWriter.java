@@ -0,0 +1,27 @@
+package com.corporate.payroll.adapter.in.web.service;
+
+import com.corporate.payroll.domain.model.BulkLoadError;
+
+import java.io.Writer;
+
+/**
+ * Reporte de errores de un proceso
+ */
+public class ErrorReportWriter extends RowExportWriter<BulkLoadError> {
+
+    private static final String[] FIELDS = {
+            "id", "processId", "lineNumber", "fieldName", "errorMessage", "createdAt"
+    };
+
+    public ErrorReportWriter(Writer writer, ExportFormat format) {
+        super(writer, format, FIELDS);
+    }
+
+    @Override
+    protected Object[] values(BulkLoadError error) {
+        return new Object[]{
+                error.getId(), error.getProcessId(), error.getLineNumber(), error.getFieldName(),
+                error.getErrorMessage(), error.getCreatedAt()
+        };
+    }
+}
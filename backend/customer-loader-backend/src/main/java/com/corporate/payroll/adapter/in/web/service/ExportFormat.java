@@ -0,0 +1,43 @@
+package com.corporate.payroll.adapter.in.web.service;
+
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+
+import java.util.Locale;
+
+/**
+ * Formatos de exportación soportados por los endpoints de descarga
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Convierte el parámetro de la petición; CSV si no se envía
+     */
+    public static ExportFormat fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException("Formato de exportación inválido: " + value);
+        }
+    }
+}
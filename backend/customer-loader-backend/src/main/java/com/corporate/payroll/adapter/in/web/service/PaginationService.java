@@ -1,16 +1,23 @@
 package com.corporate.payroll.adapter.in.web.service;
 
 import com.corporate.payroll.adapter.in.web.dto.PagedResponseDto;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Function;
 
 @ApplicationScoped
 public class PaginationService {
 
+    private static final String CURSOR_VERSION = "v1";
+    private static final String CURSOR_SEPARATOR = "|";
+
     public <T> PagedResponseDto<T> createPagedResponse(List<T> content, long totalElements, int page, int size) {
         int totalPages = (int) Math.ceil((double) totalElements / size);
-        
+
         return PagedResponseDto.<T>builder()
                 .content(content)
                 .totalElements(totalElements)
@@ -20,4 +27,52 @@ public class PaginationService {
                 .empty(content.isEmpty())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Igual que {@link #createPagedResponse(List, long, int, int)} e incluye el cursor de la página
+     * siguiente, construido con las claves del último elemento cuando la página está completa.
+     *
+     * @param cursorKeys claves de ordenamiento de un elemento, en el orden del ORDER BY
+     */
+    public <T> PagedResponseDto<T> createPagedResponse(List<T> content, long totalElements, int page, int size,
+                                                       Function<T, List<Object>> cursorKeys) {
+        PagedResponseDto<T> response = createPagedResponse(content, totalElements, page, size);
+        if (!content.isEmpty() && content.size() >= size) {
+            response.setNextCursor(encodeCursor(cursorKeys.apply(content.get(content.size() - 1))));
+        }
+        return response;
+    }
+
+    /**
+     * Codifica las claves en un token opaco base64url
+     */
+    public String encodeCursor(List<Object> keys) {
+        StringBuilder raw = new StringBuilder(CURSOR_VERSION);
+        for (Object key : keys) {
+            raw.append(CURSOR_SEPARATOR).append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un token generado por {@link #encodeCursor(List)}
+     *
+     * @param keyCount cantidad de claves esperadas
+     * @param parser   convierte las claves, en el orden en que fueron codificadas
+     */
+    public <K> K decodeCursor(String cursor, int keyCount, Function<String[], K> parser) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + CURSOR_SEPARATOR, -1);
+            if (parts.length != keyCount + 1 || !CURSOR_VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Formato de cursor inesperado");
+            }
+            String[] keys = new String[keyCount];
+            System.arraycopy(parts, 1, keys, 0, keyCount);
+            return parser.apply(keys);
+        } catch (RuntimeException e) {
+            throw new BusinessLogicException("Cursor de paginación no reconocido");
+        }
+    }
+}
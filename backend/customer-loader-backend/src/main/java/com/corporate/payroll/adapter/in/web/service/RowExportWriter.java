@@ -0,0 +1,117 @@
+package com.corporate.payroll.adapter.in.web.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Escribe filas en CSV o NDJSON directamente sobre el stream de la respuesta, una a la vez.
+ * Las subclases definen las columnas y cómo se obtienen de cada elemento.
+ */
+public abstract class RowExportWriter<T> {
+
+    private final Writer writer;
+    private final ExportFormat format;
+    private final String[] fields;
+
+    protected RowExportWriter(Writer writer, ExportFormat format, String[] fields) {
+        this.writer = writer;
+        this.format = format;
+        this.fields = fields;
+    }
+
+    /**
+     * Valores de un elemento, en el orden de las columnas
+     */
+    protected abstract Object[] values(T item);
+
+    public void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", fields));
+            writer.write("\r\n");
+        }
+    }
+
+    /**
+     * Escribe un elemento. Lanza UncheckedIOException para poder usarse como Consumer.
+     */
+    public void write(T item) {
+        Object[] values = values(item);
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(values);
+            } else {
+                writeJsonLine(values);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsvRow(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvValue(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvValue(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeJsonLine(Object[] values) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writer.write(fields[i]);
+            writer.write("\":");
+            Object value = values[i];
+            if (value == null) {
+                writer.write("null");
+            } else if (value instanceof Number) {
+                writer.write(value.toString());
+            } else {
+                writeJsonString(value.toString());
+            }
+        }
+        writer.write("}\n");
+    }
+
+    private void writeJsonString(String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+}
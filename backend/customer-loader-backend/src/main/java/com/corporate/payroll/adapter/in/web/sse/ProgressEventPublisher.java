@@ -0,0 +1,225 @@
+package com.corporate.payroll.adapter.in.web.sse;
+
+import com.corporate.payroll.adapter.in.web.dto.ProcessProgressEventDto;
+import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
+import com.corporate.payroll.application.service.ingest.IngestProgress;
+import com.corporate.payroll.application.service.ingest.IngestProgressRegistry;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.application.util.FileProcessingConstants.ProcessStatus;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import com.corporate.payroll.domain.model.BulkLoadProcess;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseBroadcaster;
+import jakarta.ws.rs.sse.SseEventSink;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica por Server-Sent Events el progreso de las cargas activas en este nodo.
+ * Cada carga tiene un broadcaster compartido por sus suscriptores y una sola tarea periódica
+ * lee los contadores en memoria de {@link IngestProgress}, de modo que la cantidad de clientes
+ * conectados no agrega consultas a la base de datos. Al terminar la carga se envía un evento
+ * "complete" con el resultado guardado y se cierran las conexiones.
+ */
+@Slf4j
+@ApplicationScoped
+public class ProgressEventPublisher {
+
+    static final String PROGRESS_EVENT = "progress";
+    static final String COMPLETE_EVENT = "complete";
+
+    @Inject
+    private IngestProgressRegistry progressRegistry;
+
+    @Inject
+    private BulkLoadProcessRepositoryPort processRepository;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    private final ConcurrentMap<String, ProgressChannel> channels = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> ticker;
+
+    /**
+     * Suscribe al cliente al progreso de la carga. Si la carga no está activa en este nodo
+     * se envía un único evento con el estado guardado y se cierra la conexión.
+     */
+    public void subscribe(String processId, SseEventSink sink, Sse sse) {
+        Optional<IngestProgress> progress = progressRegistry.find(processId);
+        if (progress.isEmpty()) {
+            sendStoredState(processId, sink, sse);
+            return;
+        }
+
+        channels.compute(processId, (id, channel) -> {
+            ProgressChannel target = channel != null ? channel : new ProgressChannel(id, sse, progress.get());
+            target.register(sink);
+            return target;
+        });
+        startTicker();
+    }
+
+    /**
+     * Envía un evento por carga con suscriptores. Las cargas que ya no están activas reciben
+     * el evento final y se eliminan.
+     */
+    void publish() {
+        for (ProgressChannel channel : channels.values()) {
+            try {
+                Optional<IngestProgress> progress = progressRegistry.find(channel.processId);
+                if (progress.isPresent()) {
+                    channel.broadcast(PROGRESS_EVENT, channel.sample(progress.get()));
+                } else if (channels.remove(channel.processId, channel)) {
+                    channel.broadcast(COMPLETE_EVENT, storedState(channel.processId))
+                            .whenComplete((result, error) -> channel.broadcaster.close());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Error publicando el progreso del proceso {}: {}", channel.processId, e.getMessage());
+            }
+        }
+    }
+
+    int channelCount() {
+        return channels.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        synchronized (this) {
+            if (ticker != null) {
+                ticker.cancel(false);
+            }
+        }
+        channels.values().forEach(channel -> channel.broadcaster.close());
+        channels.clear();
+    }
+
+    private synchronized void startTicker() {
+        if (ticker == null) {
+            long interval = FileProcessingConstants.PROGRESS_EVENT_INTERVAL_MILLIS;
+            ticker = scheduler.scheduleAtFixedRate(this::publish, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Carga terminada o ejecutándose en otro nodo: una sola lectura del proceso, servida desde
+     * el cache de consultas cuando está completado. Si sigue en curso se sugiere al cliente
+     * reconectarse, posiblemente a otro nodo.
+     */
+    private void sendStoredState(String processId, SseEventSink sink, Sse sse) {
+        ProcessProgressEventDto state = storedState(processId);
+        boolean finished = ProcessStatus.COMPLETED.getValue().equals(state.getStatus())
+                || ProcessStatus.ERROR.getValue().equals(state.getStatus());
+        OutboundSseEvent.Builder event = eventBuilder(sse, finished ? COMPLETE_EVENT : PROGRESS_EVENT, state);
+        if (!finished) {
+            event.reconnectDelay(FileProcessingConstants.PROGRESS_EVENT_RECONNECT_MILLIS);
+        }
+        sink.send(event.build()).whenComplete((result, error) -> sink.close());
+    }
+
+    private ProcessProgressEventDto storedState(String processId) {
+        BulkLoadProcess process = processRepository.findByProcessId(processId)
+                .orElseThrow(() -> new BusinessLogicException("El proceso no existe: " + processId));
+        return ProcessProgressEventDto.builder()
+                .processId(processId)
+                .status(process.getStatus())
+                .rowsRead(valueOf(process.getTotalRecords()))
+                .validRows(valueOf(process.getSuccessfulCount()))
+                .successfulCount(valueOf(process.getSuccessfulCount()))
+                .errorCount(valueOf(process.getErrorCount()))
+                .build();
+    }
+
+    private static OutboundSseEvent.Builder eventBuilder(Sse sse, String name, ProcessProgressEventDto data) {
+        return sse.newEventBuilder()
+                .name(name)
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(ProcessProgressEventDto.class, data);
+    }
+
+    private static long valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Suscriptores de una carga. La velocidad se calcula con la lectura anterior de los contadores;
+     * sample solo se invoca desde la tarea periódica.
+     */
+    private final class ProgressChannel {
+
+        private final String processId;
+        private final Sse sse;
+        private final SseBroadcaster broadcaster;
+        private int subscribers;
+        private long lastRowsRead;
+        private long lastSampleNanos;
+
+        private ProgressChannel(String processId, Sse sse, IngestProgress progress) {
+            this.processId = processId;
+            this.sse = sse;
+            this.broadcaster = sse.newBroadcaster();
+            this.lastRowsRead = progress.getRowsRead().get();
+            this.lastSampleNanos = System.nanoTime();
+            broadcaster.onClose(this::unregister);
+            broadcaster.onError((sink, error) -> unregister(sink));
+        }
+
+        /**
+         * Se invoca dentro de channels.compute, igual que la baja del último suscriptor
+         */
+        private void register(SseEventSink sink) {
+            subscribers++;
+            broadcaster.register(sink);
+        }
+
+        private void unregister(SseEventSink sink) {
+            boolean[] lastSubscriber = new boolean[1];
+            channels.computeIfPresent(processId, (id, channel) -> {
+                if (channel != this || --subscribers > 0) {
+                    return channel;
+                }
+                lastSubscriber[0] = true;
+                return null;
+            });
+            if (lastSubscriber[0]) {
+                broadcaster.close();
+            }
+        }
+
+        private ProcessProgressEventDto sample(IngestProgress progress) {
+            long now = System.nanoTime();
+            long rowsRead = progress.getRowsRead().get();
+            double rowsPerSecond = now > lastSampleNanos
+                    ? (rowsRead - lastRowsRead) * 1_000_000_000d / (now - lastSampleNanos) : 0;
+            lastRowsRead = rowsRead;
+            lastSampleNanos = now;
+
+            return ProcessProgressEventDto.builder()
+                    .processId(processId)
+                    .status(progress.getStatus())
+                    .rowsRead(rowsRead)
+                    .validRows(progress.getValidRows().get())
+                    .successfulCount(progress.getPersistedCount().get())
+                    .errorCount(progress.getErrorCount().get())
+                    .rowsPerSecond(Math.round(rowsPerSecond * 10) / 10d)
+                    .build();
+        }
+
+        private CompletionStage<?> broadcast(String name, ProcessProgressEventDto data) {
+            return broadcaster.broadcast(eventBuilder(sse, name, data).build());
+        }
+    }
+}
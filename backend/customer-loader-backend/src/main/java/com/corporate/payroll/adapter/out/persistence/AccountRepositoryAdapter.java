@@ -1,6 +1,8 @@
 package com.corporate.payroll.adapter.out.persistence;
 
+import com.corporate.payroll.application.monitoring.RepositoryWriteEvent;
 import com.corporate.payroll.application.port.out.AccountRepositoryPort;
+import com.corporate.payroll.application.util.FileProcessingConstants;
 import com.corporate.payroll.domain.model.Account;
 import com.corporate.payroll.adapter.out.persistence.entity.AccountEntity;
 import com.corporate.payroll.adapter.out.persistence.mapper.AccountPersistenceMapper;
@@ -8,8 +10,10 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -21,6 +25,8 @@ import java.util.stream.Collectors;
 @ApplicationScoped
 public class AccountRepositoryAdapter implements AccountRepositoryPort {
 
+    private static final String ACCOUNT_NUMBER_SEQUENCE = "account_number";
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -42,6 +48,28 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
         return accountMapper.toModel(entity);
     }
 
+    @Override
+    @Transactional
+    public List<Account> saveAll(List<Account> accounts) {
+        RepositoryWriteEvent event = RepositoryWriteEvent.start("accounts", accounts.size());
+        List<AccountEntity> entities = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            AccountEntity entity = accountMapper.toDomainEntity(account);
+            entityManager.persist(entity);
+            entities.add(entity);
+        }
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            throw BatchWriteFailures.translate(e);
+        }
+        event.finish(null);
+
+        return entities.stream()
+                .map(accountMapper::toModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Account> findByClientId(Long clientId) {
         List<AccountEntity> entities = entityManager.createQuery(
@@ -76,17 +104,44 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
                 .findFirst();
     }
 
+    /**
+     * El contador vive en la tabla id_generators. El UPDATE bloquea la fila hasta el commit,
+     * por lo que la lectura posterior ve el valor propio y las reservas concurrentes no se solapan.
+     */
     @Override
-    public Long getLastAccountNumber() {
-        try {
-            String lastAccountNumber = entityManager.createQuery(
-                            "SELECT a.accountNumber FROM AccountEntity a ORDER BY CAST(a.accountNumber AS long) DESC", String.class)
-                    .setMaxResults(1)
-                    .getSingleResult();
-            return Long.parseLong(lastAccountNumber);
-        } catch (Exception e) {
-            return 0L;
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public long reserveAccountNumbers(int count) {
+        if (incrementAccountNumberCounter(count) == 0) {
+            seedAccountNumberCounter();
+            incrementAccountNumberCounter(count);
         }
+        Number nextValue = (Number) entityManager.createNativeQuery(
+                        "SELECT gen_value FROM id_generators WHERE gen_name = ?1")
+                .setParameter(1, ACCOUNT_NUMBER_SEQUENCE)
+                .getSingleResult();
+        return nextValue.longValue() - count;
+    }
+
+    private int incrementAccountNumberCounter(int count) {
+        return entityManager.createNativeQuery(
+                        "UPDATE id_generators SET gen_value = gen_value + ?1 WHERE gen_name = ?2")
+                .setParameter(1, count)
+                .setParameter(2, ACCOUNT_NUMBER_SEQUENCE)
+                .executeUpdate();
+    }
+
+    /**
+     * Crea el contador a partir del mayor número de cuenta existente. Solo ocurre una vez;
+     * INSERT IGNORE resuelve la carrera entre nodos que lo crean al mismo tiempo.
+     */
+    private void seedAccountNumberCounter() {
+        entityManager.createNativeQuery(
+                        "INSERT IGNORE INTO id_generators (gen_name, gen_value) " +
+                                "SELECT ?1, GREATEST(COALESCE(MAX(CAST(account_number AS UNSIGNED)), 0) + 1, ?2) " +
+                                "FROM accounts")
+                .setParameter(1, ACCOUNT_NUMBER_SEQUENCE)
+                .setParameter(2, FileProcessingConstants.ACCOUNT_NUMBER_START)
+                .executeUpdate();
     }
 
     @Override
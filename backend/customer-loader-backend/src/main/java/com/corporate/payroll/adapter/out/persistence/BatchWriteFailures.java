@@ -0,0 +1,38 @@
+package com.corporate.payroll.adapter.out.persistence;
+
+import com.corporate.payroll.domain.exception.RowRejectedException;
+import jakarta.persistence.PersistenceException;
+
+import java.sql.SQLException;
+
+/**
+ * Clasifica las fallas al escribir un lote. Las clases SQLState 22 (dato fuera del rango
+ * de la columna) y 23 (violación de integridad) se deben a una fila del lote y no a la
+ * conexión ni al servidor.
+ */
+final class BatchWriteFailures {
+
+    private static final String DATA_EXCEPTION_CLASS = "22";
+    private static final String INTEGRITY_VIOLATION_CLASS = "23";
+
+    private BatchWriteFailures() {
+    }
+
+    /**
+     * Traduce la falla a {@link RowRejectedException} si la causa es una fila del lote;
+     * cualquier otra falla se retorna sin cambios.
+     */
+    static RuntimeException translate(PersistenceException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && isRowFailure(sql.getSQLState())) {
+                return new RowRejectedException(sql.getMessage(), e);
+            }
+        }
+        return e;
+    }
+
+    private static boolean isRowFailure(String sqlState) {
+        return sqlState != null
+                && (sqlState.startsWith(DATA_EXCEPTION_CLASS) || sqlState.startsWith(INTEGRITY_VIOLATION_CLASS));
+    }
+}
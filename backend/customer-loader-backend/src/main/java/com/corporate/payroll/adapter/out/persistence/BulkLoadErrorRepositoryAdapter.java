@@ -1,19 +1,25 @@
 package com.corporate.payroll.adapter.out.persistence;
 
+import com.corporate.payroll.application.monitoring.RepositoryWriteEvent;
 import com.corporate.payroll.application.port.out.BulkLoadErrorRepositoryPort;
 // import com.corporate.payroll.adapter.in.web.dto.FileSummaryResponseDto; // UNUSED - Commented out
 import com.corporate.payroll.domain.model.BulkLoadError;
 import com.corporate.payroll.adapter.out.persistence.entity.BulkLoadErrorEntity;
 import com.corporate.payroll.adapter.out.persistence.mapper.BulkLoadErrorPersistenceMapper;
+import com.corporate.payroll.application.util.FileProcessingConstants;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptador de persistencia para BulkLoadError.
@@ -30,29 +36,50 @@ public class BulkLoadErrorRepositoryAdapter implements BulkLoadErrorRepositoryPo
     @Inject
     private BulkLoadErrorPersistenceMapper errorMapper;
 
+    private static final String INSERT_PREFIX =
+            "INSERT INTO bulk_load_errors (process_id, line_number, field_name, error_message) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?)";
+
     @Override
-    public void saveAll(List<BulkLoadError> errors) {
-        log.info("Iniciando persistencia de {} errores de carga", errors.size());
+    public int insertAll(List<BulkLoadError> errors) {
+        if (errors.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + errors.size() * (INSERT_ROW.length() + 2))
+                .append(INSERT_PREFIX);
+        for (int i = 0; i < errors.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(INSERT_ROW);
+        }
+
+        RepositoryWriteEvent event = RepositoryWriteEvent.start("bulk_load_errors", errors.size());
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
         for (BulkLoadError error : errors) {
-            BulkLoadErrorEntity entity = errorMapper.toDomainEntity(error);
-            entityManager.persist(entity);
-            entityManager.flush();
-            entityManager.clear();
+            query.setParameter(position++, error.getProcessId());
+            query.setParameter(position++, error.getLineNumber());
+            query.setParameter(position++, error.getFieldName());
+            query.setParameter(position++, error.getErrorMessage());
         }
-        log.info("Persistencia completada: {} errores guardados", errors.size());
+
+        int inserted = query.executeUpdate();
+        event.finish(errors.get(0).getProcessId());
+        return inserted;
     }
 
     @Override
-    public List<BulkLoadError> findByProcessId(String processId) {
-        log.debug("Buscando errores para proceso: {}", processId);
+    public List<BulkLoadError> findByProcessId(String processId, int page, int size) {
+        log.debug("Buscando errores para proceso: {} (página: {}, tamaño: {})", processId, page, size);
         List<BulkLoadErrorEntity> entities = entityManager.createQuery(
                         "SELECT e FROM BulkLoadErrorEntity e WHERE e.processId = :processId " +
-                                "ORDER BY e.lineNumber ASC",
+                                "ORDER BY e.lineNumber ASC, e.id ASC",
                         BulkLoadErrorEntity.class)
                 .setParameter("processId", processId)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
                 .getResultList();
 
-        log.info("Se encontraron {} errores para proceso {}", entities.size(), processId);
+        log.info("Se encontraron {} errores para proceso {} (página {})", entities.size(), processId, page);
 
         return entities.stream()
                 .map(errorMapper::toModel)
@@ -60,24 +87,47 @@ public class BulkLoadErrorRepositoryAdapter implements BulkLoadErrorRepositoryPo
     }
 
     @Override
-    public List<BulkLoadError> findByProcessId(String processId, int page, int size) {
-        log.debug("Buscando errores para proceso: {} (página: {}, tamaño: {})", processId, page, size);
+    public List<BulkLoadError> findByProcessIdAfter(String processId, int lastLineNumber, long lastId, int size) {
+        log.debug("Buscando errores para proceso: {} (después de línea {}, id {})", processId, lastLineNumber, lastId);
         List<BulkLoadErrorEntity> entities = entityManager.createQuery(
                         "SELECT e FROM BulkLoadErrorEntity e WHERE e.processId = :processId " +
-                                "ORDER BY e.lineNumber ASC",
+                                "AND (e.lineNumber > :lastLine OR (e.lineNumber = :lastLine AND e.id > :lastId)) " +
+                                "ORDER BY e.lineNumber ASC, e.id ASC",
                         BulkLoadErrorEntity.class)
                 .setParameter("processId", processId)
-                .setFirstResult(page * size)
+                .setParameter("lastLine", lastLineNumber)
+                .setParameter("lastId", lastId)
                 .setMaxResults(size)
                 .getResultList();
 
-        log.info("Se encontraron {} errores para proceso {} (página {})", entities.size(), processId, page);
-
         return entities.stream()
                 .map(errorMapper::toModel)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional
+    public long forEachByProcessId(String processId, Consumer<BulkLoadError> action) {
+        long count = 0;
+        try (Stream<BulkLoadErrorEntity> entities = entityManager.createQuery(
+                        "SELECT e FROM BulkLoadErrorEntity e WHERE e.processId = :processId " +
+                                "ORDER BY e.lineNumber ASC, e.id ASC",
+                        BulkLoadErrorEntity.class)
+                .setParameter("processId", processId)
+                .setHint("org.hibernate.fetchSize", FileProcessingConstants.EXPORT_FETCH_SIZE)
+                .setHint("org.hibernate.readOnly", true)
+                .getResultStream()) {
+            Iterator<BulkLoadErrorEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                BulkLoadErrorEntity entity = iterator.next();
+                action.accept(errorMapper.toModel(entity));
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+
     @Override
     public long countByProcessId(String processId) {
         log.debug("Contando errores para proceso: {}", processId);
@@ -1,14 +1,23 @@
 package com.corporate.payroll.adapter.out.persistence;
 
+import com.corporate.payroll.adapter.out.persistence.cache.LookupCache;
+import com.corporate.payroll.adapter.out.persistence.cache.LookupCacheRegistry;
 import com.corporate.payroll.adapter.out.persistence.entity.BulkLoadProcessEntity;
 import com.corporate.payroll.adapter.out.persistence.mapper.BulkLoadProcessPersistenceMapper;
+import com.corporate.payroll.application.monitoring.RepositoryWriteEvent;
 import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
+import com.corporate.payroll.application.port.out.EntityCounterPort;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.application.util.FileProcessingConstants.ProcessStatus;
 import com.corporate.payroll.domain.model.BulkLoadProcess;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -23,17 +32,42 @@ public class BulkLoadProcessRepositoryAdapter implements BulkLoadProcessReposito
     
     @Inject
     private BulkLoadProcessPersistenceMapper mapper;
+
+    @Inject
+    private EntityCounterPort entityCounters;
+
+    @Inject
+    private LookupCacheRegistry cacheRegistry;
+
+    private LookupCache<String, BulkLoadProcess> processCache;
+
+    /**
+     * Solo se guardan en cache los procesos completados, que ya no cambian
+     */
+    @PostConstruct
+    void init() {
+        processCache = cacheRegistry.create("processes", FileProcessingConstants.PROCESS_CACHE_MAX_ENTRIES,
+                Duration.ofSeconds(FileProcessingConstants.LOOKUP_CACHE_TTL_SECONDS),
+                process -> process.toBuilder().build());
+    }
     
     @Override
     public BulkLoadProcess save(BulkLoadProcess bulkLoadProcess) {
+        processCache.invalidate(bulkLoadProcess.getProcessId());
         BulkLoadProcessEntity entity = mapper.toDomainEntity(bulkLoadProcess);
         entityManager.persist(entity);
         entityManager.flush();
+        entityCounters.increment(EntityCounterPort.Counter.PROCESSES, 1);
         return mapper.toModel(entity);
     }
     
     @Override
     public Optional<BulkLoadProcess> findByProcessId(String processId) {
+        return processCache.get(processId, this::loadByProcessId,
+                process -> ProcessStatus.COMPLETED.getValue().equals(process.getStatus()));
+    }
+
+    private Optional<BulkLoadProcess> loadByProcessId(String processId) {
         BulkLoadProcessEntity entity = entityManager
             .createQuery("SELECT b FROM BulkLoadProcessEntity b WHERE b.processId = :processId", BulkLoadProcessEntity.class)
             .setParameter("processId", processId)
@@ -46,6 +80,8 @@ public class BulkLoadProcessRepositoryAdapter implements BulkLoadProcessReposito
     
     @Override
     public BulkLoadProcess update(BulkLoadProcess bulkLoadProcess) {
+        RepositoryWriteEvent event = RepositoryWriteEvent.start("bulk_load_processes", 1);
+        processCache.invalidate(bulkLoadProcess.getProcessId());
         Optional<BulkLoadProcess> existing = findByProcessId(bulkLoadProcess.getProcessId());
         
         if (existing.isPresent()) {
@@ -55,13 +91,15 @@ public class BulkLoadProcessRepositoryAdapter implements BulkLoadProcessReposito
         BulkLoadProcessEntity entity = mapper.toDomainEntity(bulkLoadProcess);
         entity = entityManager.merge(entity);
         entityManager.flush();
+        event.finish(bulkLoadProcess.getProcessId());
         return mapper.toModel(entity);
     }
     
     @Override
     public List<BulkLoadProcess> findAll(int page, int size) {
         List<BulkLoadProcessEntity> entities = entityManager
-            .createQuery("SELECT b FROM BulkLoadProcessEntity b ORDER BY b.processingDate DESC", BulkLoadProcessEntity.class)
+            .createQuery("SELECT b FROM BulkLoadProcessEntity b ORDER BY b.processingDate DESC, b.id DESC",
+                    BulkLoadProcessEntity.class)
             .setFirstResult(page * size)
             .setMaxResults(size)
             .getResultList();
@@ -71,6 +109,22 @@ public class BulkLoadProcessRepositoryAdapter implements BulkLoadProcessReposito
             .collect(Collectors.toList());
     }
     
+    @Override
+    public List<BulkLoadProcess> findAllAfter(LocalDateTime lastProcessingDate, long lastId, int size) {
+        List<BulkLoadProcessEntity> entities = entityManager
+            .createQuery("SELECT b FROM BulkLoadProcessEntity b " +
+                    "WHERE b.processingDate < :lastDate OR (b.processingDate = :lastDate AND b.id < :lastId) " +
+                    "ORDER BY b.processingDate DESC, b.id DESC", BulkLoadProcessEntity.class)
+            .setParameter("lastDate", lastProcessingDate)
+            .setParameter("lastId", lastId)
+            .setMaxResults(size)
+            .getResultList();
+
+        return entities.stream()
+            .map(mapper::toModel)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public long countAll() {
         return entityManager
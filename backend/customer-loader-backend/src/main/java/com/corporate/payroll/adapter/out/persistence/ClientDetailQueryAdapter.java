@@ -0,0 +1,80 @@
+package com.corporate.payroll.adapter.out.persistence;
+
+import com.corporate.payroll.application.port.out.ClientDetailQueryPort;
+import com.corporate.payroll.application.service.dto.ClientDetail;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Adaptador de consulta para el detalle de cliente.
+ * Une clientes, cuentas y pagos en una proyección; el primer pago es el de menor fecha
+ * (y menor ID si hay empates) de la cuenta del cliente.
+ */
+@ApplicationScoped
+public class ClientDetailQueryAdapter implements ClientDetailQueryPort {
+
+    private static final String DETAIL_QUERY =
+            "SELECT c.clientCode AS clientCode, c.idType AS idType, c.idNumber AS idNumber, " +
+                    "c.firstNames AS firstNames, c.lastNames AS lastNames, c.email AS email, " +
+                    "c.phoneNumber AS phoneNumber, c.joinDate AS joinDate, c.birthDate AS birthDate, " +
+                    "a.accountNumber AS accountNumber, a.payrollValue AS payrollValue, a.status AS accountStatus, " +
+                    "p.amount AS paymentAmount, p.paymentDate AS paymentDate, p.status AS paymentStatus " +
+                    "FROM ClientEntity c " +
+                    "LEFT JOIN AccountEntity a ON a.clientId = c.id " +
+                    "LEFT JOIN PayrollPaymentEntity p ON p.accountId = a.id " +
+                    "WHERE c.clientCode = :clientCode " +
+                    "ORDER BY p.paymentDate ASC NULLS LAST, p.id ASC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<ClientDetail> findByClientCode(String clientCode) {
+        return entityManager.createQuery(DETAIL_QUERY, Tuple.class)
+                .setParameter("clientCode", clientCode)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .map(this::toDetail);
+    }
+
+    private ClientDetail toDetail(Tuple row) {
+        ClientDetail.AccountDetail account = null;
+        if (row.get("accountNumber") != null) {
+            account = ClientDetail.AccountDetail.builder()
+                    .accountNumber(row.get("accountNumber", String.class))
+                    .payrollValue(row.get("payrollValue", BigDecimal.class))
+                    .status(row.get("accountStatus", String.class))
+                    .build();
+        }
+
+        ClientDetail.FirstPayment firstPayment = null;
+        if (row.get("paymentDate") != null || row.get("paymentAmount") != null) {
+            firstPayment = ClientDetail.FirstPayment.builder()
+                    .amount(row.get("paymentAmount", BigDecimal.class))
+                    .paymentDate(row.get("paymentDate", LocalDate.class))
+                    .status(row.get("paymentStatus", String.class))
+                    .build();
+        }
+
+        return ClientDetail.builder()
+                .clientCode(row.get("clientCode", String.class))
+                .idType(row.get("idType", String.class))
+                .idNumber(row.get("idNumber", String.class))
+                .firstName(row.get("firstNames", String.class))
+                .lastName(row.get("lastNames", String.class))
+                .email(row.get("email", String.class))
+                .phoneNumber(row.get("phoneNumber", String.class))
+                .joinDate(row.get("joinDate", LocalDate.class))
+                .birthDate(row.get("birthDate", LocalDate.class))
+                .account(account)
+                .firstPayment(firstPayment)
+                .build();
+    }
+}
@@ -1,22 +1,38 @@
 package com.corporate.payroll.adapter.out.persistence;
 
+import com.corporate.payroll.application.monitoring.RepositoryWriteEvent;
 import com.corporate.payroll.application.port.out.ClientRepositoryPort;
+import com.corporate.payroll.application.port.out.EntityCounterPort;
+import com.corporate.payroll.application.util.FileProcessingConstants;
 import com.corporate.payroll.domain.model.Client;
 import com.corporate.payroll.domain.model.Account;
 import com.corporate.payroll.domain.model.PayrollPayment;
+import com.corporate.payroll.adapter.out.persistence.cache.LookupCache;
+import com.corporate.payroll.adapter.out.persistence.cache.LookupCacheRegistry;
 import com.corporate.payroll.adapter.out.persistence.entity.ClientEntity;
 import com.corporate.payroll.adapter.out.persistence.mapper.ClientPersistenceMapper;
 import com.corporate.payroll.adapter.out.persistence.mapper.AccountPersistenceMapper;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptador de persistencia para Client
@@ -26,6 +42,8 @@ import java.util.stream.Collectors;
 @ApplicationScoped
 public class ClientRepositoryAdapter implements ClientRepositoryPort {
 
+    private static final int MAX_IN_PARAMETERS = 1000;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -35,31 +53,69 @@ public class ClientRepositoryAdapter implements ClientRepositoryPort {
     @Inject
     private AccountPersistenceMapper accountMapper;
 
+    @Inject
+    private EntityCounterPort entityCounters;
+
+    @Inject
+    private LookupCacheRegistry cacheRegistry;
+
+    private LookupCache<String, Client> clientCodeCache;
+
+    @PostConstruct
+    void init() {
+        clientCodeCache = cacheRegistry.create("clientsByCode", FileProcessingConstants.CLIENT_CACHE_MAX_ENTRIES,
+                Duration.ofSeconds(FileProcessingConstants.LOOKUP_CACHE_TTL_SECONDS),
+                client -> client.toBuilder().build());
+    }
+
     @Override
     @Transactional
     public Client save(Client client) {
-        log.info("Iniciando persistencia de cliente: {}", client.getClientCode());
+        RepositoryWriteEvent event = RepositoryWriteEvent.start("clients", 1);
         ClientEntity entity = clientMapper.toDomainEntity(client);
         
         if (entity.getId() == null) {
-            log.debug("Creando nuevo cliente");
             entityManager.persist(entity);
             entityManager.flush();
             entityManager.refresh(entity);
+            entityCounters.increment(EntityCounterPort.Counter.CLIENTS, 1);
         } else {
-            log.debug("Actualizando cliente existente con ID: {}", entity.getId());
+            clientCodeCache.invalidate(client.getClientCode());
             entityManager.merge(entity);
         }
         
-        Client result = clientMapper.toModel(entity);
-        log.info("Cliente persistido exitosamente: {} con ID: {}", 
-            client.getClientCode(), result.getId());
-        return result;
+        event.finish(client.getProcessId());
+        return clientMapper.toModel(entity);
     }
 
     @Override
     @Transactional
+    public List<Client> saveAll(List<Client> clients) {
+        RepositoryWriteEvent event = RepositoryWriteEvent.start("clients", clients.size());
+        List<ClientEntity> entities = new ArrayList<>(clients.size());
+        for (Client client : clients) {
+            ClientEntity entity = clientMapper.toDomainEntity(client);
+            entityManager.persist(entity);
+            entities.add(entity);
+        }
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            throw BatchWriteFailures.translate(e);
+        }
+        event.finish(clients.isEmpty() ? null : clients.get(0).getProcessId());
+
+        return entities.stream()
+                .map(clientMapper::toModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
     public Optional<Client> findByClientCode(String clientCode) {
+        return clientCodeCache.get(clientCode, this::loadByClientCode, client -> true);
+    }
+
+    private Optional<Client> loadByClientCode(String clientCode) {
         try {
             ClientEntity entity = entityManager.createQuery(
                 "SELECT c FROM ClientEntity c WHERE c.clientCode = :code", ClientEntity.class)
@@ -86,6 +142,19 @@ public class ClientRepositoryAdapter implements ClientRepositoryPort {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public List<Client> findAllAfter(long lastId, int size) {
+        return entityManager.createQuery(
+                "SELECT c FROM ClientEntity c WHERE c.id < :lastId ORDER BY c.id DESC",
+                ClientEntity.class)
+                .setParameter("lastId", lastId)
+                .setMaxResults(size)
+                .getResultList()
+                .stream()
+                .map(clientMapper::toModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public long countAll() {
         return entityManager.createQuery(
@@ -109,25 +178,78 @@ public class ClientRepositoryAdapter implements ClientRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Client> findByProcessIdAfter(String processId, long lastId, int size) {
+        return entityManager.createQuery(
+                "SELECT c FROM ClientEntity c WHERE c.processId = :processId AND c.id < :lastId " +
+                        "ORDER BY c.id DESC",
+                ClientEntity.class)
+                .setParameter("processId", processId)
+                .setParameter("lastId", lastId)
+                .setMaxResults(size)
+                .getResultList()
+                .stream()
+                .map(clientMapper::toModel)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Las entidades se leen en modo solo lectura y se separan del contexto de persistencia
+     * una vez convertidas, para que la memoria usada no crezca con el tamaño del proceso.
+     */
+    @Override
+    @Transactional
+    public long forEachByProcessId(String processId, Consumer<Client> action) {
+        long count = 0;
+        try (Stream<ClientEntity> entities = entityManager.createQuery(
+                        "SELECT c FROM ClientEntity c WHERE c.processId = :processId ORDER BY c.id ASC",
+                        ClientEntity.class)
+                .setParameter("processId", processId)
+                .setHint("org.hibernate.fetchSize", FileProcessingConstants.EXPORT_FETCH_SIZE)
+                .setHint("org.hibernate.readOnly", true)
+                .getResultStream()) {
+            Iterator<ClientEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                ClientEntity entity = iterator.next();
+                action.accept(clientMapper.toModel(entity));
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+
     @Override
     public long countByProcessId(String processId) {
-        log.debug("Contando clientes para proceso: {}", processId);
-        long count = entityManager.createQuery(
+        return entityManager.createQuery(
                 "SELECT COUNT(c) FROM ClientEntity c WHERE c.processId = :processId",
                 Long.class)
                 .setParameter("processId", processId)
                 .getSingleResult();
-        log.info("Total de clientes en proceso {}: {}", processId, count);
-        return count;
     }
 
     @Override
     @Transactional
-    public boolean existsByIdNumber(String idNumber) {
-        Long count = entityManager.createQuery(
-            "SELECT COUNT(c) FROM ClientEntity c WHERE c.idNumber = :idNumber", Long.class)
-            .setParameter("idNumber", idNumber)
-            .getSingleResult();
-        return count > 0;
+    public Set<String> findExistingIdNumbers(Collection<String> idNumbers) {
+        if (idNumbers.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> distinct = new ArrayList<>(new HashSet<>(idNumbers));
+        Set<String> found = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (int from = 0; from < distinct.size(); from += MAX_IN_PARAMETERS) {
+            List<String> batch = distinct.subList(from, Math.min(from + MAX_IN_PARAMETERS, distinct.size()));
+            found.addAll(entityManager.createQuery(
+                    "SELECT c.idNumber FROM ClientEntity c WHERE c.idNumber IN :idNumbers", String.class)
+                    .setParameter("idNumbers", batch)
+                    .getResultList());
+        }
+
+        if (found.isEmpty()) {
+            return Set.of();
+        }
+        return distinct.stream()
+                .filter(found::contains)
+                .collect(Collectors.toSet());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.corporate.payroll.adapter.out.persistence;
+
+import com.corporate.payroll.application.port.out.EntityCounterPort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador de persistencia para la tabla entity_counters.
+ */
+@Slf4j
+@ApplicationScoped
+public class EntityCounterRepositoryAdapter implements EntityCounterPort {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long get(Counter counter) {
+        return findValue(counter, false).orElseGet(() -> countRows(counter));
+    }
+
+    @Override
+    @Transactional
+    public void increment(Counter counter, long delta) {
+        int updated = entityManager.createNativeQuery(
+                        "UPDATE entity_counters SET counter_value = counter_value + ?1 WHERE counter_name = ?2")
+                .setParameter(1, delta)
+                .setParameter(2, counter.getTableName())
+                .executeUpdate();
+        if (updated == 0) {
+            log.debug("Contador {} no inicializado; se creará en la próxima verificación", counter);
+        }
+    }
+
+    /**
+     * El SELECT ... FOR UPDATE espera a las transacciones que ya incrementaron el contador y
+     * bloquea las siguientes hasta el commit. El COUNT posterior lee una instantánea tomada con
+     * el bloqueo adquirido, por lo que ambos valores corresponden al mismo momento.
+     */
+    @Override
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public long reconcile(Counter counter) {
+        Optional<Long> stored = findValue(counter, true);
+        long actual = countRows(counter);
+
+        if (stored.isEmpty()) {
+            entityManager.createNativeQuery(
+                            "INSERT IGNORE INTO entity_counters (counter_name, counter_value) VALUES (?1, ?2)")
+                    .setParameter(1, counter.getTableName())
+                    .setParameter(2, actual)
+                    .executeUpdate();
+            return actual;
+        }
+
+        long drift = actual - stored.get();
+        if (drift != 0) {
+            entityManager.createNativeQuery(
+                            "UPDATE entity_counters SET counter_value = ?1 WHERE counter_name = ?2")
+                    .setParameter(1, actual)
+                    .setParameter(2, counter.getTableName())
+                    .executeUpdate();
+        }
+        return drift;
+    }
+
+    private Optional<Long> findValue(Counter counter, boolean lock) {
+        @SuppressWarnings("unchecked")
+        List<Number> values = entityManager.createNativeQuery(
+                        "SELECT counter_value FROM entity_counters WHERE counter_name = ?1"
+                                + (lock ? " FOR UPDATE" : ""))
+                .setParameter(1, counter.getTableName())
+                .getResultList();
+        return values.stream().findFirst().map(Number::longValue);
+    }
+
+    private long countRows(Counter counter) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + counter.getTableName())
+                .getSingleResult()).longValue();
+    }
+}
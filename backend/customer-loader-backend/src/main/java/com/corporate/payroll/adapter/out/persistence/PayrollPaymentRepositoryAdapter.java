@@ -1,5 +1,6 @@
 package com.corporate.payroll.adapter.out.persistence;
 
+import com.corporate.payroll.application.monitoring.RepositoryWriteEvent;
 import com.corporate.payroll.application.port.out.PayrollPaymentRepositoryPort;
 import com.corporate.payroll.domain.model.PayrollPayment;
 import com.corporate.payroll.adapter.out.persistence.entity.PayrollPaymentEntity;
@@ -8,6 +9,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
 
 import java.util.List;
@@ -30,6 +32,21 @@ public class PayrollPaymentRepositoryAdapter implements PayrollPaymentRepository
         entityManager.persist(entity);
     }
 
+    @Override
+    @Transactional
+    public void saveAll(List<PayrollPayment> payments) {
+        RepositoryWriteEvent event = RepositoryWriteEvent.start("payroll_payments", payments.size());
+        for (PayrollPayment payment : payments) {
+            entityManager.persist(paymentMapper.toDomainEntity(payment));
+        }
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            throw BatchWriteFailures.translate(e);
+        }
+        event.finish(null);
+    }
+
 
     @Override
     public Optional<PayrollPayment> findFirstPaymentByAccountId(Long accountId) {
@@ -0,0 +1,73 @@
+package com.corporate.payroll.adapter.out.persistence;
+
+import com.corporate.payroll.application.port.out.StageTimingRepositoryPort;
+import com.corporate.payroll.domain.model.StageTiming;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Adaptador de persistencia para la tabla bulk_load_stage_timings.
+ */
+@Slf4j
+@ApplicationScoped
+public class StageTimingRepositoryAdapter implements StageTimingRepositoryPort {
+
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO bulk_load_stage_timings (process_id, stage, elapsed_ms, calls) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX =
+            " ON DUPLICATE KEY UPDATE elapsed_ms = elapsed_ms + VALUES(elapsed_ms), calls = calls + VALUES(calls)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void addAll(String processId, List<StageTiming> timings) {
+        if (timings.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+        for (int i = 0; i < timings.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(UPSERT_ROW);
+        }
+        sql.append(UPSERT_SUFFIX);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (StageTiming timing : timings) {
+            query.setParameter(position++, processId);
+            query.setParameter(position++, timing.getStage());
+            query.setParameter(position++, timing.getElapsedMillis());
+            query.setParameter(position++, timing.getCalls());
+        }
+        query.executeUpdate();
+        log.debug("Tiempos por etapa registrados para proceso {}", processId);
+    }
+
+    @Override
+    public List<StageTiming> findByProcessId(String processId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT stage, elapsed_ms, calls FROM bulk_load_stage_timings " +
+                                "WHERE process_id = ?1 ORDER BY elapsed_ms DESC, stage ASC")
+                .setParameter(1, processId)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> StageTiming.builder()
+                        .processId(processId)
+                        .stage((String) row[0])
+                        .elapsedMillis(((Number) row[1]).longValue())
+                        .calls(((Number) row[2]).longValue())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,16 @@
+package com.corporate.payroll.adapter.out.persistence.cache;
+
+/**
+ * Estadísticas acumuladas de un {@link LookupCache}
+ */
+public record CacheStatistics(
+        String name,
+        int size,
+        int maxEntries,
+        long hits,
+        long misses,
+        long evictions,
+        long expirations,
+        long invalidations,
+        double hitRatio) {
+}
@@ -0,0 +1,118 @@
+package com.corporate.payroll.adapter.out.persistence.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache de lectura en memoria para consultas por clave.
+ * Limita la cantidad de entradas (descarta la usada hace más tiempo) y su antigüedad (TTL).
+ * Solo se guardan resultados encontrados que cumplen el criterio del adaptador; las entradas
+ * se entregan como copias para que los cambios del llamador no alteren el cache.
+ */
+public final class LookupCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final UnaryOperator<V> copier;
+    private final Consumer<Runnable> afterCompletion;
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<K, CachedValue<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * @param copier          copia los valores al guardarlos y al entregarlos
+     * @param afterCompletion ejecuta la acción al terminar la transacción en curso, si existe
+     */
+    LookupCache(String name, int maxEntries, long ttlNanos, UnaryOperator<V> copier,
+                Consumer<Runnable> afterCompletion, LongSupplier nanoClock) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.copier = copier;
+        this.afterCompletion = afterCompletion;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Retorna el valor en cache o lo carga con loader. El resultado cargado se guarda solo si
+     * cacheable lo acepta y no hubo invalidaciones mientras se cargaba.
+     */
+    public Optional<V> get(K key, Function<K, Optional<V>> loader, Predicate<V> cacheable) {
+        long loadGeneration;
+        synchronized (this) {
+            CachedValue<V> cached = entries.get(key);
+            if (cached != null) {
+                if (nanoClock.getAsLong() - cached.loadedAt() < ttlNanos) {
+                    hits.incrementAndGet();
+                    return Optional.of(copier.apply(cached.value()));
+                }
+                entries.remove(key);
+                expirations.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            loadGeneration = generation;
+        }
+
+        Optional<V> loaded = loader.apply(key);
+        if (loaded.isPresent() && cacheable.test(loaded.get())) {
+            put(key, copier.apply(loaded.get()), loadGeneration);
+        }
+        return loaded;
+    }
+
+    /**
+     * Elimina la entrada ahora y de nuevo al terminar la transacción en curso, para que una
+     * lectura concurrente no vuelva a guardar el valor anterior al commit
+     */
+    public void invalidate(K key) {
+        remove(key);
+        afterCompletion.accept(() -> remove(key));
+    }
+
+    public synchronized CacheStatistics statistics() {
+        long hitCount = hits.get();
+        long requests = hitCount + misses.get();
+        return new CacheStatistics(name, entries.size(), maxEntries, hitCount, misses.get(),
+                evictions.get(), expirations.get(), invalidations.get(),
+                requests == 0 ? 0.0 : (double) hitCount / requests);
+    }
+
+    private synchronized void put(K key, V value, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        entries.put(key, new CachedValue<>(value, nanoClock.getAsLong()));
+        Iterator<Map.Entry<K, CachedValue<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private synchronized void remove(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    private record CachedValue<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.corporate.payroll.adapter.out.persistence.cache;
+
+import jakarta.annotation.Resource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+/**
+ * Crea los caches de los adaptadores de persistencia y reúne sus estadísticas.
+ */
+@ApplicationScoped
+public class LookupCacheRegistry {
+
+    @Resource
+    private TransactionSynchronizationRegistry transactionRegistry;
+
+    private final List<LookupCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    public <K, V> LookupCache<K, V> create(String name, int maxEntries, Duration ttl, UnaryOperator<V> copier) {
+        LookupCache<K, V> cache = new LookupCache<>(name, maxEntries, ttl.toNanos(), copier,
+                this::runAfterCompletion, System::nanoTime);
+        caches.add(cache);
+        return cache;
+    }
+
+    public List<CacheStatistics> statistics() {
+        return caches.stream()
+                .map(LookupCache::statistics)
+                .toList();
+    }
+
+    private void runAfterCompletion(Runnable action) {
+        if (transactionRegistry == null || transactionRegistry.getTransactionKey() == null) {
+            return;
+        }
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // sin acciones antes del commit
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
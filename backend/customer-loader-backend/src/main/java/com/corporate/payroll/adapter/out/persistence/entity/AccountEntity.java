@@ -1,5 +1,6 @@
 package com.corporate.payroll.adapter.out.persistence.entity;
 
+import com.corporate.payroll.application.util.FileProcessingConstants;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +19,10 @@ import java.util.List;
 public class AccountEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "accounts_id")
+    @TableGenerator(name = "accounts_id", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "accounts",
+            allocationSize = FileProcessingConstants.ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(name = "account_number", unique = true, nullable = false)
@@ -37,6 +37,9 @@ public class BulkLoadProcessEntity {
     @Column(name = "error_count")
     private Integer errorCount;
     
+    @Column(name = "last_committed_line")
+    private Integer lastCommittedLine;
+    
     @Column(name = "processing_date", nullable = false)
     private LocalDateTime processingDate;
     
@@ -1,5 +1,6 @@
 package com.corporate.payroll.adapter.out.persistence.entity;
 
+import com.corporate.payroll.application.util.FileProcessingConstants;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,7 +22,10 @@ import java.util.List;
 public class ClientEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "clients_id")
+    @TableGenerator(name = "clients_id", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "clients",
+            allocationSize = FileProcessingConstants.ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(name = "client_code", unique = true, nullable = false)
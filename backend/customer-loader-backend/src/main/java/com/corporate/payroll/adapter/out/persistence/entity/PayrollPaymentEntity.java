@@ -1,5 +1,6 @@
 package com.corporate.payroll.adapter.out.persistence.entity;
 
+import com.corporate.payroll.application.util.FileProcessingConstants;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +19,10 @@ import java.math.BigDecimal;
 public class PayrollPaymentEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "payroll_payments_id")
+    @TableGenerator(name = "payroll_payments_id", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "payroll_payments",
+            allocationSize = FileProcessingConstants.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "account_id", nullable = false)
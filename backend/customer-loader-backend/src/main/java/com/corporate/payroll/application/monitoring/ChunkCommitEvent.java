@@ -0,0 +1,41 @@
+package com.corporate.payroll.application.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Transacción completa de un bloque de la carga, incluido el commit
+ */
+@Name("com.corporate.payroll.ingest.ChunkCommit")
+@Label("Chunk Commit")
+@Category({"Customer Loader", "Ingest"})
+@Description("Persistencia de un bloque y avance del checkpoint del proceso")
+@StackTrace(false)
+public class ChunkCommitEvent extends Event {
+
+    public static final String COMMITTED = "COMMITTED";
+    public static final String ROLLED_BACK = "ROLLED_BACK";
+
+    @Label("Process Id")
+    public String processId;
+
+    @Label("Line Number")
+    @Description("Última línea del bloque")
+    public int lineNumber;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Successful Count")
+    public int successfulCount;
+
+    @Label("Error Count")
+    public int errorCount;
+
+    @Label("Outcome")
+    public String outcome = ROLLED_BACK;
+}
@@ -0,0 +1,32 @@
+package com.corporate.payroll.application.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Consulta de una fila al servicio externo Databook
+ */
+@Name("com.corporate.payroll.ingest.DatabookLookup")
+@Label("Databook Lookup")
+@Category({"Customer Loader", "Ingest"})
+@Description("Consulta de los datos de un cliente en Databook")
+@StackTrace(false)
+public class DatabookLookupEvent extends Event {
+
+    public static final String FOUND = "FOUND";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String FAILED = "FAILED";
+
+    @Label("Process Id")
+    public String processId;
+
+    @Label("Line Number")
+    public int lineNumber;
+
+    @Label("Outcome")
+    public String outcome = FAILED;
+}
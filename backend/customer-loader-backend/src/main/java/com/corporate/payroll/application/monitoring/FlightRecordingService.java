@@ -0,0 +1,133 @@
+package com.corporate.payroll.application.monitoring;
+
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Grabaciones de Flight Recorder acotadas en duración y tamaño. Solo puede existir una a la vez:
+ * parte de la configuración "default" del JDK, con sobrecarga menor al 1 %, más los eventos de la carga.
+ * Los eventos por fila solo se incluyen si se piden al iniciarla.
+ */
+@Slf4j
+@ApplicationScoped
+public class FlightRecordingService {
+
+    private static final List<Class<? extends jdk.jfr.Event>> INGEST_EVENTS = List.of(
+            DatabookLookupEvent.class, RepositoryWriteEvent.class, ChunkCommitEvent.class);
+    private static final List<Class<? extends jdk.jfr.Event>> ROW_EVENTS = List.of(
+            RowParseEvent.class, RowValidationEvent.class);
+    /** Eventos de la configuración "default" que pueden exponer credenciales del entorno o de la línea de comandos. */
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final AtomicReference<ActiveRecording> active = new AtomicReference<>();
+
+    /**
+     * Inicia una grabación que se detiene sola al cumplir la duración
+     *
+     * @param durationSeconds duración entre 1 y {@link FileProcessingConstants#RECORDING_MAX_DURATION_SECONDS}
+     * @param maxSizeMb       tamaño máximo entre 1 y {@link FileProcessingConstants#RECORDING_MAX_SIZE_MB}
+     * @param rowEvents       incluye los eventos de parseo y validación de cada fila
+     */
+    public FlightRecordingStatus start(int durationSeconds, int maxSizeMb, boolean rowEvents) {
+        if (durationSeconds < 1 || durationSeconds > FileProcessingConstants.RECORDING_MAX_DURATION_SECONDS) {
+            throw new BusinessLogicException("Duración de grabación inválida, máximo "
+                    + FileProcessingConstants.RECORDING_MAX_DURATION_SECONDS + " segundos");
+        }
+        if (maxSizeMb < 1 || maxSizeMb > FileProcessingConstants.RECORDING_MAX_SIZE_MB) {
+            throw new BusinessLogicException("Tamaño de grabación inválido, máximo "
+                    + FileProcessingConstants.RECORDING_MAX_SIZE_MB + " MB");
+        }
+
+        Recording recording = new Recording(defaultConfiguration());
+        recording.setName("customer-loader-" + recording.getId());
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofSeconds(durationSeconds));
+        recording.setMaxSize(maxSizeMb * 1024L * 1024L);
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        INGEST_EVENTS.forEach(event -> recording.enable(event).withoutStackTrace());
+        if (rowEvents) {
+            ROW_EVENTS.forEach(event -> recording.enable(event).withoutStackTrace());
+        }
+
+        ActiveRecording candidate = new ActiveRecording(recording, rowEvents);
+        if (!active.compareAndSet(null, candidate)) {
+            recording.close();
+            throw new BusinessLogicException("Ya existe una grabación en curso; debe detenerse antes de iniciar otra");
+        }
+        recording.start();
+        log.info("Grabación de Flight Recorder {} iniciada por {} segundos", recording.getName(), durationSeconds);
+        return candidate.status();
+    }
+
+    public Optional<FlightRecordingStatus> current() {
+        return Optional.ofNullable(active.get()).map(ActiveRecording::status);
+    }
+
+    /**
+     * Detiene la grabación en curso, o la que ya se detuvo por duración, y la escribe en un
+     * archivo temporal. Quien llama debe eliminar el archivo después de enviarlo.
+     */
+    public Path stop() {
+        ActiveRecording current = active.getAndSet(null);
+        if (current == null) {
+            throw new BusinessLogicException("La grabación no existe");
+        }
+        Recording recording = current.recording();
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = Files.createTempFile(recording.getName() + "-", ".jfr");
+            recording.dump(file);
+            log.info("Grabación de Flight Recorder {} detenida ({} bytes)", recording.getName(), Files.size(file));
+            return file;
+        } catch (IOException e) {
+            log.error("Error al escribir la grabación {}: {}", recording.getName(), e.getMessage());
+            throw new BusinessLogicException("Error al escribir la grabación");
+        } finally {
+            recording.close();
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        ActiveRecording current = active.getAndSet(null);
+        if (current != null) {
+            current.recording().close();
+        }
+    }
+
+    private static Configuration defaultConfiguration() {
+        try {
+            return Configuration.getConfiguration("default");
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Configuración default de Flight Recorder no disponible", e);
+        }
+    }
+
+    private record ActiveRecording(Recording recording, boolean rowEvents) {
+
+        FlightRecordingStatus status() {
+            Duration duration = recording.getDuration();
+            return new FlightRecordingStatus(recording.getId(), recording.getName(), recording.getState().name(),
+                    rowEvents, recording.getStartTime(), duration != null ? duration.toSeconds() : 0,
+                    recording.getMaxSize(), recording.getSize());
+        }
+    }
+}
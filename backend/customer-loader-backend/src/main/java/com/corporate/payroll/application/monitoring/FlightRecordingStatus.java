@@ -0,0 +1,20 @@
+package com.corporate.payroll.application.monitoring;
+
+import java.time.Instant;
+
+/**
+ * Estado de la grabación de Flight Recorder iniciada desde la API de administración
+ *
+ * @param state     RUNNING mientras graba; STOPPED cuando se cumplió la duración y espera ser descargada
+ * @param sizeBytes tamaño actual de los datos grabados
+ */
+public record FlightRecordingStatus(
+        long id,
+        String name,
+        String state,
+        boolean rowEvents,
+        Instant startTime,
+        long durationSeconds,
+        long maxSizeBytes,
+        long sizeBytes) {
+}
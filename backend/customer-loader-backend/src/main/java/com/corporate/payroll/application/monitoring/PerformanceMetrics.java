@@ -1,4 +1,4 @@
-package com.corporate.payroll.adapter.in.web.metrics;
+package com.corporate.payroll.application.monitoring;
 
 import jakarta.interceptor.InterceptorBinding;
 import java.lang.annotation.ElementType;
@@ -0,0 +1,51 @@
+package com.corporate.payroll.application.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Escritura de un adaptador de persistencia, desde la primera sentencia hasta el flush
+ */
+@Name("com.corporate.payroll.persistence.RepositoryWrite")
+@Label("Repository Write")
+@Category({"Customer Loader", "Persistence"})
+@Description("Inserción o actualización de filas por un adaptador de persistencia")
+@StackTrace(false)
+public class RepositoryWriteEvent extends Event {
+
+    @Label("Table")
+    public String table;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Process Id")
+    public String processId;
+
+    /**
+     * Crea el evento e inicia la medición
+     */
+    public static RepositoryWriteEvent start(String table, int rows) {
+        RepositoryWriteEvent event = new RepositoryWriteEvent();
+        event.begin();
+        event.table = table;
+        event.rows = rows;
+        return event;
+    }
+
+    /**
+     * Registra el evento si la grabación en curso lo incluye
+     *
+     * @param processId proceso de carga de las filas, o null si el adaptador no lo conoce
+     */
+    public void finish(String processId) {
+        if (shouldCommit()) {
+            this.processId = processId;
+            commit();
+        }
+    }
+}
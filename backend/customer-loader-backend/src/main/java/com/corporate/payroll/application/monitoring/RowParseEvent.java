@@ -0,0 +1,31 @@
+package com.corporate.payroll.application.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Separación en campos de una fila. Deshabilitado por defecto por ser un evento por fila;
+ * se habilita en las grabaciones iniciadas con eventos de fila.
+ */
+@Name("com.corporate.payroll.ingest.RowParse")
+@Label("Row Parse")
+@Category({"Customer Loader", "Ingest"})
+@Description("Separación en campos de una fila")
+@Enabled(false)
+@StackTrace(false)
+public class RowParseEvent extends Event {
+
+    @Label("Process Id")
+    public String processId;
+
+    @Label("Line Number")
+    public int lineNumber;
+
+    @Label("Field Count")
+    public int fieldCount;
+}
@@ -0,0 +1,37 @@
+package com.corporate.payroll.application.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Validación de una fila. Deshabilitado por defecto por ser un evento por fila.
+ */
+@Name("com.corporate.payroll.ingest.RowValidation")
+@Label("Row Validation")
+@Category({"Customer Loader", "Ingest"})
+@Description("Validación de formato y de duplicados en el archivo")
+@Enabled(false)
+@StackTrace(false)
+public class RowValidationEvent extends Event {
+
+    public static final String VALID = "VALID";
+    public static final String INVALID = "INVALID";
+    public static final String DUPLICATE = "DUPLICATE";
+
+    @Label("Process Id")
+    public String processId;
+
+    @Label("Line Number")
+    public int lineNumber;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Error Count")
+    public int errorCount;
+}
@@ -18,5 +18,54 @@ public interface BulkLoadClientUseCase {
      * @param fileName Nombre del archivo para trazabilidad en errores
      * @return Respuesta con estadísticas de carga (exitosos y errores)
      */
-    BulkLoadStatisticsResponseDto processBulkLoad(InputStream fileStream, String fileName);
+    default BulkLoadStatisticsResponseDto processBulkLoad(InputStream fileStream, String fileName) {
+        return processBulkLoad(fileStream, fileName, IngestMode.STREAMING);
+    }
+
+    /**
+     * Procesa la carga masiva de clientes con el modo de lectura indicado.
+     * En modo PARALLEL el archivo se copia a disco y se parsea por rangos en paralelo.
+     *
+     * @param fileStream Stream del archivo a procesar
+     * @param fileName Nombre del archivo para trazabilidad en errores
+     * @param mode Modo de lectura del archivo
+     * @return Respuesta con estadísticas de carga (exitosos y errores)
+     */
+    BulkLoadStatisticsResponseDto processBulkLoad(InputStream fileStream, String fileName, IngestMode mode);
+
+    /**
+     * Registra una carga aceptada para procesamiento en segundo plano con estado PENDING.
+     * El archivo ya debe estar copiado en el directorio de spool con el mismo processId.
+     *
+     * @param processId Identificador asignado a la carga
+     * @param fileName Nombre del archivo para trazabilidad en errores
+     */
+    void registerPendingBulkLoad(String processId, String fileName);
+
+    /**
+     * Procesa una carga registrada previamente a partir de su archivo en spool.
+     * Si el proceso tiene una línea confirmada, continúa desde la siguiente.
+     *
+     * @param processId Identificador de la carga
+     * @param mode Modo de lectura del archivo
+     * @return Respuesta con estadísticas de carga (exitosos y errores)
+     */
+    BulkLoadStatisticsResponseDto processPendingBulkLoad(String processId, IngestMode mode);
+
+    /**
+     * Verifica que una carga interrumpida pueda reanudarse y deja su archivo en spool.
+     * Si el archivo original ya no está en disco se usa el stream recibido.
+     *
+     * @param processId Identificador de la carga
+     * @param fileStream Stream con el archivo original, o null para usar el archivo en spool
+     */
+    void prepareResume(String processId, InputStream fileStream);
+
+    /**
+     * Marca una carga como ERROR cuando su procesamiento en segundo plano falla.
+     * El archivo en spool se conserva para poder reanudarla.
+     *
+     * @param processId Identificador de la carga
+     */
+    void markBulkLoadFailed(String processId);
 }
@@ -0,0 +1,29 @@
+package com.corporate.payroll.application.port.in;
+
+import java.io.InputStream;
+
+/**
+ * Caso de uso: Carga masiva de clientes en segundo plano
+ * Acepta el archivo, lo deja registrado como PENDING y lo procesa fuera del hilo de la petición
+ */
+public interface BulkLoadJobUseCase {
+
+    /**
+     * Copia el archivo a disco, registra el proceso y encola su procesamiento.
+     *
+     * @param fileStream Stream del archivo a procesar
+     * @param fileName Nombre del archivo para trazabilidad en errores
+     * @param mode Modo de lectura del archivo
+     * @return processId asignado a la carga
+     */
+    String submitBulkLoad(InputStream fileStream, String fileName, IngestMode mode);
+
+    /**
+     * Encola la reanudación de una carga interrumpida desde su última línea confirmada.
+     *
+     * @param processId Identificador de la carga
+     * @param fileStream Stream con el archivo original, o null para usar el archivo en spool
+     * @param mode Modo de lectura del archivo
+     */
+    void resumeBulkLoad(String processId, InputStream fileStream, IngestMode mode);
+}
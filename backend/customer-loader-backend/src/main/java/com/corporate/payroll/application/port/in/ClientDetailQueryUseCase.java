@@ -0,0 +1,16 @@
+package com.corporate.payroll.application.port.in;
+
+import com.corporate.payroll.application.service.dto.ClientDetail;
+
+/**
+ * Caso de uso: Consulta del detalle de un cliente
+ * Reúne los datos del cliente, su cuenta y su primer pago en una sola respuesta
+ */
+public interface ClientDetailQueryUseCase {
+
+    /**
+     * @param clientCode Código único del cliente
+     * @return Detalle del cliente
+     */
+    ClientDetail getClientDetail(String clientCode);
+}
@@ -0,0 +1,31 @@
+package com.corporate.payroll.application.port.in;
+
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+
+import java.util.Locale;
+
+/**
+ * Modo de lectura del archivo en la carga masiva.
+ */
+public enum IngestMode {
+
+    /** Lectura secuencial del stream recibido, línea por línea. */
+    STREAMING,
+
+    /** Copia el archivo a disco, lo mapea en memoria y parsea rangos en paralelo. */
+    PARALLEL;
+
+    /**
+     * Obtiene el modo a partir del parámetro recibido; STREAMING si no se indica
+     */
+    public static IngestMode fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return STREAMING;
+        }
+        try {
+            return IngestMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException("Modo de carga inválido: " + value);
+        }
+    }
+}
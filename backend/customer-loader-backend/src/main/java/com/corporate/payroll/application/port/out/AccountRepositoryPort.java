@@ -10,6 +10,12 @@ public interface AccountRepositoryPort {
      * Guarda una cuenta en la base de datos
      */
     Account save(Account account);
+
+    /**
+     * Guarda un lote de cuentas con inserciones agrupadas y retorna las cuentas con ID asignado,
+     * en el mismo orden. Lanza RowRejectedException si la base rechaza alguna fila del lote.
+     */
+    List<Account> saveAll(List<Account> accounts);
     
     /**
      * Verifica si existe una cuenta con el número especificado.
@@ -28,9 +34,13 @@ public interface AccountRepositoryPort {
     Optional<Account> findByClientId(Long clientId);
     
     /**
-     * Obtiene el último número de cuenta usado para generar secuencia
+     * Reserva un bloque de números de cuenta consecutivos en el contador compartido, en una
+     * transacción propia. Ningún otro hilo o nodo recibe números del mismo bloque.
+     *
+     * @param count cantidad de números a reservar
+     * @return primer número del bloque reservado
      */
-    Long getLastAccountNumber();
+    long reserveAccountNumbers(int count);
     
     /**
      * Obtiene todas las cuentas con paginación
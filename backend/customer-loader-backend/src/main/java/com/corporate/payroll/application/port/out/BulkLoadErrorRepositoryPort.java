@@ -3,6 +3,7 @@ package com.corporate.payroll.application.port.out;
 import com.corporate.payroll.domain.model.BulkLoadError;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Puerto de salida para persistir y consultar errores de carga masiva.
@@ -10,27 +11,41 @@ import java.util.List;
 public interface BulkLoadErrorRepositoryPort {
     
     /**
-     * Persiste una Lista de errores de carga masiva
-     * @param errors el error a persistir
+     * Inserta el lote de errores en una sola sentencia INSERT de múltiples filas,
+     * sin pasar por el contexto de persistencia.
+     * @param errors errores a insertar
+     * @return cantidad de filas insertadas
      */
-    void saveAll(List<BulkLoadError> errors);
+    int insertAll(List<BulkLoadError> errors);
     
     /**
-     * Busca todos los errores de un proceso específico
+     * Busca todos los errores de un proceso específico (paginado)
      * @param processId ID del proceso de carga
+     * @param page número de página
+     * @param size tamaño de página
      * @return lista de errores del proceso
      */
-    List<BulkLoadError> findByProcessId(String processId);
-    
+    List<BulkLoadError> findByProcessId(String processId, int page, int size);
+
     /**
-     * Busca todos los errores de un proceso específico (paginado)
+     * Busca los errores de un proceso siguientes a la posición (lastLineNumber, lastId),
+     * en orden ascendente de línea e ID
      * @param processId ID del proceso de carga
-     * @param page número de página
+     * @param lastLineNumber línea del último error de la página anterior
+     * @param lastId ID del último error de la página anterior
      * @param size tamaño de página
      * @return lista de errores del proceso
      */
-    List<BulkLoadError> findByProcessId(String processId, int page, int size);
+    List<BulkLoadError> findByProcessIdAfter(String processId, int lastLineNumber, long lastId, int size);
     
+    /**
+     * Recorre todos los errores de un proceso en orden de línea sin cargarlos juntos en memoria
+     * @param processId ID del proceso de carga
+     * @param action acción aplicada a cada error
+     * @return cantidad de errores recorridos
+     */
+    long forEachByProcessId(String processId, Consumer<BulkLoadError> action);
+
     /**
      * Cuenta el total de errores de un proceso
      * @param processId ID del proceso de carga
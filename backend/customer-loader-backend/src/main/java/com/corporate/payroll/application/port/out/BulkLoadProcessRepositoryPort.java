@@ -1,6 +1,7 @@
 package com.corporate.payroll.application.port.out;
 
 import com.corporate.payroll.domain.model.BulkLoadProcess;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +35,16 @@ public interface BulkLoadProcessRepositoryPort {
      * @return lista paginada de procesos
      */
     List<BulkLoadProcess> findAll(int page, int size);
+
+    /**
+     * Obtiene la página de procesos siguiente a la posición (lastProcessingDate, lastId),
+     * en orden descendente de fecha de procesamiento e ID
+     * @param lastProcessingDate fecha de procesamiento del último proceso de la página anterior
+     * @param lastId ID del último proceso de la página anterior
+     * @param size tamaño de página
+     * @return lista de procesos
+     */
+    List<BulkLoadProcess> findAllAfter(LocalDateTime lastProcessingDate, long lastId, int size);
     
     /**
      * Cuenta el total de procesos
@@ -0,0 +1,19 @@
+package com.corporate.payroll.application.port.out;
+
+import com.corporate.payroll.application.service.dto.ClientDetail;
+
+import java.util.Optional;
+
+/**
+ * Puerto de salida para la consulta del detalle de un cliente.
+ * Resuelve cliente, cuenta y primer pago en una sola consulta.
+ */
+public interface ClientDetailQueryPort {
+
+    /**
+     * Obtiene el detalle del cliente con su cuenta y su primer pago
+     * @param clientCode código único del cliente
+     * @return Optional con el detalle si el cliente existe; cuenta y pago quedan en null si no existen
+     */
+    Optional<ClientDetail> findByClientCode(String clientCode);
+}
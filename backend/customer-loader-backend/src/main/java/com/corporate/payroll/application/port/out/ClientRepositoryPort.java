@@ -1,8 +1,11 @@
 package com.corporate.payroll.application.port.out;
 
 import com.corporate.payroll.domain.model.Client;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ClientRepositoryPort {
 
@@ -12,10 +15,19 @@ public interface ClientRepositoryPort {
     Client save(Client client);
 
     /**
-     * Verifica si existe un cliente con el número de identificación especificado.
-     * Esto es crítico para prevenir duplicados en la carga masiva.
+     * Guarda un lote de clientes con inserciones agrupadas y retorna los clientes con ID asignado,
+     * en el mismo orden. No relee las filas insertadas.
+     * No actualiza el contador de clientes: lo hace quien confirma el lote, al final de su transacción.
+     * Lanza RowRejectedException si la base rechaza alguna fila del lote.
      */
-    boolean existsByIdNumber(String idNumber);
+    List<Client> saveAll(List<Client> clients);
+
+    /**
+     * Retorna los números de identificación recibidos que ya existen en la base de datos,
+     * consultando todo el lote en una sola consulta. La comparación sigue la collation de
+     * la columna, por lo que no distingue mayúsculas.
+     */
+    Set<String> findExistingIdNumbers(Collection<String> idNumbers);
     
     /**
      * Obtiene un cliente por su código
@@ -27,6 +39,12 @@ public interface ClientRepositoryPort {
      */
     List<Client> findAll(int page, int size);
     
+    /**
+     * Obtiene la página de clientes siguiente a lastId, en orden descendente de ID.
+     * Usa el índice primario en lugar de descartar filas con OFFSET.
+     */
+    List<Client> findAllAfter(long lastId, int size);
+
     /**
      * Cuenta el total de clientes
      */
@@ -36,6 +54,18 @@ public interface ClientRepositoryPort {
      * Obtiene clientes por processId (paginado)
      */
     List<Client> findByProcessId(String processId, int page, int size);
+
+    /**
+     * Obtiene la página de clientes de un proceso siguiente a lastId, en orden descendente de ID
+     */
+    List<Client> findByProcessIdAfter(String processId, long lastId, int size);
+
+    /**
+     * Recorre todos los clientes de un proceso en orden ascendente de ID, leyendo fila por fila
+     * sin cargar el resultado completo en memoria. Se ejecuta dentro de una transacción.
+     * @return cantidad de clientes recorridos
+     */
+    long forEachByProcessId(String processId, Consumer<Client> action);
     
     /**
      * Cuenta el total de clientes para un processId
@@ -0,0 +1,45 @@
+package com.corporate.payroll.application.port.out;
+
+/**
+ * Puerto de salida para los totales de registros mantenidos de forma incremental.
+ * Los adaptadores de persistencia incrementan el contador en la misma transacción del INSERT,
+ * de modo que las respuestas paginadas no necesitan un COUNT sobre la tabla completa.
+ * Los clientes de una carga masiva los cuenta {@code BulkLoadChunkWriter} como última sentencia
+ * de cada bloque, para retener el bloqueo de la fila del contador el menor tiempo posible.
+ */
+public interface EntityCounterPort {
+
+    /**
+     * Contadores disponibles, uno por tabla
+     */
+    enum Counter {
+        CLIENTS("clients"),
+        PROCESSES("bulk_load_processes");
+
+        private final String tableName;
+
+        Counter(String tableName) {
+            this.tableName = tableName;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+    }
+
+    /**
+     * Obtiene el total mantenido. Si el contador aún no existe retorna el conteo real.
+     */
+    long get(Counter counter);
+
+    /**
+     * Suma delta al contador dentro de la transacción en curso
+     */
+    void increment(Counter counter, long delta);
+
+    /**
+     * Compara el contador con el conteo real de la tabla y lo corrige, en una transacción propia
+     * @return diferencia corregida (conteo real menos valor mantenido)
+     */
+    long reconcile(Counter counter);
+}
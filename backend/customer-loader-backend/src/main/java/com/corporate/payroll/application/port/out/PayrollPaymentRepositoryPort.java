@@ -10,6 +10,12 @@ public interface PayrollPaymentRepositoryPort {
      * Guarda un pago de nómina
      */
     void save(PayrollPayment payment);
+
+    /**
+     * Guarda un lote de pagos con inserciones agrupadas.
+     * Lanza RowRejectedException si la base rechaza alguna fila del lote.
+     */
+    void saveAll(List<PayrollPayment> payments);
     
 
     Optional<PayrollPayment> findFirstPaymentByAccountId(Long acountId);
@@ -0,0 +1,26 @@
+package com.corporate.payroll.application.port.out;
+
+import com.corporate.payroll.domain.model.StageTiming;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para los tiempos por etapa de las cargas masivas.
+ */
+public interface StageTimingRepositoryPort {
+
+    /**
+     * Suma los tiempos y conteos a los ya registrados para cada etapa del proceso,
+     * de modo que una carga reanudada acumula los de todas sus ejecuciones
+     * @param processId ID del proceso de carga
+     * @param timings tiempos a sumar
+     */
+    void addAll(String processId, List<StageTiming> timings);
+
+    /**
+     * Busca los tiempos por etapa de un proceso, de la etapa más lenta a la más rápida
+     * @param processId ID del proceso de carga
+     * @return tiempos por etapa
+     */
+    List<StageTiming> findByProcessId(String processId);
+}
@@ -1,44 +1,32 @@
 package com.corporate.payroll.application.service;
 
-import com.corporate.payroll.application.port.out.AccountRepositoryPort;
-import com.corporate.payroll.application.util.FileProcessingConstants;
-import com.corporate.payroll.domain.exception.BusinessLogicException;
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import lombok.extern.slf4j.Slf4j;
 
-import java.util.UUID;
+import java.util.List;
 
 /**
  * Factory CDI para generar números únicos de cuenta.
- * Consulta la base de datos para verificar unicidad en lugar de mantener cache en memoria.
+ * Los números se toman de bloques reservados por {@link AccountNumberAllocator}, sin consultar
+ * la tabla de cuentas por cada cuenta nueva.
  */
 @ApplicationScoped
-@Slf4j
+@PerformanceMetrics
 public class AccountFactory {
-    
-    private static final String ACCOUNT_CODE_PREFIX = FileProcessingConstants.DEFAULT_ACCOUNT_CODE_PREFIX;
-    
-   @Inject
-    private AccountRepositoryPort accountRepository;
-    
+
+    @Inject
+    private AccountNumberAllocator accountNumberAllocator;
+
     /**
-     * Genera un número de cuenta único basado en secuencia numérica.
-     * Consulta el último número usado y genera el siguiente.
-     * 
-     * @return número único de cuenta
+     * Genera números de cuenta únicos para un lote.
+     *
+     * @param count cantidad de números requeridos
+     * @return números únicos de cuenta en orden ascendente
      */
-    public String generateUniqueAccountNumber() {
-        try {
-            Long lastNumber = accountRepository.getLastAccountNumber();
-            Long nextNumber = (lastNumber != null) ? lastNumber + 1 : 1000000000L;
-            
-            String accountNumber = String.valueOf(nextNumber);
-            log.debug("Número de cuenta generado: {}", accountNumber);
-            return accountNumber;
-        } catch (Exception e) {
-            log.error("Error generando número de cuenta: {}", e.getMessage(), e);
-            return String.valueOf(1000000000L + (System.currentTimeMillis() % 1000000000L));
-        }
+    public List<String> generateAccountNumbers(int count) {
+        return accountNumberAllocator.allocate(count).stream()
+                .map(String::valueOf)
+                .toList();
     }
 }
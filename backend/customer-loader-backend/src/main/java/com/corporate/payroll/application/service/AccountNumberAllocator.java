@@ -0,0 +1,145 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.port.out.AccountRepositoryPort;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Asigna números de cuenta desde bloques reservados en el contador de la base de datos.
+ * Dentro de un bloque la asignación es un compareAndSet sobre un AtomicLong, sin consultas
+ * ni bloqueos. Cuando queda poco del bloque en curso el siguiente se reserva en segundo plano.
+ * Los números de un bloque que no llegan a usarse (por reinicio del servidor) se pierden.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountNumberAllocator {
+
+    @Inject
+    private AccountRepositoryPort accountRepository;
+
+    @Resource
+    private ManagedExecutorService executor;
+
+    private final AtomicReference<NumberRange> current = new AtomicReference<>(NumberRange.EMPTY);
+    private final AtomicReference<CompletableFuture<NumberRange>> prefetched = new AtomicReference<>();
+
+    /**
+     * Asigna números de cuenta para un lote. Son únicos pero pueden no ser consecutivos
+     * si el lote cruza el final de un bloque.
+     *
+     * @param count cantidad de números requeridos
+     * @return números asignados en orden ascendente
+     */
+    public List<Long> allocate(int count) {
+        List<Long> numbers = new ArrayList<>(count);
+        while (numbers.size() < count) {
+            NumberRange range = current.get();
+            long start = range.take(count - numbers.size());
+            if (start < 0) {
+                refill(range);
+                continue;
+            }
+            long end = Math.min(start + count - numbers.size(), range.end);
+            for (long number = start; number < end; number++) {
+                numbers.add(number);
+            }
+            if (range.remaining() <= refillThreshold()) {
+                prefetch();
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * Reemplaza el bloque agotado. Solo un hilo hace el reemplazo; los demás
+     * esperan y reintentan sobre el bloque nuevo.
+     */
+    private synchronized void refill(NumberRange exhausted) {
+        if (current.get() != exhausted) {
+            return;
+        }
+        CompletableFuture<NumberRange> pending = prefetched.getAndSet(null);
+        NumberRange next = null;
+        if (pending != null) {
+            try {
+                next = pending.join();
+            } catch (CompletionException e) {
+                log.warn("Falló la reserva anticipada de números de cuenta: {}", e.getMessage());
+            }
+        }
+        current.set(next != null ? next : reserve());
+    }
+
+    private void prefetch() {
+        CompletableFuture<NumberRange> pending = new CompletableFuture<>();
+        if (!prefetched.compareAndSet(null, pending)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    pending.complete(reserve());
+                } catch (RuntimeException e) {
+                    pending.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            prefetched.compareAndSet(pending, null);
+        }
+    }
+
+    private NumberRange reserve() {
+        int blockSize = FileProcessingConstants.ACCOUNT_NUMBER_BLOCK_SIZE;
+        long start = accountRepository.reserveAccountNumbers(blockSize);
+        log.debug("Bloque de números de cuenta reservado: [{}, {})", start, start + blockSize);
+        return new NumberRange(start, start + blockSize);
+    }
+
+    private static long refillThreshold() {
+        return (long) FileProcessingConstants.ACCOUNT_NUMBER_BLOCK_SIZE
+                * FileProcessingConstants.ACCOUNT_NUMBER_REFILL_PERCENT / 100;
+    }
+
+    private static final class NumberRange {
+        private static final NumberRange EMPTY = new NumberRange(0, 0);
+
+        private final AtomicLong next;
+        private final long end;
+
+        private NumberRange(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+
+        /**
+         * Toma hasta count números del bloque y retorna el primero, o -1 si está agotado
+         */
+        long take(int count) {
+            while (true) {
+                long start = next.get();
+                if (start >= end) {
+                    return -1;
+                }
+                if (next.compareAndSet(start, Math.min(start + count, end))) {
+                    return start;
+                }
+            }
+        }
+
+        long remaining() {
+            return Math.max(0, end - next.get());
+        }
+    }
+}
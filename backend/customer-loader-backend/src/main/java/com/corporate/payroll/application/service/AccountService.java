@@ -1,5 +1,6 @@
 package com.corporate.payroll.application.service;
 
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
 import com.corporate.payroll.application.port.out.AccountRepositoryPort;
 import com.corporate.payroll.application.port.out.PayrollPaymentRepositoryPort;
 import com.corporate.payroll.domain.exception.BusinessLogicException;
@@ -10,6 +11,7 @@ import jakarta.inject.Inject;
 import java.util.Optional;
 
 @ApplicationScoped
+@PerformanceMetrics
 public class AccountService {
 
     @Inject
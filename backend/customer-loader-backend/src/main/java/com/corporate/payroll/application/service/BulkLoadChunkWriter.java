@@ -0,0 +1,199 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.application.port.out.BulkLoadErrorRepositoryPort;
+import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
+import com.corporate.payroll.application.port.out.EntityCounterPort;
+import com.corporate.payroll.application.service.dto.RowProcessingContext;
+import com.corporate.payroll.application.service.ingest.IngestChunk;
+import com.corporate.payroll.application.service.ingest.IngestStage;
+import com.corporate.payroll.application.service.ingest.IngestStageTimings;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.application.util.FileProcessingConstants.ProcessStatus;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import com.corporate.payroll.domain.model.BulkLoadProcess;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Escritura transaccional de una carga masiva por bloques.
+ * Cada método corre en su propia transacción: los clientes y errores de un bloque
+ * se confirman junto con los contadores del proceso y la última línea confirmada,
+ * de modo que una carga interrumpida puede reanudarse desde ese punto.
+ */
+@Slf4j
+@ApplicationScoped
+@PerformanceMetrics
+public class BulkLoadChunkWriter {
+
+    @Inject
+    private BulkLoadErrorRepositoryPort errorRepository;
+
+    @Inject
+    private BulkLoadProcessRepositoryPort bulkLoadProcessRepository;
+
+    @Inject
+    private ClientProcessingService clientProcessingService;
+
+    @Inject
+    private EntityCounterPort entityCounters;
+
+    private int errorBatchSize;
+
+    @PostConstruct
+    void init() {
+        errorBatchSize = errorBatchSize(System.getenv("ERROR_INSERT_BATCH_SIZE"));
+    }
+
+    /**
+     * Tamaño de lote configurado. Un valor mayor al que admite un INSERT de MySQL se reduce al máximo.
+     */
+    static int errorBatchSize(String configured) {
+        if (configured == null || configured.isBlank()) {
+            return FileProcessingConstants.ERROR_INSERT_BATCH_SIZE;
+        }
+        int batchSize;
+        try {
+            batchSize = Integer.parseInt(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("ERROR_INSERT_BATCH_SIZE inválido: " + configured, e);
+        }
+        if (batchSize < 1) {
+            throw new IllegalStateException("ERROR_INSERT_BATCH_SIZE inválido: debe ser mayor a cero");
+        }
+        if (batchSize > FileProcessingConstants.MAX_ERROR_INSERT_BATCH_SIZE) {
+            log.warn("ERROR_INSERT_BATCH_SIZE={} supera el máximo de parámetros por sentencia; se usa {}",
+                    batchSize, FileProcessingConstants.MAX_ERROR_INSERT_BATCH_SIZE);
+            return FileProcessingConstants.MAX_ERROR_INSERT_BATCH_SIZE;
+        }
+        return batchSize;
+    }
+
+    public record ChunkResult(int successCount, int errorCount) {
+    }
+
+    @Transactional(value = TxType.REQUIRES_NEW, rollbackOn = Exception.class)
+    public BulkLoadProcess create(BulkLoadProcess process) {
+        return bulkLoadProcessRepository.save(process);
+    }
+
+    /**
+     * Marca el proceso como PROCESSING y retorna su estado confirmado
+     */
+    @Transactional(value = TxType.REQUIRES_NEW, rollbackOn = Exception.class)
+    public BulkLoadProcess start(String processId) {
+        BulkLoadProcess process = findProcess(processId);
+        process.setStatus(ProcessStatus.PROCESSING.getValue());
+        return bulkLoadProcessRepository.update(process);
+    }
+
+    /**
+     * Crea el destino de errores de una carga. El tamaño de lote se configura con la
+     * variable de entorno ERROR_INSERT_BATCH_SIZE.
+     */
+    public BulkLoadErrorSink openErrorSink(IngestStageTimings timings) {
+        return new BulkLoadErrorSink(errorRepository, errorBatchSize, timings);
+    }
+
+    /**
+     * Persiste un bloque y avanza el checkpoint del proceso en la misma transacción.
+     * Los errores pendientes en el sink se escriben antes del commit. El contador de clientes
+     * se incrementa al final: su fila queda bloqueada hasta el commit y es compartida por
+     * todas las cargas en curso.
+     */
+    @Transactional(value = TxType.REQUIRES_NEW, rollbackOn = Exception.class)
+    public ChunkResult write(String processId, IngestChunk chunk, BulkLoadErrorSink errorSink,
+                             IngestStageTimings timings) {
+        try {
+            return writeChunk(processId, chunk, errorSink, timings, false);
+        } catch (RuntimeException e) {
+            errorSink.discard();
+            throw e;
+        }
+    }
+
+    /**
+     * Reintenta un bloque cuyo lote fue rechazado por la base. Cada cliente se inserta en su propia
+     * transacción y la fila rechazada queda como PROCESSING_ERROR; los errores y el checkpoint se
+     * confirman después, en la transacción del bloque. Si esa transacción falla, al reanudar las
+     * filas ya insertadas se reportan como clientes existentes.
+     */
+    @Transactional(value = TxType.REQUIRES_NEW, rollbackOn = Exception.class)
+    public ChunkResult writeRowByRow(String processId, IngestChunk chunk, BulkLoadErrorSink errorSink,
+                                     IngestStageTimings timings) {
+        try {
+            return writeChunk(processId, chunk, errorSink, timings, true);
+        } catch (RuntimeException e) {
+            errorSink.discard();
+            throw e;
+        }
+    }
+
+    private ChunkResult writeChunk(String processId, IngestChunk chunk, BulkLoadErrorSink errorSink,
+                                   IngestStageTimings timings, boolean isolateRows) {
+        int errorCount = chunk.getErrors().size();
+        errorSink.addAll(chunk.getErrors());
+
+        List<RowProcessingContext> validRows = chunk.getValidRows();
+        int successCount = isolateRows
+                ? clientProcessingService.processClientsRowByRow(validRows, errorSink, timings)
+                : clientProcessingService.processClients(validRows, errorSink, timings);
+        errorCount += validRows.size() - successCount;
+        errorSink.flush();
+
+        long checkpointStart = System.nanoTime();
+        BulkLoadProcess process = findProcess(processId);
+        process.setSuccessfulCount(valueOf(process.getSuccessfulCount()) + successCount);
+        process.setErrorCount(valueOf(process.getErrorCount()) + errorCount);
+        process.setTotalRecords(process.getSuccessfulCount() + process.getErrorCount());
+        process.setLastCommittedLine(chunk.getLastLineNumber());
+        bulkLoadProcessRepository.update(process);
+        timings.recordSince(IngestStage.CHECKPOINT, checkpointStart);
+
+        if (successCount > 0) {
+            entityCounters.increment(EntityCounterPort.Counter.CLIENTS, successCount);
+        }
+
+        log.debug("Bloque confirmado hasta la línea {}", chunk.getLastLineNumber());
+        return new ChunkResult(successCount, errorCount);
+    }
+
+    /**
+     * Cierra el proceso con el estado final según sus contadores acumulados
+     */
+    @Transactional(value = TxType.REQUIRES_NEW, rollbackOn = Exception.class)
+    public BulkLoadProcess complete(String processId) {
+        BulkLoadProcess process = findProcess(processId);
+        int successCount = valueOf(process.getSuccessfulCount());
+        int errorCount = valueOf(process.getErrorCount());
+
+        process.setStatus(errorCount > 0 && successCount == 0
+                ? ProcessStatus.ERROR.getValue()
+                : ProcessStatus.COMPLETED.getValue());
+        process.setTotalRecords(successCount + errorCount);
+        return bulkLoadProcessRepository.update(process);
+    }
+
+    @Transactional(value = TxType.REQUIRES_NEW, rollbackOn = Exception.class)
+    public void markFailed(String processId) {
+        bulkLoadProcessRepository.findByProcessId(processId).ifPresent(process -> {
+            process.setStatus(ProcessStatus.ERROR.getValue());
+            bulkLoadProcessRepository.update(process);
+        });
+    }
+
+    private BulkLoadProcess findProcess(String processId) {
+        return bulkLoadProcessRepository.findByProcessId(processId)
+                .orElseThrow(() -> new BusinessLogicException("Proceso no encontrado: " + processId));
+    }
+
+    private static int valueOf(Integer count) {
+        return count != null ? count : 0;
+    }
+}
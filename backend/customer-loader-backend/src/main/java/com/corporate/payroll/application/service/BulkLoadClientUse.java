@@ -1,13 +1,29 @@
 package com.corporate.payroll.application.service;
 
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
 import com.corporate.payroll.adapter.in.web.dto.BulkLoadStatisticsResponseDto;
+import com.corporate.payroll.application.monitoring.ChunkCommitEvent;
 import com.corporate.payroll.application.port.in.BulkLoadClientUseCase;
-import com.corporate.payroll.application.port.out.BulkLoadErrorRepositoryPort;
+import com.corporate.payroll.application.port.in.IngestMode;
 import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
-import com.corporate.payroll.application.service.dto.RowProcessingContext;
-import com.corporate.payroll.domain.model.BulkLoadError;
+import com.corporate.payroll.application.port.out.StageTimingRepositoryPort;
+import com.corporate.payroll.application.service.ingest.IngestChunk;
+import com.corporate.payroll.application.service.ingest.IngestPipeline;
+import com.corporate.payroll.application.service.ingest.IngestProgress;
+import com.corporate.payroll.application.service.ingest.IngestProgressRegistry;
+import com.corporate.payroll.application.service.ingest.IngestSpooler;
+import com.corporate.payroll.application.service.ingest.IngestStage;
+import com.corporate.payroll.application.service.ingest.IngestStageTimings;
+import com.corporate.payroll.application.service.ingest.MappedFileRowReader;
+import com.corporate.payroll.application.service.ingest.StreamingRowReader;
 import com.corporate.payroll.domain.model.BulkLoadProcess;
 import com.corporate.payroll.domain.exception.BusinessLogicException;
+import com.corporate.payroll.domain.exception.RowRejectedException;
+import com.corporate.payroll.application.util.FileProcessingConstants.ProcessStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -17,19 +33,24 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.util.*;
-
-import static com.corporate.payroll.application.util.FileFieldValidator.parseCsvLine;
-
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Carga masiva de clientes.
+ * No abre una transacción para el archivo completo: cada bloque del pipeline se confirma
+ * por separado en {@link BulkLoadChunkWriter} junto con el checkpoint del proceso.
+ */
 @Slf4j
 @ApplicationScoped
-@Transactional
+@PerformanceMetrics
+@Transactional(Transactional.TxType.NOT_SUPPORTED)
 public class BulkLoadClientUse implements BulkLoadClientUseCase {
 
-    @Inject
-    private BulkLoadErrorRepositoryPort errorRepository;
-
     @Inject
     private BulkLoadProcessRepositoryPort bulkLoadProcessRepository;
 
@@ -37,135 +58,255 @@ public class BulkLoadClientUse implements BulkLoadClientUseCase {
     private RowValidationService rowValidationService;
 
     @Inject
-    private ClientProcessingService clientProcessingService;
+    private BulkLoadChunkWriter chunkWriter;
+
+    @Inject
+    private IngestPipeline ingestPipeline;
+
+    @Inject
+    private IngestSpooler ingestSpooler;
+
+    @Inject
+    private IngestProgressRegistry progressRegistry;
+
+    @Inject
+    private StageTimingRepositoryPort stageTimingRepository;
+
+    @Resource
+    private ManagedThreadFactory threadFactory;
+
+    /** Pool del parseo paralelo; sus hilos los crea el servidor con el contexto de la aplicación. */
+    private ForkJoinPool parsePool;
+
+    @PostConstruct
+    void init() {
+        parsePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), threadFactory, null, false);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        parsePool.shutdownNow();
+    }
 
     @Override
-    @Transactional(rollbackOn = Exception.class)
     public BulkLoadStatisticsResponseDto processBulkLoad(InputStream fileStream, String fileName) {
+        return processBulkLoad(fileStream, fileName, IngestMode.STREAMING);
+    }
+
+    @Override
+    public BulkLoadStatisticsResponseDto processBulkLoad(InputStream fileStream, String fileName, IngestMode mode) {
         validateInput(fileStream, fileName);
 
         String processId = UUID.randomUUID().toString();
         LocalDateTime processingDate = LocalDateTime.now();
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(fileStream))) {
-            BulkLoadProcess process = createBulkLoadProcess(processId, fileName, processingDate);
-            bulkLoadProcessRepository.save(process);
-
-            ProcessingResult result = processFile(reader, processId, fileName, processingDate);
+        BulkLoadProcess process = chunkWriter.create(
+                createBulkLoadProcess(processId, fileName, processingDate, ProcessStatus.PROCESSING));
+        IngestProgress progress = progressRegistry.start(processId, ProcessStatus.PROCESSING.getValue());
 
-            updateProcessStatus(process, result);
-            bulkLoadProcessRepository.update(process);
+        try {
+            if (mode == IngestMode.PARALLEL) {
+                processSpooledFile(ingestSpooler.spool(fileStream, processId), process, progress);
+            } else {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(fileStream))) {
+                    processFile(new StreamingRowReader(reader, rowValidationService, processId, fileName,
+                            processingDate, progress.getStageTimings()), 0, progress);
+                }
+            }
 
-            return buildStatisticsResponse(result.successCount, result.errorCount, processId);
+            return completeProcess(processId);
 
         } catch (IOException e) {
             log.error("Error al leer el archivo: {}", e.getMessage(), e);
+            chunkWriter.markFailed(processId);
             throw new BusinessLogicException("Error al leer el archivo");
         } catch (Exception e) {
             log.error("Error inesperado procesando archivo: {}", e.getMessage(), e);
+            chunkWriter.markFailed(processId);
             throw new BusinessLogicException("Error procesando archivo");
+        } finally {
+            progressRegistry.remove(processId);
         }
     }
 
-    private void validateInput(InputStream fileStream, String fileName) {
-        if (fileStream == null) {
-            throw new BusinessLogicException("El archivo es requerido");
-        }
-        if (fileName == null || fileName.trim().isEmpty()) {
-            throw new BusinessLogicException("El archivo no tiene nombre");
-        }
+    @Override
+    public void registerPendingBulkLoad(String processId, String fileName) {
+        chunkWriter.create(createBulkLoadProcess(processId, fileName, LocalDateTime.now(), ProcessStatus.PENDING));
     }
 
-    private ProcessingResult processFile(BufferedReader reader, String processId,
-                                         String fileName, LocalDateTime processingDate) throws IOException {
-        List<RowProcessingContext> validRows = new ArrayList<>();
-        List<BulkLoadError> allErrors = new ArrayList<>();
+    @Override
+    public BulkLoadStatisticsResponseDto processPendingBulkLoad(String processId, IngestMode mode) {
+        Path spooledFile = ingestSpooler.find(processId)
+                .orElseThrow(() -> new BusinessLogicException("Archivo de carga no disponible: " + processId));
+
+        BulkLoadProcess process = chunkWriter.start(processId);
+        IngestProgress progress = progressRegistry.start(processId, ProcessStatus.PROCESSING.getValue());
+        int resumeAfterLine = process.getLastCommittedLine() != null ? process.getLastCommittedLine() : 0;
+        if (resumeAfterLine > 0) {
+            log.info("Reanudando carga {} después de la línea {}", processId, resumeAfterLine);
+            progress.recordPersisted(process.getSuccessfulCount() != null ? process.getSuccessfulCount() : 0);
+            progress.recordErrors(process.getErrorCount() != null ? process.getErrorCount() : 0);
+        }
 
-        String line;
-        int lineNumber = 1;
-        int totalLinesRead = 0;
+        try {
+            if (mode == IngestMode.PARALLEL) {
+                processSpooledFile(spooledFile, process, progress);
+            } else {
+                processSpooledLines(spooledFile, process, resumeAfterLine, progress);
+            }
 
-        log.info("Iniciando procesamiento de archivo: {}", fileName);
+            return completeProcess(processId);
 
-        while ((line = reader.readLine()) != null) {
-            totalLinesRead++;
-            log.debug("Procesando línea {}: {}", lineNumber, line);
+        } catch (IOException e) {
+            log.error("Error al leer el archivo: {}", e.getMessage(), e);
+            throw new BusinessLogicException("Error al leer el archivo");
+        }
+    }
 
-            if (line.trim().isEmpty()) {
-                log.debug("Línea {} vacía, saltando", lineNumber);
-                lineNumber++;
-                continue;
-            }
+    @Override
+    public void prepareResume(String processId, InputStream fileStream) {
+        BulkLoadProcess process = bulkLoadProcessRepository.findByProcessId(processId)
+                .orElseThrow(() -> new BusinessLogicException("Proceso no encontrado: " + processId));
 
-            // Validar la línea
-            List<BulkLoadError> rowErrors = rowValidationService.validateRow(
-                    line, lineNumber, processId, fileName, validRows);
+        if (ProcessStatus.COMPLETED.getValue().equals(process.getStatus())) {
+            throw new BusinessLogicException("El proceso ya fue completado");
+        }
+        if (ingestSpooler.find(processId).isPresent()) {
+            return;
+        }
+        if (fileStream == null) {
+            throw new BusinessLogicException("Se requiere el archivo original para reanudar el proceso");
+        }
 
-            if (rowErrors.isEmpty()) {
-                String[] values = parseCsvLine(line);
-                RowProcessingContext context = rowValidationService.createValidContext(
-                        values, lineNumber, fileName, processingDate, processId);
-                validRows.add(context);
-                log.debug("Línea {} válida agregada", lineNumber);
-            } else {
-                allErrors.addAll(rowErrors);
-                log.debug("Línea {} con {} errores", lineNumber, rowErrors.size());
+        Path spooledFile = ingestSpooler.spool(fileStream, processId);
+        try {
+            if (Files.size(spooledFile) == 0) {
+                ingestSpooler.delete(processId);
+                throw new BusinessLogicException("Se requiere el archivo original para reanudar el proceso");
             }
-            lineNumber++;
+        } catch (IOException e) {
+            ingestSpooler.delete(processId);
+            throw new BusinessLogicException("Error al leer el archivo");
         }
+    }
 
-        log.info("Archivo procesado: {} líneas leídas, {} válidas, {} con errores",
-                totalLinesRead, validRows.size(), allErrors.size());
+    @Override
+    public void markBulkLoadFailed(String processId) {
+        chunkWriter.markFailed(processId);
+    }
 
-        // Persistir TODOS los errores de validación
-        if (!allErrors.isEmpty()) {
-            log.info("Guardando {} errores de validación", allErrors.size());
-            errorRepository.saveAll(allErrors);
+    private void validateInput(InputStream fileStream, String fileName) {
+        if (fileStream == null) {
+            throw new BusinessLogicException("El archivo es requerido");
         }
+        if (fileName == null || fileName.trim().isEmpty()) {
+            throw new BusinessLogicException("El archivo no tiene nombre");
+        }
+    }
 
-        // Procesar las filas válidas
-        ProcessingResult result = processValidRows(validRows);
-        
-        // Sumar los errores de validación al resultado
-        result = new ProcessingResult(result.successCount, result.errorCount + allErrors.size());
-        
-        return result;
+    private void processSpooledFile(Path spooledFile, BulkLoadProcess process,
+                                    IngestProgress progress) throws IOException {
+        int resumeAfterLine = process.getLastCommittedLine() != null ? process.getLastCommittedLine() : 0;
+        processFile(new MappedFileRowReader(spooledFile, rowValidationService, process.getProcessId(),
+                process.getFileName(), process.getProcessingDate(), parsePool,
+                progress.getStageTimings()), resumeAfterLine, progress);
     }
 
-    private ProcessingResult processValidRows(List<RowProcessingContext> validRows) {
-        int successCount = 0;
-        int errorCount = 0;
+    private void processSpooledLines(Path spooledFile, BulkLoadProcess process, int resumeAfterLine,
+                                     IngestProgress progress) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(spooledFile, StandardCharsets.UTF_8)) {
+            processFile(new StreamingRowReader(reader, rowValidationService, process.getProcessId(),
+                    process.getFileName(), process.getProcessingDate(), progress.getStageTimings()),
+                    resumeAfterLine, progress);
+        }
+    }
 
-        log.info("Procesando {} registros válidos", validRows.size());
-        for (RowProcessingContext context : validRows) {
-            if (clientProcessingService.processClient(context)) {
-                successCount++;
-            } else {
-                errorCount++;
+    private void processFile(IngestPipeline.IngestSource source, int resumeAfterLine,
+                             IngestProgress progress) throws IOException {
+        String processId = progress.getProcessId();
+        IngestStageTimings timings = progress.getStageTimings();
+        BulkLoadErrorSink errorSink = chunkWriter.openErrorSink(timings);
+
+        long start = System.nanoTime();
+        try {
+            ingestPipeline.run(source, chunk -> persistChunk(processId, chunk, errorSink, progress), resumeAfterLine);
+        } finally {
+            timings.recordSince(IngestStage.TOTAL, start);
+            saveStageTimings(processId, timings);
+        }
+
+        log.info("Archivo procesado: {} exitosos, {} errores ({} escritos)",
+                progress.getPersistedCount().get(), progress.getErrorCount().get(), errorSink.getWrittenCount());
+    }
+
+    private void persistChunk(String processId, IngestChunk chunk, BulkLoadErrorSink errorSink,
+                              IngestProgress progress) {
+        progress.recordChunk(chunk);
+
+        ChunkCommitEvent event = new ChunkCommitEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            BulkLoadChunkWriter.ChunkResult result;
+            try {
+                result = chunkWriter.write(processId, chunk, errorSink, progress.getStageTimings());
+            } catch (RowRejectedException e) {
+                log.warn("La base rechazó el bloque hasta la línea {} ({}); se reintenta fila por fila",
+                        chunk.getLastLineNumber(), e.getMessage());
+                result = chunkWriter.writeRowByRow(processId, chunk, errorSink, progress.getStageTimings());
+            }
+            progress.recordPersisted(result.successCount());
+            progress.recordErrors(result.errorCount());
+            event.outcome = ChunkCommitEvent.COMMITTED;
+            event.successfulCount = result.successCount();
+            event.errorCount = result.errorCount();
+        } finally {
+            progress.getStageTimings().recordSince(IngestStage.CHUNK_TRANSACTION, start);
+            progress.recordErrorWrites(errorSink.getQueuedCount(), errorSink.getWrittenCount());
+            if (event.shouldCommit()) {
+                event.processId = processId;
+                event.lineNumber = chunk.getLastLineNumber();
+                event.rows = chunk.getRowCount();
+                event.commit();
             }
         }
+    }
+
+    /**
+     * Guarda los tiempos por etapa de la ejecución, también cuando la carga falla.
+     * Un error al guardarlos no afecta el resultado de la carga.
+     */
+    private void saveStageTimings(String processId, IngestStageTimings timings) {
+        try {
+            stageTimingRepository.addAll(processId, timings.snapshot(processId));
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron guardar los tiempos por etapa del proceso {}: {}", processId, e.getMessage());
+        }
+    }
 
-        return new ProcessingResult(successCount, errorCount);
+    /**
+     * Cierra el proceso. El archivo en spool solo se elimina cuando la carga terminó,
+     * para que una carga interrumpida pueda reanudarse sin volver a subirlo.
+     */
+    private BulkLoadStatisticsResponseDto completeProcess(String processId) {
+        BulkLoadProcess process = chunkWriter.complete(processId);
+        ingestSpooler.delete(processId);
+        return buildStatisticsResponse(process.getSuccessfulCount(), process.getErrorCount(), processId);
     }
 
-    private BulkLoadProcess createBulkLoadProcess(String processId, String fileName, LocalDateTime processingDate) {
+    private BulkLoadProcess createBulkLoadProcess(String processId, String fileName,
+                                                  LocalDateTime processingDate, ProcessStatus status) {
         return BulkLoadProcess.builder()
                 .processId(processId)
                 .fileName(fileName)
-                .status("PROCESSING")
+                .status(status.getValue())
                 .processingDate(processingDate)
                 .successfulCount(0)
                 .errorCount(0)
+                .lastCommittedLine(0)
                 .build();
     }
 
-    private void updateProcessStatus(BulkLoadProcess process, ProcessingResult result) {
-        process.setStatus(result.errorCount > 0 && result.successCount == 0 ? "ERROR" : "COMPLETED");
-        process.setSuccessfulCount(result.successCount);
-        process.setErrorCount(result.errorCount);
-        process.setTotalRecords(result.successCount + result.errorCount);
-    }
-
     private BulkLoadStatisticsResponseDto buildStatisticsResponse(int successCount, int errorCount, String processId) {
         int totalCount = successCount + errorCount;
         String message = String.format("Procesamiento completado. Exitosos: %d, Errores: %d",
@@ -180,18 +321,4 @@ public class BulkLoadClientUse implements BulkLoadClientUseCase {
                 .processedAt(LocalDateTime.now())
                 .build();
     }
-
-    private String sanitizeMessage(String message) {
-        return message != null ? message.replaceAll("[\r\n\t]", "_") : "Error desconocido";
-    }
-
-    private static class ProcessingResult {
-        final int successCount;
-        final int errorCount;
-
-        ProcessingResult(int successCount, int errorCount) {
-            this.successCount = successCount;
-            this.errorCount = errorCount;
-        }
-    }
-}
\ No newline at end of file
+}
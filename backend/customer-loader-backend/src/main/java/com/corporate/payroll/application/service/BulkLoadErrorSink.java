@@ -0,0 +1,100 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.port.out.BulkLoadErrorRepositoryPort;
+import com.corporate.payroll.application.service.ingest.IngestStage;
+import com.corporate.payroll.application.service.ingest.IngestStageTimings;
+import com.corporate.payroll.domain.model.BulkLoadError;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Acumula los errores de una carga y los escribe con INSERT de múltiples filas.
+ * Cada vez que el buffer alcanza el tamaño de lote se escribe dentro de la transacción en curso;
+ * {@link #flush()} escribe el resto y debe invocarse al cerrar cada bloque, antes del commit.
+ * Se crea una instancia por carga; no es thread-safe.
+ */
+@Slf4j
+public class BulkLoadErrorSink {
+
+    private final BulkLoadErrorRepositoryPort errorRepository;
+    private final int batchSize;
+    private final List<BulkLoadError> buffer;
+    private final IngestStageTimings timings;
+
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private int writtenSinceFlush;
+
+    public BulkLoadErrorSink(BulkLoadErrorRepositoryPort errorRepository, int batchSize) {
+        this(errorRepository, batchSize, new IngestStageTimings());
+    }
+
+    public BulkLoadErrorSink(BulkLoadErrorRepositoryPort errorRepository, int batchSize, IngestStageTimings timings) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser mayor a cero");
+        }
+        this.errorRepository = errorRepository;
+        this.batchSize = batchSize;
+        this.buffer = new ArrayList<>(batchSize);
+        this.timings = timings;
+    }
+
+    public void add(BulkLoadError error) {
+        buffer.add(error);
+        queuedCount.incrementAndGet();
+        if (buffer.size() >= batchSize) {
+            writeBuffer();
+        }
+    }
+
+    public void addAll(Collection<BulkLoadError> errors) {
+        errors.forEach(this::add);
+    }
+
+    /**
+     * Escribe los errores pendientes
+     */
+    public void flush() {
+        if (!buffer.isEmpty()) {
+            writeBuffer();
+        }
+        writtenSinceFlush = 0;
+    }
+
+    /**
+     * Descarta los errores del bloque en curso cuando su transacción falla: los pendientes
+     * y los escritos desde el último {@link #flush()}, que se revierten con el rollback
+     */
+    public void discard() {
+        queuedCount.addAndGet(-(buffer.size() + writtenSinceFlush));
+        writtenCount.addAndGet(-writtenSinceFlush);
+        writtenSinceFlush = 0;
+        buffer.clear();
+    }
+
+    public long getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    private void writeBuffer() {
+        long start = System.nanoTime();
+        int written = errorRepository.insertAll(List.copyOf(buffer));
+        timings.recordSince(IngestStage.ERROR_INSERT, start);
+        writtenCount.addAndGet(written);
+        writtenSinceFlush += written;
+        log.debug("Lote de {} errores escrito ({} escritos de {} encolados)", written, writtenCount.get(), queuedCount.get());
+        buffer.clear();
+    }
+}
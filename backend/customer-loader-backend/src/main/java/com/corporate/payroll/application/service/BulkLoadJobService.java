@@ -0,0 +1,108 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.application.port.in.BulkLoadClientUseCase;
+import com.corporate.payroll.application.port.in.BulkLoadJobUseCase;
+import com.corporate.payroll.application.port.in.IngestMode;
+import com.corporate.payroll.application.service.ingest.IngestProgressRegistry;
+import com.corporate.payroll.application.service.ingest.IngestSpooler;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.application.util.FileProcessingConstants.ProcessStatus;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Orquesta las cargas asíncronas.
+ * No es transaccional: el proceso PENDING debe quedar confirmado antes de que
+ * el ejecutor empiece a procesarlo en su propia transacción.
+ * Los trabajos corren en un ejecutor propio ({@link FileProcessingConstants#INGEST_JOB_EXECUTOR})
+ * y no en el ejecutor por defecto, donde el pipeline ejecuta la lectura de cada carga.
+ */
+@Slf4j
+@ApplicationScoped
+@PerformanceMetrics
+public class BulkLoadJobService implements BulkLoadJobUseCase {
+
+    @Inject
+    private BulkLoadClientUseCase bulkLoadUseCase;
+
+    @Inject
+    private IngestSpooler ingestSpooler;
+
+    @Inject
+    private IngestProgressRegistry progressRegistry;
+
+    @Resource(lookup = FileProcessingConstants.INGEST_JOB_EXECUTOR)
+    private ManagedExecutorService jobExecutor;
+
+    @Override
+    public String submitBulkLoad(InputStream fileStream, String fileName, IngestMode mode) {
+        if (fileStream == null) {
+            throw new BusinessLogicException("El archivo es requerido");
+        }
+        if (fileName == null || fileName.trim().isEmpty()) {
+            throw new BusinessLogicException("El archivo no tiene nombre");
+        }
+
+        String processId = UUID.randomUUID().toString();
+        ingestSpooler.spool(fileStream, processId);
+        try {
+            bulkLoadUseCase.registerPendingBulkLoad(processId, fileName);
+        } catch (RuntimeException e) {
+            ingestSpooler.delete(processId);
+            throw e;
+        }
+
+        progressRegistry.register(processId, ProcessStatus.PENDING.getValue());
+        try {
+            jobExecutor.submit(() -> runJob(processId, mode));
+        } catch (RejectedExecutionException e) {
+            log.error("No se pudo encolar la carga {}: {}", processId, e.getMessage());
+            progressRegistry.remove(processId);
+            bulkLoadUseCase.markBulkLoadFailed(processId);
+            throw new BusinessLogicException("No hay capacidad para procesar la carga, intente más tarde");
+        }
+
+        log.info("Carga {} encolada en modo {}", processId, mode);
+        return processId;
+    }
+
+    @Override
+    public void resumeBulkLoad(String processId, InputStream fileStream, IngestMode mode) {
+        if (!progressRegistry.tryRegister(processId, ProcessStatus.PENDING.getValue())) {
+            throw new BusinessLogicException("El proceso ya se está ejecutando");
+        }
+
+        try {
+            bulkLoadUseCase.prepareResume(processId, fileStream);
+            jobExecutor.submit(() -> runJob(processId, mode));
+        } catch (RejectedExecutionException e) {
+            progressRegistry.remove(processId);
+            throw new BusinessLogicException("No hay capacidad para procesar la carga, intente más tarde");
+        } catch (RuntimeException e) {
+            progressRegistry.remove(processId);
+            throw e;
+        }
+
+        log.info("Carga {} encolada para reanudar en modo {}", processId, mode);
+    }
+
+    private void runJob(String processId, IngestMode mode) {
+        try {
+            bulkLoadUseCase.processPendingBulkLoad(processId, mode);
+        } catch (Exception e) {
+            log.error("Error procesando la carga {}: {}", processId, e.getMessage(), e);
+            bulkLoadUseCase.markBulkLoadFailed(processId);
+        } finally {
+            progressRegistry.remove(processId);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.application.port.in.ClientDetailQueryUseCase;
+import com.corporate.payroll.application.port.out.ClientDetailQueryPort;
+import com.corporate.payroll.application.service.dto.ClientDetail;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+@PerformanceMetrics
+public class ClientDetailQueryUse implements ClientDetailQueryUseCase {
+
+    @Inject
+    private ClientDetailQueryPort clientDetailQuery;
+
+    @Override
+    public ClientDetail getClientDetail(String clientCode) {
+        if (clientCode == null || clientCode.isBlank()) {
+            throw new BusinessLogicException("El código de cliente es requerido");
+        }
+        return clientDetailQuery.findByClientCode(clientCode)
+                .orElseThrow(() -> new BusinessLogicException("El cliente no existe: " + clientCode));
+    }
+}
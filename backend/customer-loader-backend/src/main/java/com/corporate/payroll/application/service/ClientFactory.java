@@ -1,50 +1,73 @@
 package com.corporate.payroll.application.service;
 
-import com.corporate.payroll.application.port.out.ClientRepositoryPort;
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.application.util.ClientCodeGenerator;
 import com.corporate.payroll.application.util.FileProcessingConstants;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.inject.Inject;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Factory CDI para generar códigos únicos de cliente.
- * Consulta la base de datos para verificar unicidad en lugar de mantener cache en memoria.
+ * Los códigos se generan en memoria con {@link ClientCodeGenerator}; la unicidad entre
+ * servidores depende de que cada nodo tenga un ID distinto en la variable de entorno NODE_ID.
+ * Sin NODE_ID válido el despliegue falla: un valor por defecto haría que dos servidores
+ * generen los mismos códigos.
  */
 @ApplicationScoped
+@PerformanceMetrics
 @Slf4j
 public class ClientFactory {
-    
-    private static final String CLIENT_CODE_PREFIX = FileProcessingConstants.DEFAULT_CLIENT_CODE_PREFIX;
-    
-    @Inject
-    private ClientRepositoryPort clientRepository;
-    
+
+    private static final String CLIENT_CODE_PREFIX = FileProcessingConstants.DEFAULT_CLIENT_CODE_PREFIX + "_";
+
+    private ClientCodeGenerator codeGenerator;
+
+    @PostConstruct
+    void init() {
+        codeGenerator = new ClientCodeGenerator(CLIENT_CODE_PREFIX, nodeId(System.getenv("NODE_ID")));
+    }
+
     /**
-     * Genera un código de cliente único consultando la base de datos.
-     * Retorna null si no puede generar después de 10 intentos.
-     * 
-     * @return código único de cliente o null si falla
+     * Crea el generador al iniciar la aplicación, para que un NODE_ID ausente o inválido
+     * detenga el despliegue y no la primera carga.
      */
-    public String generateUniqueClientCode() {
-        int attempts = 0;
-        final int MAX_ATTEMPTS = 10;
-        
-        while (attempts < MAX_ATTEMPTS) {
-            String code = CLIENT_CODE_PREFIX + "_" 
-            + UUID.randomUUID().toString().substring(0, 8).toUpperCase(java.util.Locale.ROOT);
-            
-            if (clientRepository.findByClientCode(code).isEmpty()) {
-                log.debug("Código de cliente generado: {}", code);
-                return code;
+    void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        log.info("Generador de códigos de cliente listo");
+    }
+
+    static int nodeId(String configured) {
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException("NODE_ID es requerido: cada servidor debe tener un ID entre 0 y "
+                    + ClientCodeGenerator.MAX_NODE_ID);
+        }
+        try {
+            int nodeId = Integer.parseInt(configured.trim());
+            if (nodeId < 0 || nodeId > ClientCodeGenerator.MAX_NODE_ID) {
+                throw new IllegalStateException("NODE_ID inválido: debe estar entre 0 y " + ClientCodeGenerator.MAX_NODE_ID);
             }
-            
-            attempts++;
-            log.warn("Código {} ya existe, reintentando (intento {}/{})", code, attempts, MAX_ATTEMPTS);
+            return nodeId;
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("NODE_ID inválido: " + configured, e);
+        }
+    }
+
+    /**
+     * Genera códigos de cliente únicos para un lote.
+     *
+     * @param count cantidad de códigos requeridos
+     * @return códigos en orden de generación
+     */
+    public List<String> generateUniqueClientCodes(int count) {
+        List<String> codes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            codes.add(codeGenerator.next());
         }
-        
-        log.error("No se pudo generar un código de cliente único después de {} intentos", MAX_ATTEMPTS);
-        return null;
+        return codes;
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,14 @@
 package com.corporate.payroll.application.service;
 
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
 import com.corporate.payroll.adapter.in.web.dto.DatabookResponseDto;
+import com.corporate.payroll.application.monitoring.DatabookLookupEvent;
 import com.corporate.payroll.application.port.out.*;
 import com.corporate.payroll.application.service.dto.RowProcessingContext;
+import com.corporate.payroll.application.service.ingest.IngestStage;
+import com.corporate.payroll.application.service.ingest.IngestStageTimings;
 import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.domain.exception.RowRejectedException;
 import com.corporate.payroll.domain.model.*;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -12,11 +17,14 @@ import lombok.extern.slf4j.Slf4j;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @ApplicationScoped
+@PerformanceMetrics
 public class ClientProcessingService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -33,55 +41,159 @@ public class ClientProcessingService {
     @Inject
     private DatabookPort databookService;
     
-    @Inject
-    private BulkLoadErrorRepositoryPort errorRepository;
-    
     @Inject
     private ClientFactory clientFactory;
     
     @Inject
     private AccountFactory accountFactory;
 
-    public boolean processClient(RowProcessingContext context) {
-        try {
-            if (clientRepository.existsByIdNumber(context.getIdNumber())) {
-                saveError(context, "El cliente con este número de identificación ya existe", 
-                         FileProcessingConstants.ErrorType.DUPLICATE_CLIENT.getValue());
-                return false;
-            }
+    @Inject
+    private IsolatedRowWriter isolatedRowWriter;
+
+    /**
+     * Procesa un bloque de filas válidas. La existencia previa de los clientes se verifica
+     * para todo el bloque con una sola consulta y los clientes, cuentas y pagos se insertan
+     * por lotes, de modo que el costo en sentencias es por bloque y no por fila.
+     *
+     * @param contexts filas válidas del bloque
+     * @param errorSink destino de los errores de las filas rechazadas
+     * @param timings tiempos por etapa de la carga
+     * @return cantidad de clientes registrados; el resto del bloque queda registrado como error
+     */
+    public int processClients(List<RowProcessingContext> contexts, BulkLoadErrorSink errorSink,
+                              IngestStageTimings timings) {
+        return process(contexts, errorSink, timings, false);
+    }
+
+    /**
+     * Procesa un bloque cuyo lote fue rechazado por la base. Cada cliente se inserta con su cuenta
+     * y su pago en una transacción propia; la fila que la base rechaza queda registrada como
+     * PROCESSING_ERROR y el resto se confirma.
+     *
+     * @param contexts filas válidas del bloque
+     * @param errorSink destino de los errores de las filas rechazadas
+     * @param timings tiempos por etapa de la carga
+     * @return cantidad de clientes registrados; el resto del bloque queda registrado como error
+     */
+    public int processClientsRowByRow(List<RowProcessingContext> contexts, BulkLoadErrorSink errorSink,
+                                      IngestStageTimings timings) {
+        return process(contexts, errorSink, timings, true);
+    }
+
+    private int process(List<RowProcessingContext> contexts, BulkLoadErrorSink errorSink,
+                        IngestStageTimings timings, boolean isolateRows) {
+        if (contexts.isEmpty()) {
+            return 0;
+        }
 
-            Optional<DatabookResponseDto> databookData = databookService.getClientInfo(
-                    context.getIdType(), context.getIdNumber());
-            
-            if (databookData.isEmpty()) {
-                saveError(context, "Cliente no encontrado en el servicio externo (Databook)", 
-                         FileProcessingConstants.ErrorType.NOT_FOUND_IN_DATABOOK.getValue());
-                return false;
+        long start = System.nanoTime();
+        Set<String> existingIdNumbers = clientRepository.findExistingIdNumbers(
+                contexts.stream().map(RowProcessingContext::getIdNumber).toList());
+        timings.recordSince(IngestStage.EXISTING_CLIENT_CHECK, start);
+
+        List<PendingClient> pending = new ArrayList<>(contexts.size());
+        for (RowProcessingContext context : contexts) {
+            if (existingIdNumbers.contains(context.getIdNumber())) {
+                errorSink.add(createError(context, "El cliente con este número de identificación ya existe",
+                        FileProcessingConstants.ErrorType.DUPLICATE_CLIENT.getValue()));
+                continue;
             }
+            DatabookLookupEvent lookup = new DatabookLookupEvent();
+            lookup.begin();
+            try {
+                start = System.nanoTime();
+                Optional<DatabookResponseDto> databookData = databookService.getClientInfo(
+                        context.getIdType(), context.getIdNumber());
+                timings.recordSince(IngestStage.DATABOOK_LOOKUP, start);
+                lookup.outcome = databookData.isPresent() ? DatabookLookupEvent.FOUND : DatabookLookupEvent.NOT_FOUND;
+
+                if (databookData.isEmpty()) {
+                    errorSink.add(createError(context, "Cliente no encontrado en el servicio externo (Databook)",
+                            FileProcessingConstants.ErrorType.NOT_FOUND_IN_DATABOOK.getValue()));
+                } else {
+                    pending.add(new PendingClient(context, databookData.get()));
+                }
+            } catch (Exception e) {
+                log.error("Error procesando cliente en fila {}: {}", context.getLineNumber(), e.getMessage());
+                errorSink.add(createError(context, "Error al procesar: " + sanitizeMessage(e.getMessage()),
+                        "PROCESSING_ERROR"));
+            } finally {
+                if (lookup.shouldCommit()) {
+                    lookup.processId = context.getProcessId();
+                    lookup.lineNumber = context.getLineNumber();
+                    lookup.commit();
+                }
+            }
+        }
 
-            String clientCode = clientFactory.generateUniqueClientCode();
-            if (clientCode == null) {
-                saveError(context, "No se pudo generar un código de cliente único", 
-                         FileProcessingConstants.ErrorType.SYSTEM_ERROR.getValue());
-                return false;
+        return pending.isEmpty() ? 0 : registerClients(pending, errorSink, timings, isolateRows);
+    }
+
+    private int registerClients(List<PendingClient> pending, BulkLoadErrorSink errorSink,
+                                IngestStageTimings timings, boolean isolateRows) {
+        long start = System.nanoTime();
+        List<String> clientCodes = clientFactory.generateUniqueClientCodes(pending.size());
+        timings.recordSince(IngestStage.CODE_GENERATION, start, pending.size());
+
+        List<RowProcessingContext> accepted = new ArrayList<>(pending.size());
+        List<Client> clients = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            PendingClient row = pending.get(i);
+            try {
+                clients.add(createClient(row.context(), row.databookData(), clientCodes.get(i)));
+                accepted.add(row.context());
+            } catch (Exception e) {
+                log.error("Error procesando cliente en fila {}: {}", row.context().getLineNumber(), e.getMessage());
+                errorSink.add(createError(row.context(), "Error al procesar: " + sanitizeMessage(e.getMessage()),
+                        "PROCESSING_ERROR"));
             }
+        }
+        if (clients.isEmpty()) {
+            return 0;
+        }
+        if (!isolateRows) {
+            return insertClients(accepted, clients, timings);
+        }
 
-            Client client = createClient(context, databookData.get(), clientCode);
-            Client savedClient = clientRepository.save(client);
+        int savedCount = 0;
+        for (int i = 0; i < clients.size(); i++) {
+            RowProcessingContext context = accepted.get(i);
+            Client client = clients.get(i);
+            try {
+                savedCount += isolatedRowWriter.write(() -> insertClients(List.of(context), List.of(client), timings));
+            } catch (RowRejectedException e) {
+                log.error("Error procesando cliente en fila {}: {}", context.getLineNumber(), e.getMessage());
+                errorSink.add(createError(context, "Error al procesar: " + sanitizeMessage(e.getMessage()),
+                        "PROCESSING_ERROR"));
+            }
+        }
+        return savedCount;
+    }
 
-            Account account = createAccount(context, savedClient);
-            Account savedAccount = accountRepository.save(account);
+    private int insertClients(List<RowProcessingContext> accepted, List<Client> clients, IngestStageTimings timings) {
+        long start = System.nanoTime();
+        List<Client> savedClients = clientRepository.saveAll(clients);
+        timings.recordSince(IngestStage.CLIENT_INSERT, start);
 
-            PayrollPayment payment = createInitialPayment(context, savedAccount);
-            paymentRepository.save(payment);
+        start = System.nanoTime();
+        List<String> accountNumbers = accountFactory.generateAccountNumbers(savedClients.size());
 
-            return true;
+        List<Account> accounts = new ArrayList<>(savedClients.size());
+        for (int i = 0; i < savedClients.size(); i++) {
+            accounts.add(createAccount(accepted.get(i), savedClients.get(i), accountNumbers.get(i)));
+        }
+        List<Account> savedAccounts = accountRepository.saveAll(accounts);
+        timings.recordSince(IngestStage.ACCOUNT_INSERT, start);
 
-        } catch (Exception e) {
-            log.error("Error procesando cliente en fila {}: {}", context.getLineNumber(), e.getMessage());
-            saveError(context, "Error al procesar: " + sanitizeMessage(e.getMessage()), "PROCESSING_ERROR");
-            return false;
+        List<PayrollPayment> payments = new ArrayList<>(savedAccounts.size());
+        for (int i = 0; i < savedAccounts.size(); i++) {
+            payments.add(createInitialPayment(accepted.get(i), savedAccounts.get(i)));
         }
+        start = System.nanoTime();
+        paymentRepository.saveAll(payments);
+        timings.recordSince(IngestStage.PAYMENT_INSERT, start);
+
+        return savedClients.size();
     }
 
     private Client createClient(RowProcessingContext context, DatabookResponseDto databookData, String clientCode) {
@@ -99,8 +211,7 @@ public class ClientProcessingService {
                 .build();
     }
 
-    private Account createAccount(RowProcessingContext context, Client client) {
-        String accountNumber = accountFactory.generateUniqueAccountNumber();
+    private Account createAccount(RowProcessingContext context, Client client, String accountNumber) {
         return Account.builder()
                 .accountNumber(accountNumber)
                 .clientId(client.getId())
@@ -118,17 +229,20 @@ public class ClientProcessingService {
                 .build();
     }
 
-    private void saveError(RowProcessingContext context, String message, String errorType) {
-        BulkLoadError error = BulkLoadError.builder()
+    private BulkLoadError createError(RowProcessingContext context, String message, String errorType) {
+        log.debug("Fila {} rechazada ({}): {}", context.getLineNumber(), errorType, message);
+        return BulkLoadError.builder()
                 .processId(context.getProcessId())
                 .lineNumber(context.getLineNumber())
                 .errorMessage(message)
                 .fieldName(context.getFileName())
                 .build();
-        errorRepository.saveAll(List.of(error));
     }
 
     private String sanitizeMessage(String message) {
         return message != null ? message.replaceAll("[\\r\\n\\t]", "_") : "Error desconocido";
     }
-}
\ No newline at end of file
+
+    private record PendingClient(RowProcessingContext context, DatabookResponseDto databookData) {
+    }
+}
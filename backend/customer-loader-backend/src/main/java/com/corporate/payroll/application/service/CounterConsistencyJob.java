@@ -0,0 +1,64 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.application.port.out.EntityCounterPort;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifica periódicamente los contadores de registros contra el conteo real de cada tabla
+ * y corrige las diferencias, por ejemplo filas borradas manualmente o cargas anteriores
+ * a la creación de los contadores.
+ */
+@Slf4j
+@ApplicationScoped
+@PerformanceMetrics
+public class CounterConsistencyJob {
+
+    @Inject
+    private EntityCounterPort entityCounters;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    private ScheduledFuture<?> schedule;
+
+    void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        long interval = FileProcessingConstants.COUNTER_CHECK_INTERVAL_MINUTES;
+        schedule = scheduler.scheduleWithFixedDelay(this::checkCounters, 1, interval, TimeUnit.MINUTES);
+        log.info("Verificación de contadores programada cada {} minutos", interval);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (schedule != null) {
+            schedule.cancel(false);
+        }
+    }
+
+    /**
+     * Reconcilia cada contador. Un fallo en uno no impide verificar los demás.
+     */
+    public void checkCounters() {
+        for (EntityCounterPort.Counter counter : EntityCounterPort.Counter.values()) {
+            try {
+                long drift = entityCounters.reconcile(counter);
+                if (drift != 0) {
+                    log.warn("Contador {} corregido en {} registros", counter, drift);
+                }
+            } catch (Exception e) {
+                log.error("Error verificando el contador {}: {}", counter, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.corporate.payroll.application.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+
+import java.util.function.Supplier;
+
+/**
+ * Escritura de una sola fila en su propia transacción. La usa el reintento fila por fila
+ * de un bloque rechazado por la base: la fila que falla se revierte sola y el resto se confirma.
+ */
+@ApplicationScoped
+public class IsolatedRowWriter {
+
+    @Transactional(value = TxType.REQUIRES_NEW, rollbackOn = Exception.class)
+    public <T> T write(Supplier<T> row) {
+        return row.get();
+    }
+}
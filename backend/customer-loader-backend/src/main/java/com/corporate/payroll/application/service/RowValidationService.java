@@ -1,6 +1,8 @@
 package com.corporate.payroll.application.service;
 
 import com.corporate.payroll.application.service.dto.RowProcessingContext;
+import com.corporate.payroll.application.util.DelimitedLineTokenizer;
+import com.corporate.payroll.application.util.DuplicateIdDetector;
 import com.corporate.payroll.application.util.FileProcessingConstants;
 import com.corporate.payroll.domain.model.BulkLoadError;
 import com.corporate.payroll.domain.service.ClientValidator;
@@ -10,32 +12,51 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-
-import static com.corporate.payroll.application.util.FileFieldValidator.parseCsvLine;
+import java.util.Optional;
 
 @Slf4j
 @ApplicationScoped
 public class RowValidationService {
 
-    public List<BulkLoadError> validateRow(String line, int lineNumber, String processId, 
+    /**
+     * Valida una fila ya separada en campos por el tokenizador del archivo,
+     * incluyendo la verificación de duplicados dentro del mismo archivo.
+     * Los campos se leen del tokenizador sin volver a parsear la línea.
+     */
+    public List<BulkLoadError> validateRow(DelimitedLineTokenizer fields, int lineNumber, String processId,
                                           String fileName,
-                                          List<RowProcessingContext> existingRows) {
-        
-        List<BulkLoadError> errors = new ArrayList<>();
-        
+                                          DuplicateIdDetector duplicateDetector) {
+
+        List<BulkLoadError> errors = validateFields(fields, lineNumber, processId, fileName);
+
+        if (errors.isEmpty()) {
+            checkDuplicateInFile(fields.field(FileProcessingConstants.INDEX_ID_NUMBER),
+                    lineNumber, processId, fileName, duplicateDetector)
+                    .ifPresent(errors::add);
+        }
+
+        return errors;
+    }
+
+    /**
+     * Valida los campos de una fila sin considerar las demás filas del archivo.
+     * Puede ejecutarse en paralelo sobre distintos rangos del archivo.
+     */
+    public List<BulkLoadError> validateFields(DelimitedLineTokenizer fields, int lineNumber, String processId,
+                                             String fileName) {
 
-        String[] values = parseCsvLine(line);
+        List<BulkLoadError> errors = new ArrayList<>();
 
-        if (values.length < FileProcessingConstants.MIN_COLUMNS_REQUIRED) {
-            errors.add(createIncompleteRowError(processId, lineNumber, fileName, values.length));
+        if (fields.fieldCount() < FileProcessingConstants.MIN_COLUMNS_REQUIRED) {
+            errors.add(createIncompleteRowError(processId, lineNumber, fileName, fields.fieldCount()));
         }
 
-        String idType = getValue(values, FileProcessingConstants.INDEX_ID_TYPE);
-        String idNumber = getValue(values, FileProcessingConstants.INDEX_ID_NUMBER);
-        String joinDate = getValue(values, FileProcessingConstants.INDEX_JOIN_DATE);
-        String payrollValue = getValue(values, FileProcessingConstants.INDEX_PAYROLL_VALUE);
-        String email = getValue(values, FileProcessingConstants.INDEX_EMAIL);
-        String phoneNumber = getValue(values, FileProcessingConstants.INDEX_PHONE);
+        String idType = fields.field(FileProcessingConstants.INDEX_ID_TYPE);
+        String idNumber = fields.field(FileProcessingConstants.INDEX_ID_NUMBER);
+        String joinDate = fields.field(FileProcessingConstants.INDEX_JOIN_DATE);
+        String payrollValue = fields.field(FileProcessingConstants.INDEX_PAYROLL_VALUE);
+        String email = fields.field(FileProcessingConstants.INDEX_EMAIL);
+        String phoneNumber = fields.field(FileProcessingConstants.INDEX_PHONE);
 
         List<BulkLoadError> validationErrors = ClientValidator.validateClient(
                 idType, idNumber, joinDate, payrollValue, email, phoneNumber, lineNumber);
@@ -46,23 +67,30 @@ public class RowValidationService {
         });
 
         errors.addAll(validationErrors);
+        return errors;
+    }
 
-        if (errors.isEmpty() && isDuplicateInFile(idNumber, existingRows)) {
-            errors.add(createDuplicateError(processId, lineNumber, fileName));
+    /**
+     * Verifica si el número de identificación ya apareció en una fila válida anterior del archivo.
+     * Debe invocarse en el orden de las líneas para que el primer registro sea el aceptado.
+     */
+    public Optional<BulkLoadError> checkDuplicateInFile(String idNumber, int lineNumber, String processId,
+                                                       String fileName, DuplicateIdDetector duplicateDetector) {
+        if (duplicateDetector.isDuplicate(idNumber)) {
+            return Optional.of(createDuplicateError(processId, lineNumber, fileName));
         }
-
-        return errors;
+        return Optional.empty();
     }
 
-    public RowProcessingContext createValidContext(String[] values, int lineNumber, 
+    public RowProcessingContext createValidContext(DelimitedLineTokenizer fields, int lineNumber,
                                                   String fileName, LocalDateTime processingDate, String processId) {
         return RowProcessingContext.builder()
-                .idType(getValue(values, FileProcessingConstants.INDEX_ID_TYPE))
-                .idNumber(getValue(values, FileProcessingConstants.INDEX_ID_NUMBER))
-                .joinDate(getValue(values, FileProcessingConstants.INDEX_JOIN_DATE))
-                .payrollValue(getValue(values, FileProcessingConstants.INDEX_PAYROLL_VALUE))
-                .email(getValue(values, FileProcessingConstants.INDEX_EMAIL))
-                .phoneNumber(getValue(values, FileProcessingConstants.INDEX_PHONE))
+                .idType(fields.field(FileProcessingConstants.INDEX_ID_TYPE))
+                .idNumber(fields.field(FileProcessingConstants.INDEX_ID_NUMBER))
+                .joinDate(fields.field(FileProcessingConstants.INDEX_JOIN_DATE))
+                .payrollValue(fields.field(FileProcessingConstants.INDEX_PAYROLL_VALUE))
+                .email(fields.field(FileProcessingConstants.INDEX_EMAIL))
+                .phoneNumber(fields.field(FileProcessingConstants.INDEX_PHONE))
                 .lineNumber(lineNumber)
                 .fileName(fileName)
                 .processingDate(processingDate)
@@ -70,14 +98,6 @@ public class RowValidationService {
                 .build();
     }
 
-    private String getValue(String[] values, int index) {
-        return values.length > index ? values[index].trim() : "";
-    }
-
-    private boolean isDuplicateInFile(String idNumber, List<RowProcessingContext> existingRows) {
-        return existingRows.stream().anyMatch(ctx -> ctx.getIdNumber().equals(idNumber));
-    }
-
     private BulkLoadError createIncompleteRowError(String processId, int lineNumber, String fileName, int fieldsFound) {
         return BulkLoadError.builder()
                 .processId(processId)
@@ -0,0 +1,42 @@
+package com.corporate.payroll.application.service.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Proyección de lectura con el cliente, su cuenta y su primer pago.
+ * La cuenta y el primer pago quedan en null si no existen.
+ */
+@Data
+@Builder
+public class ClientDetail {
+    private String clientCode;
+    private String idType;
+    private String idNumber;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+    private LocalDate joinDate;
+    private LocalDate birthDate;
+    private AccountDetail account;
+    private FirstPayment firstPayment;
+
+    @Data
+    @Builder
+    public static class AccountDetail {
+        private String accountNumber;
+        private BigDecimal payrollValue;
+        private String status;
+    }
+
+    @Data
+    @Builder
+    public static class FirstPayment {
+        private BigDecimal amount;
+        private LocalDate paymentDate;
+        private String status;
+    }
+}
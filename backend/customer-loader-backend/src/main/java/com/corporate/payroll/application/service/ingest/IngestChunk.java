@@ -0,0 +1,36 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.application.service.dto.RowProcessingContext;
+import com.corporate.payroll.domain.model.BulkLoadError;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Bloque de filas ya leídas y validadas que viaja entre la etapa de lectura
+ * y la etapa de persistencia del pipeline de carga masiva.
+ */
+@Getter
+public final class IngestChunk {
+
+    static final IngestChunk END = new IngestChunk(List.of(), List.of(), 0, 0, null);
+
+    private final List<RowProcessingContext> validRows;
+    private final List<BulkLoadError> errors;
+    private final int rowCount;
+    private final int lastLineNumber;
+    private final Throwable failure;
+
+    IngestChunk(List<RowProcessingContext> validRows, List<BulkLoadError> errors,
+                int rowCount, int lastLineNumber, Throwable failure) {
+        this.validRows = validRows;
+        this.errors = errors;
+        this.rowCount = rowCount;
+        this.lastLineNumber = lastLineNumber;
+        this.failure = failure;
+    }
+
+    static IngestChunk failed(Throwable failure) {
+        return new IngestChunk(List.of(), List.of(), 0, 0, failure);
+    }
+}
@@ -0,0 +1,95 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.application.service.dto.RowProcessingContext;
+import com.corporate.payroll.domain.model.BulkLoadError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Agrupa las filas producidas por la etapa de lectura en bloques de tamaño fijo
+ * y los publica en la cola acotada del pipeline.
+ * Si la cola está llena, la lectura se bloquea hasta que la persistencia libere espacio,
+ * de modo que la memoria usada no depende del tamaño del archivo.
+ * Al reanudar una carga se descartan las filas ya confirmadas en una ejecución anterior.
+ */
+public class IngestChunkEmitter {
+
+    private final BlockingQueue<IngestChunk> queue;
+    private final int chunkSize;
+    private final int resumeAfterLine;
+
+    private List<RowProcessingContext> validRows;
+    private List<BulkLoadError> errors;
+    private int rowsInChunk;
+    private int lastLineNumber;
+
+    IngestChunkEmitter(BlockingQueue<IngestChunk> queue, int chunkSize) {
+        this(queue, chunkSize, 0);
+    }
+
+    IngestChunkEmitter(BlockingQueue<IngestChunk> queue, int chunkSize, int resumeAfterLine) {
+        this.queue = queue;
+        this.chunkSize = chunkSize;
+        this.resumeAfterLine = resumeAfterLine;
+        reset();
+    }
+
+    /**
+     * Registra una fila válida
+     */
+    public void accept(RowProcessingContext context) throws InterruptedException {
+        if (context.getLineNumber() <= resumeAfterLine) {
+            return;
+        }
+        validRows.add(context);
+        rowDone(context.getLineNumber());
+    }
+
+    /**
+     * Registra los errores de una fila inválida
+     */
+    public void reject(int lineNumber, List<BulkLoadError> rowErrors) throws InterruptedException {
+        if (lineNumber <= resumeAfterLine) {
+            return;
+        }
+        errors.addAll(rowErrors);
+        rowDone(lineNumber);
+    }
+
+    /**
+     * Publica el bloque en curso aunque no esté completo
+     */
+    public void flush() throws InterruptedException {
+        if (rowsInChunk == 0) {
+            return;
+        }
+        queue.put(new IngestChunk(validRows, errors, rowsInChunk, lastLineNumber, null));
+        reset();
+    }
+
+    void complete() throws InterruptedException {
+        flush();
+        queue.put(IngestChunk.END);
+    }
+
+    void fail(Throwable failure) {
+        queue.clear();
+        queue.offer(IngestChunk.failed(failure));
+    }
+
+    private void rowDone(int lineNumber) throws InterruptedException {
+        rowsInChunk++;
+        lastLineNumber = lineNumber;
+        if (rowsInChunk >= chunkSize) {
+            flush();
+        }
+    }
+
+    private void reset() {
+        validRows = new ArrayList<>(chunkSize);
+        errors = new ArrayList<>();
+        rowsInChunk = 0;
+    }
+}
@@ -0,0 +1,102 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+
+/**
+ * Pipeline de carga masiva por etapas: lectura → validación → persistencia.
+ * La lectura y validación corren en el executor administrado y entregan bloques
+ * de tamaño fijo a través de una cola acotada; la persistencia se ejecuta en el
+ * hilo que invoca {@link #run}, solapando las escrituras en base de datos con el
+ * parseo del resto del archivo. Cada bloque es la unidad de commit de la carga.
+ * El hilo que invoca {@link #run} no debe pertenecer al executor de la lectura: queda
+ * esperando bloques de un lector que podría no llegar a obtener un hilo.
+ */
+@Slf4j
+@ApplicationScoped
+@PerformanceMetrics
+public class IngestPipeline {
+
+    @Resource
+    private ManagedExecutorService executor;
+
+    /**
+     * Etapa de lectura y validación. Publica las filas en el emisor recibido.
+     */
+    @FunctionalInterface
+    public interface IngestSource {
+        void readInto(IngestChunkEmitter emitter) throws Exception;
+    }
+
+    /**
+     * Etapa de persistencia. Recibe cada bloque en el orden del archivo.
+     */
+    @FunctionalInterface
+    public interface ChunkHandler {
+        void handle(IngestChunk chunk);
+    }
+
+    public void run(IngestSource source, ChunkHandler handler) throws IOException {
+        run(source, handler, 0);
+    }
+
+    /**
+     * Ejecuta el pipeline descartando las filas hasta la línea indicada inclusive.
+     * Las filas descartadas se leen y validan igual para que la detección de
+     * duplicados dentro del archivo vea el archivo completo.
+     *
+     * @param resumeAfterLine última línea ya confirmada; 0 procesa el archivo completo
+     */
+    public void run(IngestSource source, ChunkHandler handler, int resumeAfterLine) throws IOException {
+        BlockingQueue<IngestChunk> queue = new ArrayBlockingQueue<>(FileProcessingConstants.INGEST_QUEUE_CAPACITY);
+        IngestChunkEmitter emitter = new IngestChunkEmitter(
+                queue, FileProcessingConstants.INGEST_CHUNK_SIZE, resumeAfterLine);
+
+        Future<?> reading = executor.submit(() -> {
+            try {
+                source.readInto(emitter);
+                emitter.complete();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                emitter.fail(e);
+            }
+        });
+
+        try {
+            IngestChunk chunk;
+            while ((chunk = queue.take()) != IngestChunk.END) {
+                if (chunk.getFailure() != null) {
+                    rethrow(chunk.getFailure());
+                }
+                handler.handle(chunk);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessLogicException("Procesamiento de archivo interrumpido");
+        } finally {
+            reading.cancel(true);
+        }
+    }
+
+    private void rethrow(Throwable failure) throws IOException {
+        log.error("Falla en la etapa de lectura del archivo: {}", failure.getMessage());
+        if (failure instanceof IOException ioException) {
+            throw ioException;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new BusinessLogicException("Error procesando archivo");
+    }
+}
@@ -0,0 +1,59 @@
+package com.corporate.payroll.application.service.ingest;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contadores en memoria de una carga en curso.
+ * Se actualizan desde el pipeline y se consultan sin acceder a la base de datos.
+ */
+@Getter
+public class IngestProgress {
+
+    private final String processId;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile String status;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong validRows = new AtomicLong();
+    private final AtomicLong persistedCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong errorsQueued = new AtomicLong();
+    private final AtomicLong errorsWritten = new AtomicLong();
+    private final IngestStageTimings stageTimings = new IngestStageTimings();
+
+    IngestProgress(String processId, String status) {
+        this.processId = processId;
+        this.status = status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    /**
+     * Registra un bloque recibido por la etapa de persistencia
+     */
+    public void recordChunk(IngestChunk chunk) {
+        rowsRead.addAndGet(chunk.getRowCount());
+        validRows.addAndGet(chunk.getValidRows().size());
+    }
+
+    public void recordPersisted(int count) {
+        persistedCount.addAndGet(count);
+    }
+
+    public void recordErrors(int count) {
+        errorCount.addAndGet(count);
+    }
+
+    /**
+     * Actualiza los contadores acumulados del destino de errores de la carga
+     */
+    public void recordErrorWrites(long queued, long written) {
+        errorsQueued.set(queued);
+        errorsWritten.set(written);
+    }
+}
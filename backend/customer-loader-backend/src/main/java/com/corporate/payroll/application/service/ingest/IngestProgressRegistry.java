@@ -0,0 +1,53 @@
+package com.corporate.payroll.application.service.ingest;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de las cargas activas en este nodo.
+ * Una entrada existe desde que la carga se acepta hasta que su resultado queda confirmado.
+ */
+@ApplicationScoped
+public class IngestProgressRegistry {
+
+    private final Map<String, IngestProgress> active = new ConcurrentHashMap<>();
+
+    public IngestProgress register(String processId, String status) {
+        IngestProgress progress = new IngestProgress(processId, status);
+        active.put(processId, progress);
+        return progress;
+    }
+
+    /**
+     * Registra la carga solo si no está activa
+     *
+     * @return false si la carga ya se está ejecutando en este nodo
+     */
+    public boolean tryRegister(String processId, String status) {
+        return active.putIfAbsent(processId, new IngestProgress(processId, status)) == null;
+    }
+
+    /**
+     * Retorna el progreso registrado o lo crea si la carga todavía no estaba registrada
+     */
+    public IngestProgress start(String processId, String status) {
+        IngestProgress progress = active.computeIfAbsent(processId, id -> new IngestProgress(id, status));
+        progress.setStatus(status);
+        return progress;
+    }
+
+    public Optional<IngestProgress> find(String processId) {
+        return Optional.ofNullable(active.get(processId));
+    }
+
+    public boolean isActive(String processId) {
+        return active.containsKey(processId);
+    }
+
+    public void remove(String processId) {
+        active.remove(processId);
+    }
+}
@@ -0,0 +1,91 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.application.monitoring.PerformanceMetrics;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Copia los archivos recibidos a un directorio local para poder procesarlos
+ * sin depender del stream de la petición HTTP.
+ * El directorio se configura con la variable de entorno INGEST_SPOOL_DIR.
+ */
+@Slf4j
+@ApplicationScoped
+@PerformanceMetrics
+public class IngestSpooler {
+
+    private static final long TRANSFER_BLOCK_BYTES = 8L * 1024 * 1024;
+
+    private Path spoolDir;
+
+    @PostConstruct
+    void init() {
+        String configured = System.getenv("INGEST_SPOOL_DIR");
+        spoolDir = configured != null && !configured.isBlank()
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("java.io.tmpdir"), FileProcessingConstants.DEFAULT_SPOOL_DIR_NAME);
+    }
+
+    /**
+     * Copia el stream al archivo del proceso usando FileChannel.transferFrom
+     *
+     * @param fileStream stream del archivo recibido
+     * @param processId  ID del proceso dueño del archivo
+     * @return ruta del archivo copiado
+     */
+    public Path spool(InputStream fileStream, String processId) {
+        Path target = pathFor(processId);
+        try {
+            Files.createDirectories(spoolDir);
+            try (ReadableByteChannel source = Channels.newChannel(fileStream);
+                 FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = channel.transferFrom(source, position, TRANSFER_BLOCK_BYTES)) > 0) {
+                    position += transferred;
+                }
+                log.info("Archivo del proceso {} copiado a disco: {} bytes", processId, position);
+            }
+            return target;
+        } catch (IOException e) {
+            log.error("Error copiando archivo del proceso {}: {}", processId, e.getMessage(), e);
+            delete(processId);
+            throw new BusinessLogicException("Error al leer el archivo");
+        }
+    }
+
+    /**
+     * Retorna el archivo copiado de un proceso si todavía existe
+     */
+    public Optional<Path> find(String processId) {
+        Path path = pathFor(processId);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    public void delete(String processId) {
+        try {
+            Files.deleteIfExists(pathFor(processId));
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar el archivo temporal del proceso {}: {}", processId, e.getMessage());
+        }
+    }
+
+    private Path pathFor(String processId) {
+        return spoolDir.resolve(processId + ".txt");
+    }
+}
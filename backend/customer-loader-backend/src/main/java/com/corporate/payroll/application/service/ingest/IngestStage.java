@@ -0,0 +1,34 @@
+package com.corporate.payroll.application.service.ingest;
+
+/**
+ * Etapas de una carga masiva con tiempo medido.
+ * Las etapas por fila cuentan filas; las de persistencia cuentan sentencias o bloques.
+ */
+public enum IngestStage {
+    /** Duración total de la ejecución, de la primera lectura al último bloque confirmado. */
+    TOTAL,
+    /** Lectura de líneas del archivo y separación en campos. */
+    PARSE,
+    /** Validación de formato con ClientValidator. */
+    VALIDATION,
+    /** Verificación de identificaciones repetidas dentro del archivo. */
+    FILE_DUPLICATE_CHECK,
+    /** Consulta de identificaciones ya registradas, una por bloque. */
+    EXISTING_CLIENT_CHECK,
+    /** Consulta al servicio externo Databook, una por fila. */
+    DATABOOK_LOOKUP,
+    /** Generación de códigos de cliente. */
+    CODE_GENERATION,
+    /** Inserción de clientes. */
+    CLIENT_INSERT,
+    /** Asignación de números de cuenta e inserción de cuentas. */
+    ACCOUNT_INSERT,
+    /** Inserción de pagos iniciales. */
+    PAYMENT_INSERT,
+    /** Escritura de errores de fila. */
+    ERROR_INSERT,
+    /** Actualización de contadores y última línea confirmada del proceso. */
+    CHECKPOINT,
+    /** Transacción completa de un bloque, incluidas las etapas de persistencia y el commit. */
+    CHUNK_TRANSACTION
+}
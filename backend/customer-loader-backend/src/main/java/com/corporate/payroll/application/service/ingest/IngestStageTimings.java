@@ -0,0 +1,64 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.domain.model.StageTiming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tiempo de reloj y cantidad de invocaciones por etapa de una carga.
+ * Se registra desde el lector y el escritor del pipeline, y desde varios hilos en el modo
+ * paralelo; en ese modo el tiempo de las etapas por fila es la suma de todos los hilos
+ * y puede superar la duración total.
+ */
+public class IngestStageTimings {
+
+    private static final IngestStage[] STAGES = IngestStage.values();
+
+    private final LongAdder[] nanos = new LongAdder[STAGES.length];
+    private final LongAdder[] calls = new LongAdder[STAGES.length];
+
+    public IngestStageTimings() {
+        for (int i = 0; i < STAGES.length; i++) {
+            nanos[i] = new LongAdder();
+            calls[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registra una invocación de la etapa iniciada en startNanos (System.nanoTime())
+     */
+    public void recordSince(IngestStage stage, long startNanos) {
+        recordSince(stage, startNanos, 1);
+    }
+
+    public void recordSince(IngestStage stage, long startNanos, long count) {
+        nanos[stage.ordinal()].add(System.nanoTime() - startNanos);
+        calls[stage.ordinal()].add(count);
+    }
+
+    public long getCalls(IngestStage stage) {
+        return calls[stage.ordinal()].sum();
+    }
+
+    /**
+     * Tiempos de las etapas con al menos una invocación
+     */
+    public List<StageTiming> snapshot(String processId) {
+        List<StageTiming> timings = new ArrayList<>(STAGES.length);
+        for (IngestStage stage : STAGES) {
+            long stageCalls = calls[stage.ordinal()].sum();
+            if (stageCalls > 0) {
+                timings.add(StageTiming.builder()
+                        .processId(processId)
+                        .stage(stage.name())
+                        .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(nanos[stage.ordinal()].sum()))
+                        .calls(stageCalls)
+                        .build());
+            }
+        }
+        return timings;
+    }
+}
@@ -0,0 +1,280 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.application.monitoring.RowParseEvent;
+import com.corporate.payroll.application.monitoring.RowValidationEvent;
+import com.corporate.payroll.application.service.RowValidationService;
+import com.corporate.payroll.application.service.dto.RowProcessingContext;
+import com.corporate.payroll.application.util.DelimitedLineTokenizer;
+import com.corporate.payroll.application.util.DuplicateIdDetector;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.domain.model.BulkLoadError;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Etapa de lectura paralela sobre un archivo ya copiado a disco.
+ * El archivo se divide en rangos de bytes alineados a saltos de línea; cada rango se mapea
+ * con {@link MappedByteBuffer} y se parsea y valida en el pool fork-join.
+ * Los resultados se entregan al pipeline en el orden del archivo, donde se asignan los
+ * números de línea definitivos y se verifican los duplicados dentro del archivo.
+ * Se procesan a lo sumo tantos rangos a la vez como hilos tenga el pool.
+ */
+@Slf4j
+public class MappedFileRowReader implements IngestPipeline.IngestSource {
+
+    private static final int PROBE_BYTES = 64 * 1024;
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final Path file;
+    private final RowValidationService rowValidationService;
+    private final String processId;
+    private final String fileName;
+    private final LocalDateTime processingDate;
+    private final ForkJoinPool pool;
+    private final int rangeSize;
+    private final IngestStageTimings timings;
+
+    public MappedFileRowReader(Path file, RowValidationService rowValidationService, String processId,
+                               String fileName, LocalDateTime processingDate, ForkJoinPool pool,
+                               IngestStageTimings timings) {
+        this(file, rowValidationService, processId, fileName, processingDate, pool, timings,
+                FileProcessingConstants.INGEST_RANGE_SIZE_BYTES);
+    }
+
+    MappedFileRowReader(Path file, RowValidationService rowValidationService, String processId,
+                        String fileName, LocalDateTime processingDate, ForkJoinPool pool,
+                        IngestStageTimings timings, int rangeSize) {
+        this.file = file;
+        this.rowValidationService = rowValidationService;
+        this.processId = processId;
+        this.fileName = fileName;
+        this.processingDate = processingDate;
+        this.pool = pool;
+        this.timings = timings;
+        this.rangeSize = rangeSize;
+    }
+
+    @Override
+    public void readInto(IngestChunkEmitter emitter) throws Exception {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             DuplicateIdDetector duplicateDetector = new DuplicateIdDetector()) {
+            long size = channel.size();
+            char delimiter = detectDelimiter(channel);
+            int lineBase = 0;
+            long position = 0;
+            int ranges = 0;
+
+            log.info("Iniciando procesamiento paralelo de archivo: {} ({} bytes)", fileName, size);
+
+            while (position < size) {
+                List<ForkJoinTask<RangeResult>> window = new ArrayList<>(pool.getParallelism());
+                while (window.size() < pool.getParallelism() && position < size) {
+                    long end = nextLineBoundary(channel, position + rangeSize, size);
+                    MappedByteBuffer range = channel.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+                    window.add(pool.submit(new RangeParser(range, delimiter)));
+                    position = end;
+                    ranges++;
+                }
+                for (ForkJoinTask<RangeResult> task : window) {
+                    lineBase = emit(task.join(), lineBase, duplicateDetector, emitter);
+                }
+            }
+
+            log.info("Archivo leído: {} líneas en {} rangos, {} identificaciones válidas distintas",
+                    lineBase, ranges, duplicateDetector.size());
+        }
+    }
+
+    private int emit(RangeResult range, int lineBase, DuplicateIdDetector duplicateDetector,
+                     IngestChunkEmitter emitter) throws InterruptedException {
+        for (RowOutcome outcome : range.outcomes()) {
+            int lineNumber = lineBase + outcome.localLine();
+            if (outcome.context() != null) {
+                RowProcessingContext context = outcome.context();
+                context.setLineNumber(lineNumber);
+                long start = System.nanoTime();
+                Optional<BulkLoadError> duplicate = rowValidationService.checkDuplicateInFile(
+                        context.getIdNumber(), lineNumber, processId, fileName, duplicateDetector);
+                timings.recordSince(IngestStage.FILE_DUPLICATE_CHECK, start);
+                commitEvents(outcome, lineNumber, duplicate.isPresent());
+                if (duplicate.isPresent()) {
+                    emitter.reject(lineNumber, List.of(duplicate.get()));
+                } else {
+                    emitter.accept(context);
+                }
+            } else {
+                commitEvents(outcome, lineNumber, false);
+                outcome.errors().forEach(error -> error.setLineNumber(lineNumber));
+                emitter.reject(lineNumber, outcome.errors());
+            }
+        }
+        return lineBase + range.lineCount();
+    }
+
+    /**
+     * Registra los eventos de la fila medidos al parsear el rango, con la línea del archivo.
+     * Una fila duplicada queda con un solo evento de validación, con resultado DUPLICATE.
+     */
+    private void commitEvents(RowOutcome outcome, int lineNumber, boolean duplicate) {
+        RowParseEvent parseEvent = outcome.parseEvent();
+        if (parseEvent != null) {
+            parseEvent.lineNumber = lineNumber;
+            parseEvent.commit();
+        }
+        RowValidationEvent validationEvent = outcome.validationEvent();
+        if (validationEvent != null) {
+            validationEvent.lineNumber = lineNumber;
+            if (duplicate) {
+                validationEvent.outcome = RowValidationEvent.DUPLICATE;
+                validationEvent.errorCount = 1;
+            }
+            validationEvent.commit();
+        }
+    }
+
+    private char detectDelimiter(FileChannel channel) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate((int) Math.min(PROBE_BYTES, channel.size()));
+        channel.read(probe, 0);
+        String head = new String(probe.array(), 0, probe.position(), StandardCharsets.UTF_8);
+        for (String line : head.split("\n")) {
+            if (!line.isBlank()) {
+                return DelimitedLineTokenizer.detectDelimiter(line);
+            }
+        }
+        return DelimitedLineTokenizer.COMMA;
+    }
+
+    /**
+     * Busca el primer byte posterior al siguiente salto de línea a partir de la posición indicada
+     */
+    private long nextLineBoundary(FileChannel channel, long from, long size) throws IOException {
+        if (from >= size) {
+            return size;
+        }
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_BYTES);
+        long position = from;
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == NEW_LINE) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Resultado de una fila del rango. Los eventos ya están medidos y se registran al emitir,
+     * cuando se conoce la línea del archivo; son null si no se van a registrar.
+     */
+    private record RowOutcome(int localLine, RowProcessingContext context, List<BulkLoadError> errors,
+                              RowParseEvent parseEvent, RowValidationEvent validationEvent) {
+    }
+
+    private record RangeResult(List<RowOutcome> outcomes, int lineCount) {
+    }
+
+    /**
+     * Parsea y valida un rango del archivo usando números de línea relativos al rango
+     */
+    private final class RangeParser implements Callable<RangeResult> {
+
+        private final MappedByteBuffer range;
+        private final char delimiter;
+
+        private RangeParser(MappedByteBuffer range, char delimiter) {
+            this.range = range;
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        public RangeResult call() {
+            DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(delimiter);
+            List<RowOutcome> outcomes = new ArrayList<>();
+            byte[] lineBytes = new byte[256];
+            int limit = range.limit();
+            int start = 0;
+            int localLine = 0;
+
+            for (int i = 0; i <= limit; i++) {
+                boolean endOfRange = i == limit;
+                if (!endOfRange && range.get(i) != NEW_LINE) {
+                    continue;
+                }
+                if (endOfRange && start == limit) {
+                    break;
+                }
+                localLine++;
+                int end = i > start && range.get(i - 1) == CARRIAGE_RETURN ? i - 1 : i;
+                int length = end - start;
+                if (length > 0) {
+                    if (lineBytes.length < length) {
+                        lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
+                    }
+                    range.get(start, lineBytes, 0, length);
+                    String line = new String(lineBytes, 0, length, StandardCharsets.UTF_8);
+                    if (!line.isBlank()) {
+                        outcomes.add(parseLine(tokenizer, line, localLine));
+                    }
+                }
+                start = i + 1;
+            }
+            return new RangeResult(outcomes, localLine);
+        }
+
+        private RowOutcome parseLine(DelimitedLineTokenizer tokenizer, String line, int localLine) {
+            RowParseEvent parseEvent = new RowParseEvent();
+            parseEvent.begin();
+            long start = System.nanoTime();
+            int fieldCount = tokenizer.tokenize(line);
+            timings.recordSince(IngestStage.PARSE, start);
+            parseEvent.end();
+            if (parseEvent.shouldCommit()) {
+                parseEvent.processId = processId;
+                parseEvent.fieldCount = fieldCount;
+            } else {
+                parseEvent = null;
+            }
+
+            RowValidationEvent validationEvent = new RowValidationEvent();
+            validationEvent.begin();
+            start = System.nanoTime();
+            List<BulkLoadError> errors = rowValidationService.validateFields(tokenizer, localLine, processId, fileName);
+            timings.recordSince(IngestStage.VALIDATION, start);
+            validationEvent.end();
+            if (validationEvent.shouldCommit()) {
+                validationEvent.processId = processId;
+                validationEvent.outcome = errors.isEmpty() ? RowValidationEvent.VALID : RowValidationEvent.INVALID;
+                validationEvent.errorCount = errors.size();
+            } else {
+                validationEvent = null;
+            }
+            if (!errors.isEmpty()) {
+                return new RowOutcome(localLine, null, errors, parseEvent, validationEvent);
+            }
+            return new RowOutcome(localLine, rowValidationService.createValidContext(
+                    tokenizer, localLine, fileName, processingDate, processId), null, parseEvent, validationEvent);
+        }
+    }
+}
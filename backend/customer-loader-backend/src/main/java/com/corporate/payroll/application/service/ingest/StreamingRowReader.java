@@ -0,0 +1,119 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.application.monitoring.RowParseEvent;
+import com.corporate.payroll.application.monitoring.RowValidationEvent;
+import com.corporate.payroll.application.service.RowValidationService;
+import com.corporate.payroll.application.util.DelimitedLineTokenizer;
+import com.corporate.payroll.application.util.DuplicateIdDetector;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.domain.model.BulkLoadError;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Etapa de lectura secuencial: recorre el archivo línea por línea, valida cada fila
+ * y la entrega al pipeline sin retener las filas ya publicadas.
+ */
+@Slf4j
+public class StreamingRowReader implements IngestPipeline.IngestSource {
+
+    private final BufferedReader reader;
+    private final RowValidationService rowValidationService;
+    private final String processId;
+    private final String fileName;
+    private final LocalDateTime processingDate;
+    private final IngestStageTimings timings;
+
+    public StreamingRowReader(BufferedReader reader, RowValidationService rowValidationService,
+                              String processId, String fileName, LocalDateTime processingDate,
+                              IngestStageTimings timings) {
+        this.reader = reader;
+        this.rowValidationService = rowValidationService;
+        this.processId = processId;
+        this.fileName = fileName;
+        this.processingDate = processingDate;
+        this.timings = timings;
+    }
+
+    @Override
+    public void readInto(IngestChunkEmitter emitter) throws Exception {
+        DelimitedLineTokenizer tokenizer = null;
+        String line;
+        int lineNumber = 1;
+        int totalLinesRead = 0;
+
+        log.info("Iniciando procesamiento de archivo: {}", fileName);
+
+        try (DuplicateIdDetector duplicateDetector = new DuplicateIdDetector()) {
+            long parseStart = System.nanoTime();
+            while ((line = reader.readLine()) != null) {
+                totalLinesRead++;
+
+                if (line.isBlank()) {
+                    lineNumber++;
+                    continue;
+                }
+                if (tokenizer == null) {
+                    tokenizer = DelimitedLineTokenizer.forFirstLine(line);
+                }
+                RowParseEvent parseEvent = new RowParseEvent();
+                parseEvent.begin();
+                int fieldCount = tokenizer.tokenize(line);
+                timings.recordSince(IngestStage.PARSE, parseStart);
+                if (parseEvent.shouldCommit()) {
+                    parseEvent.processId = processId;
+                    parseEvent.lineNumber = lineNumber;
+                    parseEvent.fieldCount = fieldCount;
+                    parseEvent.commit();
+                }
+
+                List<BulkLoadError> rowErrors = validate(tokenizer, lineNumber, duplicateDetector);
+
+                if (rowErrors.isEmpty()) {
+                    emitter.accept(rowValidationService.createValidContext(
+                            tokenizer, lineNumber, fileName, processingDate, processId));
+                } else {
+                    emitter.reject(lineNumber, rowErrors);
+                }
+                lineNumber++;
+                parseStart = System.nanoTime();
+            }
+
+            log.info("Archivo leído: {} líneas, {} identificaciones válidas distintas",
+                    totalLinesRead, duplicateDetector.size());
+        }
+    }
+
+    /**
+     * Igual que {@link RowValidationService#validateRow}, midiendo por separado la validación
+     * de formato y la verificación de duplicados
+     */
+    private List<BulkLoadError> validate(DelimitedLineTokenizer tokenizer, int lineNumber,
+                                         DuplicateIdDetector duplicateDetector) {
+        RowValidationEvent event = new RowValidationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        List<BulkLoadError> errors = rowValidationService.validateFields(tokenizer, lineNumber, processId, fileName);
+        timings.recordSince(IngestStage.VALIDATION, start);
+        String outcome = errors.isEmpty() ? RowValidationEvent.VALID : RowValidationEvent.INVALID;
+
+        if (errors.isEmpty()) {
+            start = System.nanoTime();
+            rowValidationService.checkDuplicateInFile(tokenizer.field(FileProcessingConstants.INDEX_ID_NUMBER),
+                    lineNumber, processId, fileName, duplicateDetector).ifPresent(errors::add);
+            timings.recordSince(IngestStage.FILE_DUPLICATE_CHECK, start);
+            outcome = errors.isEmpty() ? RowValidationEvent.VALID : RowValidationEvent.DUPLICATE;
+        }
+        if (event.shouldCommit()) {
+            event.processId = processId;
+            event.lineNumber = lineNumber;
+            event.outcome = outcome;
+            event.errorCount = errors.size();
+            event.commit();
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,71 @@
+package com.corporate.payroll.application.util;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generador de códigos de cliente ordenados por tiempo, sin consultar la base de datos.
+ * Cada código es un entero de 63 bits: 41 bits de milisegundos desde 2024-01-01,
+ * 10 bits de nodo y 12 bits de secuencia, codificado en base32 Crockford con ancho fijo
+ * de 13 caracteres para que el orden alfabético coincida con el de creación.
+ *
+ * El estado (milisegundo, secuencia) avanza con compareAndSet: dos hilos nunca obtienen
+ * el mismo par y dos nodos con distinto ID nunca generan el mismo código. Si se agota la
+ * secuencia de un milisegundo, o el reloj retrocede, se continúa con el milisegundo siguiente.
+ */
+public final class ClientCodeGenerator {
+
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int SEQUENCE_BITS = 12;
+    private static final int NODE_BITS = 10;
+    private static final int CODE_LENGTH = 13;
+    private static final char[] CROCKFORD_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final String prefix;
+    private final long nodeBits;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * @param prefix prefijo del código, incluido el separador
+     * @param nodeId ID del nodo entre 0 y {@link #MAX_NODE_ID}, único por servidor
+     */
+    public ClientCodeGenerator(String prefix, int nodeId) {
+        this(prefix, nodeId, System::currentTimeMillis);
+    }
+
+    ClientCodeGenerator(String prefix, int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("El ID de nodo debe estar entre 0 y " + MAX_NODE_ID);
+        }
+        this.prefix = prefix;
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    public String next() {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            next = now > (current >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : current + 1;
+        } while (!state.compareAndSet(current, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return prefix + encode((millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence);
+    }
+
+    private static String encode(long value) {
+        char[] chars = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            chars[i] = CROCKFORD_ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,196 @@
+package com.corporate.payroll.application.util;
+
+import java.util.Arrays;
+
+/**
+ * Tokenizador reutilizable de líneas delimitadas por '|' o ','.
+ * El delimitador se detecta una sola vez por archivo y cada llamada a {@link #tokenize}
+ * reutiliza los mismos buffers internos: sólo se crean Strings para los campos que
+ * efectivamente se consultan con {@link #field(int)}.
+ * Soporta campos entre comillas al estilo RFC-4180 ("a|b", comillas escapadas con "").
+ * Las comillas no pueden abarcar varias líneas porque el archivo se lee por línea.
+ */
+public final class DelimitedLineTokenizer {
+
+    public static final char PIPE = '|';
+    public static final char COMMA = ',';
+
+    private static final char QUOTE = '"';
+
+    private final char delimiter;
+
+    private char[] buffer = new char[256];
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+    private String[] values = new String[8];
+    private int count;
+
+    public DelimitedLineTokenizer(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Crea un tokenizador usando el delimitador detectado en la primera línea del archivo
+     */
+    public static DelimitedLineTokenizer forFirstLine(CharSequence line) {
+        return new DelimitedLineTokenizer(detectDelimiter(line));
+    }
+
+    /**
+     * Retorna '|' si la línea contiene una barra fuera de comillas, ',' en otro caso
+     */
+    public static char detectDelimiter(CharSequence line) {
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == QUOTE) {
+                quoted = !quoted;
+            } else if (c == PIPE && !quoted) {
+                return PIPE;
+            }
+        }
+        return COMMA;
+    }
+
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Separa la línea en campos. Los campos vacíos al final de la línea se descartan,
+     * igual que en {@link String#split(String)}.
+     *
+     * @param line línea a procesar
+     * @return cantidad de campos encontrados
+     */
+    public int tokenize(CharSequence line) {
+        Arrays.fill(values, 0, count, null);
+        count = 0;
+
+        int length = line.length();
+        if (isBlank(line)) {
+            return 0;
+        }
+        ensureBufferCapacity(length);
+
+        int position = 0;
+        int written = 0;
+        int lastNonEmpty = -1;
+        while (true) {
+            ensureFieldCapacity(count + 1);
+            int rawStart = position;
+            int fieldStart = written;
+            boolean quoted = false;
+
+            int lookahead = position;
+            while (lookahead < length && line.charAt(lookahead) != delimiter
+                    && Character.isWhitespace(line.charAt(lookahead))) {
+                lookahead++;
+            }
+            if (lookahead < length && line.charAt(lookahead) == QUOTE) {
+                quoted = true;
+                position = lookahead + 1;
+                while (position < length) {
+                    char c = line.charAt(position++);
+                    if (c == QUOTE) {
+                        if (position < length && line.charAt(position) == QUOTE) {
+                            buffer[written++] = QUOTE;
+                            position++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        buffer[written++] = c;
+                    }
+                }
+            }
+
+            while (position < length && line.charAt(position) != delimiter) {
+                char c = line.charAt(position++);
+                if (!quoted || !Character.isWhitespace(c)) {
+                    buffer[written++] = c;
+                }
+            }
+
+            int fieldEnd = written;
+            if (!quoted) {
+                while (fieldStart < fieldEnd && buffer[fieldStart] <= ' ') {
+                    fieldStart++;
+                }
+                while (fieldEnd > fieldStart && buffer[fieldEnd - 1] <= ' ') {
+                    fieldEnd--;
+                }
+            }
+            starts[count] = fieldStart;
+            ends[count] = fieldEnd;
+            if (quoted || position > rawStart) {
+                lastNonEmpty = count;
+            }
+            count++;
+
+            if (position >= length) {
+                break;
+            }
+            position++;
+        }
+
+        count = lastNonEmpty + 1;
+        return count;
+    }
+
+    public int fieldCount() {
+        return count;
+    }
+
+    /**
+     * Retorna el campo indicado sin espacios al inicio ni al final,
+     * o cadena vacía si la línea no tiene tantos campos.
+     * El String se crea una sola vez por campo y por línea.
+     */
+    public String field(int index) {
+        if (index < 0 || index >= count) {
+            return "";
+        }
+        String value = values[index];
+        if (value == null) {
+            value = new String(buffer, starts[index], ends[index] - starts[index]);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Copia los campos de la última línea procesada a un arreglo nuevo
+     */
+    public String[] toArray() {
+        String[] result = new String[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = field(i);
+        }
+        return result;
+    }
+
+    private static boolean isBlank(CharSequence line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureBufferCapacity(int length) {
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+        }
+    }
+
+    private void ensureFieldCapacity(int required) {
+        if (starts.length < required) {
+            int capacity = Math.max(required, starts.length * 2);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.corporate.payroll.application.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Detector de números de identificación repetidos dentro de un archivo.
+ * Cada identificación se codifica sin pérdida en un long y se guarda en una tabla
+ * hash de direccionamiento abierto, sin crear un objeto por fila.
+ * La tabla empieza en el heap; si crece por encima de los límites configurados pasa a
+ * memoria directa y luego a un archivo temporal mapeado en memoria.
+ * Las identificaciones que no caben en un long se guardan en un HashSet aparte.
+ *
+ * No es thread-safe: debe consultarse en el orden de las líneas del archivo.
+ */
+@Slf4j
+public final class DuplicateIdDetector implements AutoCloseable {
+
+    private static final long NUMERIC_TAG = 0L;
+    private static final long ALPHANUMERIC_TAG = 1L << 62;
+    private static final int MAX_NUMERIC_LENGTH = 17;
+    private static final int MAX_ALPHANUMERIC_LENGTH = 10;
+    private static final int NUMERIC_BASE = 11;
+    private static final int ALPHANUMERIC_BASE = 63;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private static final long EMPTY = 0L;
+
+    private final long heapLimitBytes;
+    private final long offHeapLimitBytes;
+    private final Path spillDir;
+
+    private Slots slots;
+    private int size;
+    private int resizeThreshold;
+    private Set<String> unencodable;
+
+    public DuplicateIdDetector() {
+        this(FileProcessingConstants.DUPLICATE_DETECTOR_HEAP_LIMIT_BYTES,
+                FileProcessingConstants.DUPLICATE_DETECTOR_OFF_HEAP_LIMIT_BYTES,
+                Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param heapLimitBytes    tamaño máximo de la tabla en el heap
+     * @param offHeapLimitBytes tamaño máximo de la tabla en memoria directa; por encima se usa disco
+     * @param spillDir          directorio para el archivo temporal
+     */
+    public DuplicateIdDetector(long heapLimitBytes, long offHeapLimitBytes, Path spillDir) {
+        this.heapLimitBytes = heapLimitBytes;
+        this.offHeapLimitBytes = offHeapLimitBytes;
+        this.spillDir = spillDir;
+        this.slots = allocate(INITIAL_CAPACITY);
+        this.resizeThreshold = INITIAL_CAPACITY / 2;
+    }
+
+    /**
+     * Registra la identificación y retorna true si ya había sido registrada antes
+     */
+    public boolean isDuplicate(String idNumber) {
+        long key = encode(idNumber);
+        if (key == EMPTY) {
+            if (unencodable == null) {
+                unencodable = new HashSet<>();
+            }
+            return !unencodable.add(idNumber);
+        }
+        if (!insert(slots, key)) {
+            return true;
+        }
+        if (++size > resizeThreshold) {
+            grow();
+        }
+        return false;
+    }
+
+    /**
+     * Cantidad de identificaciones distintas registradas
+     */
+    public int size() {
+        return size + (unencodable != null ? unencodable.size() : 0);
+    }
+
+    /**
+     * Tipo de almacenamiento en uso: HEAP, OFF_HEAP o MAPPED_FILE
+     */
+    public String storage() {
+        return slots.storage();
+    }
+
+    @Override
+    public void close() {
+        slots.release();
+    }
+
+    /**
+     * Codificación biyectiva: identificaciones numéricas de hasta 17 dígitos y alfanuméricas
+     * de hasta 10 caracteres (distinguiendo mayúsculas) se convierten en un long positivo distinto
+     * de cero. Retorna 0 si la identificación no puede codificarse.
+     */
+    static long encode(String idNumber) {
+        int length = idNumber.length();
+        if (length == 0) {
+            return EMPTY;
+        }
+
+        boolean numeric = true;
+        for (int i = 0; i < length && numeric; i++) {
+            char c = idNumber.charAt(i);
+            numeric = c >= '0' && c <= '9';
+        }
+
+        if (numeric) {
+            if (length > MAX_NUMERIC_LENGTH) {
+                return EMPTY;
+            }
+            long value = 0;
+            for (int i = 0; i < length; i++) {
+                value = value * NUMERIC_BASE + (idNumber.charAt(i) - '0' + 1);
+            }
+            return NUMERIC_TAG | value;
+        }
+
+        if (length > MAX_ALPHANUMERIC_LENGTH) {
+            return EMPTY;
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = alphanumericDigit(idNumber.charAt(i));
+            if (digit == 0) {
+                return EMPTY;
+            }
+            value = value * ALPHANUMERIC_BASE + digit;
+        }
+        return ALPHANUMERIC_TAG | value;
+    }
+
+    private static int alphanumericDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 37;
+        }
+        return 0;
+    }
+
+    private static boolean insert(Slots table, long key) {
+        int mask = table.capacity() - 1;
+        int index = mix(key) & mask;
+        while (true) {
+            long current = table.get(index);
+            if (current == EMPTY) {
+                table.set(index, key);
+                return true;
+            }
+            if (current == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void grow() {
+        int newCapacity = slots.capacity() << 1;
+        if ((long) newCapacity * Long.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Capacidad máxima del detector de duplicados alcanzada");
+        }
+        Slots grown = allocate(newCapacity);
+        for (int i = 0; i < slots.capacity(); i++) {
+            long key = slots.get(i);
+            if (key != EMPTY) {
+                insert(grown, key);
+            }
+        }
+        if (!grown.storage().equals(slots.storage())) {
+            log.info("Detector de duplicados migrado a {} con {} identificaciones", grown.storage(), size);
+        }
+        slots.release();
+        slots = grown;
+        resizeThreshold = newCapacity / 2;
+    }
+
+    private Slots allocate(int capacity) {
+        long bytes = (long) capacity * Long.BYTES;
+        if (bytes <= heapLimitBytes) {
+            return new HeapSlots(capacity);
+        }
+        if (bytes <= offHeapLimitBytes) {
+            return new DirectSlots(capacity);
+        }
+        return MappedFileSlots.create(capacity, spillDir);
+    }
+
+    private interface Slots {
+        int capacity();
+
+        long get(int index);
+
+        void set(int index, long key);
+
+        String storage();
+
+        void release();
+    }
+
+    private static final class HeapSlots implements Slots {
+        private final long[] keys;
+
+        HeapSlots(int capacity) {
+            this.keys = new long[capacity];
+        }
+
+        public int capacity() {
+            return keys.length;
+        }
+
+        public long get(int index) {
+            return keys[index];
+        }
+
+        public void set(int index, long key) {
+            keys[index] = key;
+        }
+
+        public String storage() {
+            return "HEAP";
+        }
+
+        public void release() {
+            // liberado por el GC
+        }
+    }
+
+    private static class BufferSlots implements Slots {
+        private final int capacity;
+        private final LongBuffer keys;
+
+        BufferSlots(int capacity, ByteBuffer buffer) {
+            this.capacity = capacity;
+            this.keys = buffer.asLongBuffer();
+        }
+
+        public int capacity() {
+            return capacity;
+        }
+
+        public long get(int index) {
+            return keys.get(index);
+        }
+
+        public void set(int index, long key) {
+            keys.put(index, key);
+        }
+
+        public String storage() {
+            return "OFF_HEAP";
+        }
+
+        public void release() {
+            // memoria directa liberada al recolectar el buffer
+        }
+    }
+
+    private static final class DirectSlots extends BufferSlots {
+        DirectSlots(int capacity) {
+            super(capacity, ByteBuffer.allocateDirect(capacity * Long.BYTES));
+        }
+    }
+
+    private static final class MappedFileSlots extends BufferSlots {
+        private final Path file;
+
+        private MappedFileSlots(int capacity, Path file) {
+            super(capacity, map(file, (long) capacity * Long.BYTES));
+            this.file = file;
+        }
+
+        static MappedFileSlots create(int capacity, Path spillDir) {
+            return new MappedFileSlots(capacity, createSpillFile(spillDir));
+        }
+
+        @Override
+        public String storage() {
+            return "MAPPED_FILE";
+        }
+
+        @Override
+        public void release() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("No se pudo eliminar el archivo temporal {}: {}", file, e.getMessage());
+            }
+        }
+
+        private static Path createSpillFile(Path spillDir) {
+            try {
+                Files.createDirectories(spillDir);
+                Path file = Files.createTempFile(spillDir, "duplicate-ids-", ".bin");
+                file.toFile().deleteOnExit();
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo crear el archivo temporal del detector", e);
+            }
+        }
+
+        private static ByteBuffer map(Path file, long bytes) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo mapear el archivo temporal del detector", e);
+            }
+        }
+    }
+}
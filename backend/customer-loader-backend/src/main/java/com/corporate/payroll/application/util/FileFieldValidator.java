@@ -1,11 +1,5 @@
 package com.corporate.payroll.application.util;
 
-import com.corporate.payroll.domain.model.BulkLoadError;
-
-import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
-
 /**
  * Utilitario para validación de campos faltantes en archivos de carga masiva.
  */
@@ -14,16 +8,18 @@ public final class FileFieldValidator {
     private FileFieldValidator() {
     }
 
+    /**
+     * Separa una línea aislada detectando su delimitador.
+     * Para recorrer un archivo completo conviene reutilizar un {@link DelimitedLineTokenizer}.
+     */
     public static String[] parseCsvLine(String line) {
         if (line == null || line.isBlank()) {
             return new String[0];
         }
-        
-        String separator = line.contains("|") ? "\\|" : ",";
-        
-        return Arrays.stream(line.split(separator))
-                .map(String::trim)
-                .toArray(String[]::new);
+
+        DelimitedLineTokenizer tokenizer = DelimitedLineTokenizer.forFirstLine(line);
+        tokenizer.tokenize(line);
+        return tokenizer.toArray();
     }
 
 }
@@ -36,6 +36,68 @@ public class FileProcessingConstants {
     public static final String DEFAULT_ACCOUNT_CODE_PREFIX = "ACC";
     public static final int HEADER_ROW = 1;
 
+    /** Número de filas no vacías que forman un bloque del pipeline de carga. */
+    public static final int INGEST_CHUNK_SIZE = 500;
+    /** Bloques que pueden esperar entre la etapa de lectura y la de persistencia. */
+    public static final int INGEST_QUEUE_CAPACITY = 4;
+    /**
+     * Ejecutor de las cargas asíncronas, separado del ejecutor por defecto donde corre la etapa de
+     * lectura: un trabajo espera en la cola del pipeline a su lector, y si ambos compartieran el
+     * ejecutor, suficientes cargas simultáneas ocuparían todos los hilos sin que ningún lector empiece.
+     */
+    public static final String INGEST_JOB_EXECUTOR = "java:jboss/ee/concurrency/executor/ingest-jobs";
+    /** Tamaño aproximado en bytes de cada rango del archivo parseado en paralelo. */
+    public static final int INGEST_RANGE_SIZE_BYTES = 4 * 1024 * 1024;
+    /** Directorio por defecto donde se copian los archivos recibidos antes de procesarlos. */
+    public static final String DEFAULT_SPOOL_DIR_NAME = "customer-loader-spool";
+    /** Errores de carga escritos por cada INSERT de múltiples filas. */
+    public static final int ERROR_INSERT_BATCH_SIZE = 200;
+    /** Máximo de errores por INSERT: cada fila usa 4 parámetros y MySQL admite 65535 por sentencia. */
+    public static final int MAX_ERROR_INSERT_BATCH_SIZE = 65535 / 4;
+    /** IDs reservados por cada acceso a la tabla id_generators; debe coincidir con hibernate.jdbc.batch_size. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+    /**
+     * Fetch size de las exportaciones de clientes y errores. Con MySQL Connector/J, Integer.MIN_VALUE
+     * hace que el driver entregue las filas una a una desde el servidor en lugar de cargar todo el resultado.
+     */
+    public static final int EXPORT_FETCH_SIZE = Integer.MIN_VALUE;
+    /** Errores incluidos en el detalle de un proceso; el resto se descarga desde el reporte. */
+    public static final int ERROR_PREVIEW_SIZE = 50;
+    /** Procesos completados guardados en el cache de consultas. */
+    public static final int PROCESS_CACHE_MAX_ENTRIES = 1000;
+    /** Clientes guardados en el cache de consultas por código. */
+    public static final int CLIENT_CACHE_MAX_ENTRIES = 10000;
+    /** Antigüedad máxima de una entrada del cache de consultas; limita la desactualización entre nodos. */
+    public static final long LOOKUP_CACHE_TTL_SECONDS = 300;
+    /** Segundos que el navegador puede reutilizar las respuestas de un proceso completado sin revalidarlas. */
+    public static final int FINISHED_PROCESS_MAX_AGE_SECONDS = 300;
+    /** Tamaño mínimo de una respuesta para comprimirla con gzip. */
+    public static final int COMPRESSION_MIN_BYTES = 1024;
+    /** Nivel de deflate de las respuestas; los niveles altos cuestan mucha más CPU para JSON repetitivo. */
+    public static final int COMPRESSION_LEVEL = 5;
+    /** Intervalo entre eventos de progreso enviados a los clientes suscritos a una carga. */
+    public static final long PROGRESS_EVENT_INTERVAL_MILLIS = 1000;
+    /** Espera sugerida al cliente antes de reconectarse cuando la carga corre en otro nodo. */
+    public static final long PROGRESS_EVENT_RECONNECT_MILLIS = 5000;
+    /** Duración por defecto de una grabación de Flight Recorder iniciada desde la API de administración. */
+    public static final int RECORDING_DEFAULT_DURATION_SECONDS = 120;
+    /** Duración máxima de una grabación de Flight Recorder; al cumplirse se detiene sola. */
+    public static final int RECORDING_MAX_DURATION_SECONDS = 900;
+    /** Tamaño máximo en disco de una grabación de Flight Recorder; se descartan los datos más antiguos. */
+    public static final int RECORDING_MAX_SIZE_MB = 100;
+    /** Minutos entre verificaciones de los contadores de registros contra el conteo real. */
+    public static final long COUNTER_CHECK_INTERVAL_MINUTES = 30;
+    /** Primer número de cuenta cuando no existen cuentas previas. */
+    public static final long ACCOUNT_NUMBER_START = 1000000000L;
+    /** Números de cuenta reservados por cada acceso al contador. */
+    public static final int ACCOUNT_NUMBER_BLOCK_SIZE = 1000;
+    /** Porcentaje restante del bloque en curso a partir del cual se reserva el siguiente en segundo plano. */
+    public static final int ACCOUNT_NUMBER_REFILL_PERCENT = 25;
+    /** Tamaño máximo de la tabla del detector de duplicados en el heap (4M identificaciones). */
+    public static final long DUPLICATE_DETECTOR_HEAP_LIMIT_BYTES = 64L * 1024 * 1024;
+    /** Tamaño máximo de la tabla en memoria directa antes de pasar a un archivo mapeado. */
+    public static final long DUPLICATE_DETECTOR_OFF_HEAP_LIMIT_BYTES = 256L * 1024 * 1024;
+
     public enum ErrorType {
         INVALID_HEADERS("INVALID_HEADERS"),
         MISSING_FIELD("MISSING_FIELD"),
@@ -57,6 +119,23 @@ public class FileProcessingConstants {
         }
     }
 
+    public enum ProcessStatus {
+        PENDING("PENDING"),
+        PROCESSING("PROCESSING"),
+        COMPLETED("COMPLETED"),
+        ERROR("ERROR");
+
+        private final String value;
+
+        ProcessStatus(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
     private FileProcessingConstants() {
     }
 }
@@ -0,0 +1,12 @@
+package com.corporate.payroll.domain.exception;
+
+/**
+ * Excepción para filas que la base de datos rechaza al insertarlas, por ejemplo por
+ * una clave única repetida o un valor más largo que la columna
+ */
+public class RowRejectedException extends RuntimeException {
+
+    public RowRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
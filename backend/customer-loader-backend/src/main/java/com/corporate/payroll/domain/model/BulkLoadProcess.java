@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class BulkLoadProcess {
     
     private Long id;
@@ -19,6 +19,7 @@ public class BulkLoadProcess {
     private Integer totalRecords;
     private Integer successfulCount;
     private Integer errorCount;
+    private Integer lastCommittedLine;
     private LocalDateTime processingDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -0,0 +1,21 @@
+package com.corporate.payroll.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tiempo acumulado y cantidad de invocaciones de una etapa de la carga masiva
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StageTiming {
+
+    private String processId;
+    private String stage;
+    private Long elapsedMillis;
+    private Long calls;
+}
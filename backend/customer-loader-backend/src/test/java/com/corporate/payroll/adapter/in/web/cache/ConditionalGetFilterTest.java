@@ -0,0 +1,125 @@
+package com.corporate.payroll.adapter.in.web.cache;
+
+import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
+import com.corporate.payroll.application.service.ingest.IngestProgressRegistry;
+import com.corporate.payroll.domain.model.BulkLoadProcess;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.net.URI;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ConditionalGetFilterTest {
+
+    @Mock
+    private BulkLoadProcessRepositoryPort processRepository;
+
+    @Mock
+    private IngestProgressRegistry progressRegistry;
+
+    @Mock
+    private ContainerRequestContext requestContext;
+
+    @Mock
+    private UriInfo uriInfo;
+
+    @Mock
+    private Request request;
+
+    @InjectMocks
+    private ConditionalGetFilter filter;
+
+    private final URI requestUri = URI.create("http://localhost/api/processes/p-1/clients?size=5&page=1");
+
+    @BeforeAll
+    static void registerRuntimeDelegate() {
+        // Sin implementación de JAX-RS en las pruebas; EntityTag solo la necesita al serializarse
+        RuntimeDelegate.setInstance(mock(RuntimeDelegate.class));
+    }
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        MultivaluedMap<String, String> pathParameters = new MultivaluedHashMap<>();
+        pathParameters.putSingle("processId", "p-1");
+        when(requestContext.getMethod()).thenReturn("GET");
+        when(requestContext.getUriInfo()).thenReturn(uriInfo);
+        when(requestContext.getRequest()).thenReturn(request);
+        when(uriInfo.getPathParameters()).thenReturn(pathParameters);
+        when(uriInfo.getRequestUri()).thenReturn(requestUri);
+    }
+
+    private BulkLoadProcess process(String status, int successful) {
+        return BulkLoadProcess.builder()
+                .processId("p-1")
+                .status(status)
+                .successfulCount(successful)
+                .errorCount(2)
+                .build();
+    }
+
+    @Test
+    void testEntityTagIgnoresQueryOrderButNotProcessState() {
+        String tag = ConditionalGetFilter.entityTag(process("COMPLETED", 10), requestUri, false);
+
+        assertEquals(tag, ConditionalGetFilter.entityTag(process("COMPLETED", 10),
+                URI.create("http://localhost/api/processes/p-1/clients?page=1&size=5"), false));
+        assertNotEquals(tag, ConditionalGetFilter.entityTag(process("COMPLETED", 11), requestUri, false));
+        assertNotEquals(tag, ConditionalGetFilter.entityTag(process("COMPLETED", 10),
+                URI.create("http://localhost/api/processes/p-1/clients?size=5&page=2"), false));
+        assertNotEquals(tag, ConditionalGetFilter.entityTag(process("COMPLETED", 10), requestUri, true));
+    }
+
+    @Test
+    void testMatchingTagAbortsBeforeResourceRuns() {
+        when(processRepository.findByProcessId("p-1")).thenReturn(Optional.of(process("COMPLETED", 10)));
+        Response.ResponseBuilder notModified = mock(Response.ResponseBuilder.class, RETURNS_SELF);
+        when(request.evaluatePreconditions(any(EntityTag.class))).thenReturn(notModified);
+
+        filter.filter(requestContext);
+
+        ArgumentCaptor<EntityTag> tag = ArgumentCaptor.forClass(EntityTag.class);
+        verify(request).evaluatePreconditions(tag.capture());
+        assertFalse(tag.getValue().isWeak());
+        assertEquals(ConditionalGetFilter.entityTag(process("COMPLETED", 10), requestUri, false), tag.getValue().getValue());
+        verify(requestContext).abortWith(any());
+    }
+
+    @Test
+    void testProcessStillRunningIsNotConditional() {
+        when(processRepository.findByProcessId("p-1")).thenReturn(Optional.of(process("PROCESSING", 10)));
+
+        filter.filter(requestContext);
+
+        verifyNoInteractions(request);
+        verify(requestContext, never()).setProperty(anyString(), any());
+        verify(requestContext, never()).abortWith(any());
+    }
+
+    @Test
+    void testActiveProcessSkipsDatabaseLookup() {
+        when(progressRegistry.isActive("p-1")).thenReturn(true);
+
+        filter.filter(requestContext);
+
+        verifyNoInteractions(processRepository, request);
+        verify(requestContext, never()).abortWith(any());
+    }
+}
@@ -0,0 +1,69 @@
+package com.corporate.payroll.adapter.in.web.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThresholdGzipOutputStreamTest {
+
+    private final CompressionMetrics metrics = new CompressionMetrics();
+    private final AtomicInteger compressionStarts = new AtomicInteger();
+
+    private ThresholdGzipOutputStream newStream(ByteArrayOutputStream target) {
+        return new ThresholdGzipOutputStream(target, 64, 5, compressionStarts::incrementAndGet, metrics);
+    }
+
+    @Test
+    void testSmallResponseIsWrittenUnchanged() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        ThresholdGzipOutputStream output = newStream(target);
+
+        output.write("{\"content\":[]}".getBytes(StandardCharsets.UTF_8));
+        output.flush();
+        assertEquals(0, target.size());
+        output.finish();
+
+        assertEquals("{\"content\":[]}", target.toString(StandardCharsets.UTF_8));
+        assertEquals(0, compressionStarts.get());
+        assertEquals(1, metrics.statistics().uncompressedResponses());
+    }
+
+    @Test
+    void testLargeResponseIsCompressedAndMeasured() throws IOException {
+        String json = "{\"errorMessage\":\"Cliente no encontrado en el servicio externo (Databook)\"},".repeat(200);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        ThresholdGzipOutputStream output = newStream(target);
+
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < bytes.length; offset += 50) {
+            output.write(bytes, offset, Math.min(50, bytes.length - offset));
+        }
+        output.finish();
+
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(target.toByteArray()))) {
+            assertEquals(json, new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(1, compressionStarts.get());
+        CompressionStatistics statistics = metrics.statistics();
+        assertEquals(1, statistics.compressedResponses());
+        assertEquals(bytes.length, statistics.bytesIn());
+        assertEquals(target.size(), statistics.bytesOut());
+        assertTrue(statistics.compressionRatio() > 10);
+    }
+
+    @Test
+    void testAcceptEncodingNegotiation() {
+        assertTrue(GzipWriterInterceptor.acceptsGzip("gzip, deflate, br"));
+        assertTrue(GzipWriterInterceptor.acceptsGzip("br;q=1.0, *;q=0.5"));
+        assertFalse(GzipWriterInterceptor.acceptsGzip("*, gzip;q=0"));
+        assertFalse(GzipWriterInterceptor.acceptsGzip("identity"));
+        assertFalse(GzipWriterInterceptor.acceptsGzip(null));
+    }
+}
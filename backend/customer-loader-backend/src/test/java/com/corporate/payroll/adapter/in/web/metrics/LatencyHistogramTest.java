@@ -0,0 +1,55 @@
+package com.corporate.payroll.adapter.in.web.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot(0.5, 0.95, 0.99);
+
+        assertEquals(100_000, snapshot.count());
+        assertEquals(100_000, snapshot.maxMicros());
+        assertEquals(50_000, snapshot.quantileValues()[0], 50_000 / 64.0);
+        assertEquals(95_000, snapshot.quantileValues()[1], 95_000 / 64.0);
+        assertEquals(99_000, snapshot.quantileValues()[2], 99_000 / 64.0);
+    }
+
+    @Test
+    void testEveryValueMapsToABucketThatContainsIt() {
+        for (long value : new long[]{0, 1, 127, 128, 129, 1_000, 65_535, 1L << 30, LatencyHistogram.MAX_VALUE}) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value, "valor " + value);
+            assertTrue(index == 0 || LatencyHistogram.highestEquivalentValue(index - 1) < value, "valor " + value);
+        }
+    }
+
+    @Test
+    void testConcurrentRecordingLosesNoSamples() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 25_000; i++) {
+                    histogram.record(i % 500);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100_000, histogram.snapshot().count());
+        assertEquals(499, histogram.snapshot().maxMicros());
+    }
+}
@@ -0,0 +1,35 @@
+package com.corporate.payroll.adapter.in.web.metrics;
+
+import com.corporate.payroll.adapter.in.web.compression.CompressionStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrometheusTextWriterTest {
+
+    @Test
+    void testMethodSummaryAndCompressionCounters() {
+        PerformanceMetricsRegistry.MethodMetrics metrics =
+                new PerformanceMetricsRegistry.MethodMetrics("ProcessResource.getProcessDetails");
+        metrics.record(2_000, false);
+        metrics.record(4_000, true);
+
+        String text = new PrometheusTextWriter()
+                .methods(List.of(metrics))
+                .compression(new CompressionStatistics(3, 1, 10_000, 1_000, 10, 1_500))
+                .toString();
+
+        assertTrue(text.contains("# TYPE customer_loader_method_duration_seconds summary\n"));
+        assertTrue(text.contains(
+                "customer_loader_method_duration_seconds{method=\"ProcessResource.getProcessDetails\",quantile=\"0.5\"} 0.002"));
+        assertTrue(text.contains(
+                "customer_loader_method_duration_seconds_count{method=\"ProcessResource.getProcessDetails\"} 2\n"));
+        assertTrue(text.contains(
+                "customer_loader_method_duration_max_seconds{method=\"ProcessResource.getProcessDetails\"} 0.004000\n"));
+        assertTrue(text.contains("customer_loader_method_errors_total{method=\"ProcessResource.getProcessDetails\"} 1\n"));
+        assertTrue(text.contains("customer_loader_response_compression_bytes_total{stage=\"out\"} 1000\n"));
+        assertTrue(text.contains("customer_loader_response_compression_cpu_seconds_total 1.500000\n"));
+    }
+}
@@ -2,6 +2,7 @@ package com.corporate.payroll.adapter.in.web.rest;
 
 import com.corporate.payroll.adapter.in.web.dto.BulkLoadStatisticsResponseDto;
 import com.corporate.payroll.application.port.in.BulkLoadClientUseCase;
+import com.corporate.payroll.application.port.in.IngestMode;
 import com.corporate.payroll.domain.exception.BusinessLogicException;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,7 +37,7 @@ class BulkLoadClientResourceTest {
     void testUploadClientsWithNullInputStreamThrowsException() {
         String fileName = "test_clients.txt";
 
-        when(bulkLoadUseCase.processBulkLoad(null, fileName))
+        when(bulkLoadUseCase.processBulkLoad(null, fileName, IngestMode.STREAMING))
                 .thenThrow(new BusinessLogicException("El archivo es requerido"));
 
         assertThrows(BusinessLogicException.class, () -> {
@@ -49,7 +50,7 @@ class BulkLoadClientResourceTest {
         String fileContent = "C|12345678|2024-01-15|50000.00|test@email.com|3125551234";
         InputStream inputStream = new ByteArrayInputStream(fileContent.getBytes());
 
-        when(bulkLoadUseCase.processBulkLoad(any(InputStream.class), eq(null)))
+        when(bulkLoadUseCase.processBulkLoad(any(InputStream.class), eq(null), eq(IngestMode.STREAMING)))
                 .thenThrow(new BusinessLogicException("El archivo no tiene nombre"));
 
         assertThrows(BusinessLogicException.class, () -> {
@@ -63,7 +64,7 @@ class BulkLoadClientResourceTest {
         InputStream inputStream = new ByteArrayInputStream(fileContent.getBytes());
         String fileName = "";
 
-        when(bulkLoadUseCase.processBulkLoad(any(InputStream.class), eq(fileName)))
+        when(bulkLoadUseCase.processBulkLoad(any(InputStream.class), eq(fileName), eq(IngestMode.STREAMING)))
                 .thenThrow(new BusinessLogicException("El archivo no tiene nombre"));
 
         assertThrows(BusinessLogicException.class, () -> {
@@ -0,0 +1,65 @@
+package com.corporate.payroll.adapter.in.web.service;
+
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import com.corporate.payroll.domain.model.Client;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientExportWriterTest {
+
+    private final Client client = Client.builder()
+            .id(7L)
+            .clientCode("CLI_0001")
+            .idType("C")
+            .idNumber("1234567890")
+            .firstNames("Ana \"Lucía\"")
+            .lastNames("Pérez, Gómez")
+            .birthDate(LocalDate.of(1990, 5, 20))
+            .joinDate(LocalDate.of(2024, 1, 15))
+            .email("ana@example.com")
+            .processId("process-1")
+            .build();
+
+    @Test
+    void testCsvQuotesValuesWithSeparatorsAndLeavesNullsEmpty() throws IOException {
+        StringWriter output = new StringWriter();
+        ClientExportWriter writer = new ClientExportWriter(output, ExportFormat.CSV);
+
+        writer.writeHeader();
+        writer.write(client);
+
+        String[] lines = output.toString().split("\r\n");
+        assertEquals("id,clientCode,idType,idNumber,firstNames,lastNames,birthDate,joinDate,email,phoneNumber,processId",
+                lines[0]);
+        assertEquals("7,CLI_0001,C,1234567890,\"Ana \"\"Lucía\"\"\",\"Pérez, Gómez\",1990-05-20,2024-01-15,"
+                + "ana@example.com,,process-1", lines[1]);
+    }
+
+    @Test
+    void testNdjsonWritesOneEscapedObjectPerLine() throws IOException {
+        StringWriter output = new StringWriter();
+        ClientExportWriter writer = new ClientExportWriter(output, ExportFormat.NDJSON);
+
+        writer.writeHeader();
+        writer.write(client);
+        writer.write(client);
+
+        String[] lines = output.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":7,\"clientCode\":\"CLI_0001\""));
+        assertTrue(lines[0].contains("\"firstNames\":\"Ana \\\"Lucía\\\"\""));
+        assertTrue(lines[0].contains("\"phoneNumber\":null"));
+    }
+
+    @Test
+    void testFormatDefaultsToCsvAndRejectsUnknownValues() {
+        assertEquals(ExportFormat.CSV, ExportFormat.fromValue(null));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromValue("ndjson"));
+        assertThrows(BusinessLogicException.class, () -> ExportFormat.fromValue("xlsx"));
+    }
+}
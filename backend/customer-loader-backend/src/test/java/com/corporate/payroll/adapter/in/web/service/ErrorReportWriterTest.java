@@ -0,0 +1,44 @@
+package com.corporate.payroll.adapter.in.web.service;
+
+import com.corporate.payroll.domain.model.BulkLoadError;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorReportWriterTest {
+
+    private final BulkLoadError error = BulkLoadError.builder()
+            .id(3L)
+            .processId("process-1")
+            .lineNumber(12)
+            .fieldName("clientes.csv")
+            .errorMessage("Campo requerido: email\nrevise la fila")
+            .build();
+
+    @Test
+    void testCsvReportQuotesMultilineMessages() throws IOException {
+        StringWriter output = new StringWriter();
+        ErrorReportWriter writer = new ErrorReportWriter(output, ExportFormat.CSV);
+
+        writer.writeHeader();
+        writer.write(error);
+
+        assertEquals("id,processId,lineNumber,fieldName,errorMessage,createdAt\r\n"
+                + "3,process-1,12,clientes.csv,\"Campo requerido: email\nrevise la fila\",\r\n", output.toString());
+    }
+
+    @Test
+    void testNdjsonReportEscapesMessages() throws IOException {
+        StringWriter output = new StringWriter();
+        ErrorReportWriter writer = new ErrorReportWriter(output, ExportFormat.NDJSON);
+
+        writer.writeHeader();
+        writer.write(error);
+
+        assertEquals("{\"id\":3,\"processId\":\"process-1\",\"lineNumber\":12,\"fieldName\":\"clientes.csv\","
+                + "\"errorMessage\":\"Campo requerido: email\\nrevise la fila\",\"createdAt\":null}\n", output.toString());
+    }
+}
@@ -0,0 +1,49 @@
+package com.corporate.payroll.adapter.in.web.service;
+
+import com.corporate.payroll.adapter.in.web.dto.PagedResponseDto;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginationServiceTest {
+
+    private final PaginationService paginationService = new PaginationService();
+
+    @Test
+    void testFullPageCarriesCursorOfLastElement() {
+        LocalDateTime processingDate = LocalDateTime.of(2025, 3, 1, 10, 15, 30);
+
+        PagedResponseDto<Long> response = paginationService.createPagedResponse(
+                List.of(30L, 20L), 50, 0, 2, id -> List.of(processingDate, id));
+
+        assertNotNull(response.getNextCursor());
+        List<Object> keys = paginationService.decodeCursor(response.getNextCursor(), 2,
+                parts -> List.of(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1])));
+        assertEquals(List.of(processingDate, 20L), keys);
+    }
+
+    @Test
+    void testPartialPageHasNoCursor() {
+        PagedResponseDto<Long> response = paginationService.createPagedResponse(
+                List.of(3L), 1, 0, 20, id -> List.of(id));
+
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void testMalformedCursorIsRejected() {
+        String wrongKeyCount = paginationService.encodeCursor(List.of(1L));
+
+        assertThrows(BusinessLogicException.class,
+                () -> paginationService.decodeCursor("%%%", 1, parts -> Long.parseLong(parts[0])));
+        assertThrows(BusinessLogicException.class,
+                () -> paginationService.decodeCursor(wrongKeyCount, 2, parts -> parts));
+        assertThrows(BusinessLogicException.class,
+                () -> paginationService.decodeCursor(paginationService.encodeCursor(List.of("abc")), 1,
+                        parts -> Long.parseLong(parts[0])));
+    }
+}
@@ -0,0 +1,151 @@
+package com.corporate.payroll.adapter.in.web.sse;
+
+import com.corporate.payroll.adapter.in.web.dto.ProcessProgressEventDto;
+import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
+import com.corporate.payroll.application.service.ingest.IngestProgress;
+import com.corporate.payroll.application.service.ingest.IngestProgressRegistry;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import com.corporate.payroll.domain.model.BulkLoadProcess;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseBroadcaster;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ProgressEventPublisherTest {
+
+    @Spy
+    private IngestProgressRegistry progressRegistry = new IngestProgressRegistry();
+
+    @Mock
+    private BulkLoadProcessRepositoryPort processRepository;
+
+    @Mock
+    private ManagedScheduledExecutorService scheduler;
+
+    @InjectMocks
+    private ProgressEventPublisher publisher;
+
+    @Mock
+    private Sse sse;
+
+    @Mock
+    private SseBroadcaster broadcaster;
+
+    @Mock
+    private SseEventSink sink;
+
+    private OutboundSseEvent.Builder eventBuilder;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        eventBuilder = mock(OutboundSseEvent.Builder.class, RETURNS_SELF);
+        when(eventBuilder.build()).thenReturn(mock(OutboundSseEvent.class));
+        when(sse.newEventBuilder()).thenReturn(eventBuilder);
+        when(sse.newBroadcaster()).thenReturn(broadcaster);
+        when(broadcaster.broadcast(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(sink.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void testActiveLoadIsPublishedFromMemoryUntilItFinishes() {
+        IngestProgress progress = progressRegistry.register("PROC123", "PROCESSING");
+        publisher.subscribe("PROC123", sink, sse);
+        publisher.subscribe("PROC123", mock(SseEventSink.class), sse);
+
+        verify(sse, times(1)).newBroadcaster();
+        verify(broadcaster, times(2)).register(any());
+        verify(scheduler, times(1)).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+
+        progress.getRowsRead().addAndGet(1200);
+        progress.getValidRows().addAndGet(1100);
+        progress.recordPersisted(1000);
+        progress.recordErrors(100);
+        publisher.publish();
+
+        ProcessProgressEventDto event = lastEventData();
+        verify(eventBuilder).name(ProgressEventPublisher.PROGRESS_EVENT);
+        assertEquals(1200, event.getRowsRead());
+        assertEquals(1100, event.getValidRows());
+        assertEquals(1000, event.getSuccessfulCount());
+        assertEquals(100, event.getErrorCount());
+        assertTrue(event.getRowsPerSecond() > 0);
+        verifyNoInteractions(processRepository);
+
+        progressRegistry.remove("PROC123");
+        when(processRepository.findByProcessId("PROC123")).thenReturn(Optional.of(process("COMPLETED")));
+        publisher.publish();
+
+        verify(eventBuilder).name(ProgressEventPublisher.COMPLETE_EVENT);
+        assertEquals("COMPLETED", lastEventData().getStatus());
+        verify(broadcaster).close();
+        assertEquals(0, publisher.channelCount());
+    }
+
+    @Test
+    void testFinishedLoadSendsStoredStateAndCloses() {
+        when(processRepository.findByProcessId("PROC123")).thenReturn(Optional.of(process("COMPLETED")));
+
+        publisher.subscribe("PROC123", sink, sse);
+
+        verify(eventBuilder).name(ProgressEventPublisher.COMPLETE_EVENT);
+        verify(eventBuilder, never()).reconnectDelay(anyLong());
+        assertEquals(2000, lastEventData().getSuccessfulCount());
+        verify(sink).close();
+        verify(sse, never()).newBroadcaster();
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    void testLoadRunningOnAnotherNodeAsksClientToReconnect() {
+        when(processRepository.findByProcessId("PROC123")).thenReturn(Optional.of(process("PROCESSING")));
+
+        publisher.subscribe("PROC123", sink, sse);
+
+        verify(eventBuilder).name(ProgressEventPublisher.PROGRESS_EVENT);
+        verify(eventBuilder).reconnectDelay(anyLong());
+        verify(sink).close();
+    }
+
+    @Test
+    void testUnknownProcessIsRejected() {
+        when(processRepository.findByProcessId("MISSING")).thenReturn(Optional.empty());
+
+        assertThrows(BusinessLogicException.class, () -> publisher.subscribe("MISSING", sink, sse));
+        verify(sink, never()).send(any());
+    }
+
+    private ProcessProgressEventDto lastEventData() {
+        ArgumentCaptor<Object> data = ArgumentCaptor.forClass(Object.class);
+        verify(eventBuilder, atLeastOnce()).data(eq(ProcessProgressEventDto.class), data.capture());
+        return (ProcessProgressEventDto) data.getValue();
+    }
+
+    private BulkLoadProcess process(String status) {
+        return BulkLoadProcess.builder()
+                .processId("PROC123")
+                .status(status)
+                .totalRecords(2100)
+                .successfulCount(2000)
+                .errorCount(100)
+                .build();
+    }
+}
@@ -52,29 +52,6 @@ class BulkLoadErrorRepositoryAdapterTest {
         errorEntity.setErrorMessage("Error de prueba");
     }
 
-    @Test
-    void testSaveAllPersistsEntities() {
-        when(errorMapper.toDomainEntity(errorDomain)).thenReturn(errorEntity);
-
-        repositoryAdapter.saveAll(List.of(errorDomain));
-
-        verify(entityManager, times(1)).persist(errorEntity);
-        verify(entityManager, times(1)).flush();
-        verify(entityManager, times(1)).clear();
-    }
-
-    @Test
-    void testFindByProcessIdReturnsMappedList() {
-        when(entityManager.createQuery(anyString(), eq(BulkLoadErrorEntity.class))).thenReturn(queryMock);
-        when(queryMock.setParameter(eq("processId"), anyString())).thenReturn(queryMock);
-        when(queryMock.getResultList()).thenReturn(List.of(errorEntity));
-        when(errorMapper.toModel(errorEntity)).thenReturn(errorDomain);
-
-        List<BulkLoadError> result = repositoryAdapter.findByProcessId("PROC123");
-
-        assertEquals(1, result.size());
-    }
-
     @Test
     void testFindByProcessIdWithPaginationReturnsMappedList() {
         when(entityManager.createQuery(anyString(), eq(BulkLoadErrorEntity.class))).thenReturn(queryMock);
@@ -1,9 +1,12 @@
 package com.corporate.payroll.adapter.out.persistence;
 
+import com.corporate.payroll.application.port.out.EntityCounterPort;
+import com.corporate.payroll.domain.exception.RowRejectedException;
 import com.corporate.payroll.domain.model.Client;
 import com.corporate.payroll.adapter.out.persistence.entity.ClientEntity;
 import com.corporate.payroll.adapter.out.persistence.mapper.ClientPersistenceMapper;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import jakarta.persistence.TypedQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,10 +15,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,6 +34,9 @@ class ClientRepositoryAdapterTest {
     @Mock
     private ClientPersistenceMapper clientMapper;
 
+    @Mock
+    private EntityCounterPort entityCounters;
+
     @InjectMocks
     private ClientRepositoryAdapter clientRepositoryAdapter;
 
@@ -146,42 +154,6 @@ class ClientRepositoryAdapterTest {
         verify(query).setMaxResults(10);
     }
 
-    @Test
-    void testExistsByIdNumberWithExistingClientShouldReturnTrue() {
-        String idNumber = "1234567890";
-        TypedQuery<Long> query = mock(TypedQuery.class);
-
-        when(entityManager.createQuery(
-                "SELECT COUNT(c) FROM ClientEntity c WHERE c.idNumber = :idNumber",
-                Long.class))
-                .thenReturn(query);
-        when(query.setParameter("idNumber", idNumber)).thenReturn(query);
-        when(query.getSingleResult()).thenReturn(1L);
-
-        boolean result = clientRepositoryAdapter.existsByIdNumber(idNumber);
-
-        
-        assertTrue(result);
-    }
-
-    @Test
-    void testExistsByIdNumberWithoutExistingClientShouldReturnFalse() {
-        String idNumber = "9999999999";
-        TypedQuery<Long> query = mock(TypedQuery.class);
-
-        when(entityManager.createQuery(
-                "SELECT COUNT(c) FROM ClientEntity c WHERE c.idNumber = :idNumber",
-                Long.class))
-                .thenReturn(query);
-        when(query.setParameter("idNumber", idNumber)).thenReturn(query);
-        when(query.getSingleResult()).thenReturn(0L);
-
-        boolean result = clientRepositoryAdapter.existsByIdNumber(idNumber);
-
-        
-        assertFalse(result);
-    }
-
     @Test
     void testFindByProcessIdWithMultiplePagesShouldPaginateCorrectly() {
         String processId = "process-123";
@@ -206,4 +178,58 @@ class ClientRepositoryAdapterTest {
         verify(query).setFirstResult(expectedOffset);
         verify(query).setMaxResults(size);
     }
+
+    @Test
+    void testFindExistingIdNumbersUsesSingleQueryAndReturnsRequestedValues() {
+        TypedQuery<String> query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(String.class))).thenReturn(query);
+        when(query.setParameter(eq("idNumbers"), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of("1234567890", "PAS123"));
+
+        Set<String> existing = clientRepositoryAdapter.findExistingIdNumbers(
+                List.of("1234567890", "pas123", "9999999999", "1234567890"));
+
+        assertEquals(Set.of("1234567890", "pas123"), existing);
+        verify(entityManager, times(1)).createQuery(contains("IN :idNumbers"), eq(String.class));
+    }
+
+    @Test
+    void testFindExistingIdNumbersWithEmptyInputSkipsQuery() {
+        assertTrue(clientRepositoryAdapter.findExistingIdNumbers(List.of()).isEmpty());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void testSaveAllPersistsBatchWithSingleFlushAndNoRefresh() {
+        when(clientMapper.toDomainEntity(any(Client.class))).thenReturn(testClientEntity);
+        when(clientMapper.toModel(testClientEntity)).thenReturn(testClient);
+
+        List<Client> saved = clientRepositoryAdapter.saveAll(List.of(testClient, testClient, testClient));
+
+        assertEquals(3, saved.size());
+        verify(entityManager, times(3)).persist(testClientEntity);
+        verify(entityManager, times(1)).flush();
+        verify(entityManager, never()).refresh(any());
+        verify(entityCounters, never()).increment(any(), anyLong());
+    }
+
+    @Test
+    void testSaveAllTranslatesRowFailuresOnly() {
+        when(clientMapper.toDomainEntity(testClient)).thenReturn(testClientEntity);
+        doThrow(new PersistenceException("could not execute batch",
+                new SQLException("Duplicate entry '1234567890' for key 'id_number'", "23000")))
+                .doThrow(new PersistenceException("could not execute batch",
+                        new SQLException("Data too long for column 'email' at row 1", "22001")))
+                .doThrow(new PersistenceException("could not execute batch",
+                        new SQLException("Communications link failure", "08S01")))
+                .when(entityManager).flush();
+
+        List<Client> clients = List.of(testClient);
+        RowRejectedException duplicate = assertThrows(RowRejectedException.class,
+                () -> clientRepositoryAdapter.saveAll(clients));
+        assertEquals("Duplicate entry '1234567890' for key 'id_number'", duplicate.getMessage());
+        assertThrows(RowRejectedException.class, () -> clientRepositoryAdapter.saveAll(clients));
+        assertThrows(PersistenceException.class, () -> clientRepositoryAdapter.saveAll(clients),
+                "Una falla de conexión no debe reintentarse fila por fila");
+    }
 }
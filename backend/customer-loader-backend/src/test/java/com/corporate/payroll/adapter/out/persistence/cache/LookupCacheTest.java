@@ -0,0 +1,89 @@
+package com.corporate.payroll.adapter.out.persistence.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookupCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<Runnable> pendingCompletions = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private LookupCache<String, String> newCache(int maxEntries) {
+        return new LookupCache<>("test", maxEntries, TimeUnit.SECONDS.toNanos(60), value -> value,
+                pendingCompletions::add, now::get);
+    }
+
+    private Optional<String> load(String key) {
+        loads.incrementAndGet();
+        return key.startsWith("missing") ? Optional.empty() : Optional.of("value-" + key);
+    }
+
+    @Test
+    void testSecondLookupIsServedFromCacheUntilTtlExpires() {
+        LookupCache<String, String> cache = newCache(10);
+
+        assertEquals(Optional.of("value-a"), cache.get("a", this::load, value -> true));
+        assertEquals(Optional.of("value-a"), cache.get("a", this::load, value -> true));
+        assertEquals(1, loads.get());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        cache.get("a", this::load, value -> true);
+
+        CacheStatistics stats = cache.statistics();
+        assertEquals(2, loads.get());
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(1, stats.expirations());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvictedWhenFull() {
+        LookupCache<String, String> cache = newCache(2);
+        cache.get("a", this::load, value -> true);
+        cache.get("b", this::load, value -> true);
+        cache.get("a", this::load, value -> true);
+
+        cache.get("c", this::load, value -> true);
+        cache.get("b", this::load, value -> true);
+
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.statistics().size());
+        assertTrue(cache.statistics().evictions() >= 1);
+    }
+
+    @Test
+    void testMissesAndRejectedValuesAreNotCached() {
+        LookupCache<String, String> cache = newCache(10);
+
+        cache.get("missing", this::load, value -> true);
+        cache.get("missing", this::load, value -> true);
+        cache.get("b", this::load, value -> false);
+        cache.get("b", this::load, value -> false);
+
+        assertEquals(4, loads.get());
+        assertEquals(0, cache.statistics().size());
+    }
+
+    @Test
+    void testInvalidateRemovesEntryNowAndAfterTransactionCompletes() {
+        LookupCache<String, String> cache = newCache(10);
+        cache.get("a", this::load, value -> true);
+
+        cache.invalidate("a");
+        cache.get("a", this::load, value -> true);
+        pendingCompletions.forEach(Runnable::run);
+        cache.get("a", this::load, value -> true);
+
+        assertEquals(3, loads.get());
+        assertEquals(2, cache.statistics().invalidations());
+    }
+}
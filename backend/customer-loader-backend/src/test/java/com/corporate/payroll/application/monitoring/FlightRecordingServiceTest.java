@@ -0,0 +1,103 @@
+package com.corporate.payroll.application.monitoring;
+
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingServiceTest {
+
+    private final FlightRecordingService service = new FlightRecordingService();
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void testStopReturnsRecordingWithIngestEvents() throws Exception {
+        FlightRecordingStatus status = service.start(60, 10, false);
+        assertEquals("RUNNING", status.state());
+        assertFalse(status.rowEvents());
+
+        ChunkCommitEvent chunk = new ChunkCommitEvent();
+        chunk.begin();
+        chunk.processId = "PROC123";
+        chunk.lineNumber = 500;
+        chunk.rows = 499;
+        chunk.successfulCount = 490;
+        chunk.errorCount = 9;
+        chunk.outcome = ChunkCommitEvent.COMMITTED;
+        chunk.commit();
+
+        RowValidationEvent row = new RowValidationEvent();
+        row.begin();
+        row.processId = "PROC123";
+        row.outcome = RowValidationEvent.INVALID;
+        row.commit();
+
+        Path file = service.stop();
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("com.corporate.payroll"))
+                    .toList();
+
+            assertEquals(1, events.size());
+            RecordedEvent recorded = events.get(0);
+            assertEquals("com.corporate.payroll.ingest.ChunkCommit", recorded.getEventType().getName());
+            assertEquals("PROC123", recorded.getString("processId"));
+            assertEquals(500, recorded.getInt("lineNumber"));
+            assertEquals(ChunkCommitEvent.COMMITTED, recorded.getString("outcome"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        assertTrue(service.current().isEmpty());
+    }
+
+    @Test
+    void testRowEventsAreRecordedWhenRequested() throws Exception {
+        service.start(60, 10, true);
+
+        RowValidationEvent row = new RowValidationEvent();
+        row.begin();
+        row.processId = "PROC123";
+        row.lineNumber = 7;
+        row.outcome = RowValidationEvent.DUPLICATE;
+        row.commit();
+
+        Path file = service.stop();
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("com.corporate.payroll.ingest.RowValidation"))
+                    .toList();
+            assertEquals(1, events.size());
+            assertEquals(7, events.get(0).getInt("lineNumber"));
+            assertEquals(RowValidationEvent.DUPLICATE, events.get(0).getString("outcome"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testOnlyOneRecordingAtATime() {
+        service.start(60, 10, false);
+
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                () -> service.start(60, 10, false));
+        assertTrue(exception.getMessage().contains("grabación en curso"));
+    }
+
+    @Test
+    void testRejectsUnboundedRecordingAndMissingStop() {
+        assertThrows(BusinessLogicException.class, () -> service.start(3600, 10, false));
+        assertThrows(BusinessLogicException.class, () -> service.start(60, 0, false));
+        assertThrows(BusinessLogicException.class, service::stop);
+    }
+}
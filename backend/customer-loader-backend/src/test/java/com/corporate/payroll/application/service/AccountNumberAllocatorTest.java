@@ -0,0 +1,98 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.port.out.AccountRepositoryPort;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class AccountNumberAllocatorTest {
+
+    private static final int BLOCK = FileProcessingConstants.ACCOUNT_NUMBER_BLOCK_SIZE;
+
+    @Mock
+    private AccountRepositoryPort accountRepository;
+
+    @Mock
+    private ManagedExecutorService executor;
+
+    @InjectMocks
+    private AccountNumberAllocator allocator;
+
+    private final AtomicLong counter = new AtomicLong(FileProcessingConstants.ACCOUNT_NUMBER_START);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(accountRepository.reserveAccountNumbers(anyInt()))
+                .thenAnswer(invocation -> counter.getAndAdd(invocation.<Integer>getArgument(0)));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+    }
+
+    @Test
+    void testAllocateHandsOutBlockWithSingleReservation() {
+        List<Long> numbers = allocator.allocate(10);
+
+        assertEquals(10, numbers.size());
+        assertEquals(FileProcessingConstants.ACCOUNT_NUMBER_START, numbers.get(0));
+        assertEquals(FileProcessingConstants.ACCOUNT_NUMBER_START + 9, numbers.get(9));
+        assertEquals(FileProcessingConstants.ACCOUNT_NUMBER_START + 10, allocator.allocate(1).get(0));
+        verify(accountRepository, times(1)).reserveAccountNumbers(BLOCK);
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void testAllocatePrefetchesNextBlockAndContinuesIntoIt() {
+        List<Long> numbers = allocator.allocate(BLOCK + 5);
+
+        assertEquals(BLOCK + 5, Set.copyOf(numbers).size());
+        assertEquals(FileProcessingConstants.ACCOUNT_NUMBER_START + BLOCK + 4, numbers.get(BLOCK + 4));
+        verify(executor, atLeastOnce()).execute(any(Runnable.class));
+        verify(accountRepository, times(2)).reserveAccountNumbers(BLOCK);
+    }
+
+    @Test
+    void testConcurrentAllocationsNeverRepeatNumbers() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        for (Long number : allocator.allocate(7)) {
+                            assertTrue(seen.add(number), "Número repetido: " + number);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(8 * 500 * 7, seen.size());
+    }
+}
@@ -0,0 +1,151 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.port.out.BulkLoadErrorRepositoryPort;
+import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
+import com.corporate.payroll.application.port.out.EntityCounterPort;
+import com.corporate.payroll.application.service.dto.RowProcessingContext;
+import com.corporate.payroll.application.service.ingest.IngestChunk;
+import com.corporate.payroll.application.service.ingest.IngestStageTimings;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.domain.model.BulkLoadError;
+import com.corporate.payroll.domain.model.BulkLoadProcess;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BulkLoadChunkWriterTest {
+
+    @Mock
+    private BulkLoadErrorRepositoryPort errorRepository;
+
+    @Mock
+    private BulkLoadProcessRepositoryPort bulkLoadProcessRepository;
+
+    @Mock
+    private ClientProcessingService clientProcessingService;
+
+    @Mock
+    private EntityCounterPort entityCounters;
+
+    @Mock
+    private BulkLoadErrorSink errorSink;
+
+    @Mock
+    private IngestChunk chunk;
+
+    @InjectMocks
+    private BulkLoadChunkWriter chunkWriter;
+
+    private final IngestStageTimings timings = new IngestStageTimings();
+    private final List<RowProcessingContext> validRows = List.of(
+            RowProcessingContext.builder().lineNumber(997).build(),
+            RowProcessingContext.builder().lineNumber(998).build(),
+            RowProcessingContext.builder().lineNumber(1000).build());
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(chunk.getValidRows()).thenReturn(validRows);
+        when(chunk.getErrors()).thenReturn(List.of(BulkLoadError.builder().lineNumber(999).build()));
+        when(chunk.getLastLineNumber()).thenReturn(1000);
+        when(bulkLoadProcessRepository.findByProcessId("p-1")).thenReturn(Optional.of(BulkLoadProcess.builder()
+                .processId("p-1")
+                .successfulCount(10)
+                .errorCount(2)
+                .lastCommittedLine(500)
+                .build()));
+    }
+
+    @Test
+    void testErrorBatchSizeStaysWithinStatementParameterLimit() {
+        assertEquals(FileProcessingConstants.ERROR_INSERT_BATCH_SIZE, BulkLoadChunkWriter.errorBatchSize(null));
+        assertEquals(500, BulkLoadChunkWriter.errorBatchSize(" 500 "));
+        assertEquals(FileProcessingConstants.MAX_ERROR_INSERT_BATCH_SIZE, BulkLoadChunkWriter.errorBatchSize("20000"));
+        assertTrue(FileProcessingConstants.MAX_ERROR_INSERT_BATCH_SIZE * 4 <= 65535);
+        assertThrows(IllegalStateException.class, () -> BulkLoadChunkWriter.errorBatchSize("0"));
+        assertThrows(IllegalStateException.class, () -> BulkLoadChunkWriter.errorBatchSize("mil"));
+    }
+
+    @Test
+    void testWriteRunsInItsOwnTransaction() throws NoSuchMethodException {
+        Transactional transactional = BulkLoadChunkWriter.class.getMethod("write", String.class, IngestChunk.class,
+                BulkLoadErrorSink.class, IngestStageTimings.class).getAnnotation(Transactional.class);
+
+        assertEquals(Transactional.TxType.REQUIRES_NEW, transactional.value());
+        assertTrue(List.of(transactional.rollbackOn()).contains(Exception.class));
+    }
+
+    @Test
+    void testCheckpointAdvancesAfterChunkRowsAreWritten() {
+        when(clientProcessingService.processClients(validRows, errorSink, timings)).thenReturn(2);
+
+        BulkLoadChunkWriter.ChunkResult result = chunkWriter.write("p-1", chunk, errorSink, timings);
+
+        InOrder order = inOrder(clientProcessingService, errorSink, bulkLoadProcessRepository, entityCounters);
+        order.verify(clientProcessingService).processClients(validRows, errorSink, timings);
+        order.verify(errorSink).flush();
+        ArgumentCaptor<BulkLoadProcess> checkpoint = ArgumentCaptor.forClass(BulkLoadProcess.class);
+        order.verify(bulkLoadProcessRepository).update(checkpoint.capture());
+        order.verify(entityCounters).increment(EntityCounterPort.Counter.CLIENTS, 2);
+        order.verifyNoMoreInteractions();
+
+        assertEquals(new BulkLoadChunkWriter.ChunkResult(2, 2), result);
+        assertEquals(1000, checkpoint.getValue().getLastCommittedLine());
+        assertEquals(12, checkpoint.getValue().getSuccessfulCount());
+        assertEquals(4, checkpoint.getValue().getErrorCount());
+        assertEquals(16, checkpoint.getValue().getTotalRecords());
+    }
+
+    @Test
+    void testRowByRowRetryRunsInItsOwnTransaction() throws NoSuchMethodException {
+        Transactional transactional = BulkLoadChunkWriter.class.getMethod("writeRowByRow", String.class,
+                IngestChunk.class, BulkLoadErrorSink.class, IngestStageTimings.class).getAnnotation(Transactional.class);
+
+        assertEquals(Transactional.TxType.REQUIRES_NEW, transactional.value());
+        assertTrue(List.of(transactional.rollbackOn()).contains(Exception.class));
+    }
+
+    @Test
+    void testRowByRowRetryAdvancesCheckpoint() {
+        when(clientProcessingService.processClientsRowByRow(validRows, errorSink, timings)).thenReturn(2);
+
+        BulkLoadChunkWriter.ChunkResult result = chunkWriter.writeRowByRow("p-1", chunk, errorSink, timings);
+
+        InOrder order = inOrder(clientProcessingService, errorSink, bulkLoadProcessRepository, entityCounters);
+        order.verify(clientProcessingService).processClientsRowByRow(validRows, errorSink, timings);
+        order.verify(errorSink).flush();
+        ArgumentCaptor<BulkLoadProcess> checkpoint = ArgumentCaptor.forClass(BulkLoadProcess.class);
+        order.verify(bulkLoadProcessRepository).update(checkpoint.capture());
+        order.verify(entityCounters).increment(EntityCounterPort.Counter.CLIENTS, 2);
+        verify(clientProcessingService, never()).processClients(any(), any(), any());
+
+        assertEquals(new BulkLoadChunkWriter.ChunkResult(2, 2), result);
+        assertEquals(1000, checkpoint.getValue().getLastCommittedLine());
+        assertEquals(12, checkpoint.getValue().getSuccessfulCount());
+        assertEquals(4, checkpoint.getValue().getErrorCount());
+    }
+
+    @Test
+    void testFailedChunkDoesNotAdvanceCheckpoint() {
+        when(clientProcessingService.processClients(validRows, errorSink, timings))
+                .thenThrow(new IllegalStateException("lock wait timeout"));
+
+        assertThrows(IllegalStateException.class, () -> chunkWriter.write("p-1", chunk, errorSink, timings));
+
+        verify(errorSink).discard();
+        verify(bulkLoadProcessRepository, never()).update(any());
+        verifyNoInteractions(entityCounters);
+    }
+}
@@ -0,0 +1,135 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.port.in.IngestMode;
+import com.corporate.payroll.application.port.out.BulkLoadProcessRepositoryPort;
+import com.corporate.payroll.application.port.out.StageTimingRepositoryPort;
+import com.corporate.payroll.application.service.ingest.IngestChunk;
+import com.corporate.payroll.application.service.ingest.IngestPipeline;
+import com.corporate.payroll.application.service.ingest.IngestProgress;
+import com.corporate.payroll.application.service.ingest.IngestProgressRegistry;
+import com.corporate.payroll.application.service.ingest.IngestSpooler;
+import com.corporate.payroll.domain.exception.RowRejectedException;
+import com.corporate.payroll.domain.model.BulkLoadProcess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BulkLoadClientUseTest {
+
+    @Mock
+    private BulkLoadProcessRepositoryPort bulkLoadProcessRepository;
+
+    @Mock
+    private RowValidationService rowValidationService;
+
+    @Mock
+    private BulkLoadChunkWriter chunkWriter;
+
+    @Mock
+    private IngestPipeline ingestPipeline;
+
+    @Mock
+    private IngestSpooler ingestSpooler;
+
+    @Spy
+    private IngestProgressRegistry progressRegistry = new IngestProgressRegistry();
+
+    @Mock
+    private StageTimingRepositoryPort stageTimingRepository;
+
+    @InjectMocks
+    private BulkLoadClientUse bulkLoadClientUse;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        Path spooled = Files.writeString(tempDir.resolve("p-1"), "C|1000000001|2024-01-15|800|a@b.com|0954887845\n");
+        when(ingestSpooler.find("p-1")).thenReturn(Optional.of(spooled));
+        when(chunkWriter.openErrorSink(any())).thenReturn(mock(BulkLoadErrorSink.class));
+        when(chunkWriter.complete("p-1")).thenReturn(BulkLoadProcess.builder()
+                .processId("p-1")
+                .successfulCount(95)
+                .errorCount(11)
+                .build());
+    }
+
+    @Test
+    void testResumedLoadStartsFromStoredCounters() throws Exception {
+        when(chunkWriter.start("p-1")).thenReturn(process(500, 90, 10));
+        when(chunkWriter.write(eq("p-1"), any(), any(), any())).thenReturn(new BulkLoadChunkWriter.ChunkResult(5, 1));
+        doAnswer(invocation -> {
+            IngestProgress progress = progressRegistry.find("p-1").orElseThrow();
+            assertEquals(90, progress.getPersistedCount().get());
+            assertEquals(10, progress.getErrorCount().get());
+            invocation.<IngestPipeline.ChunkHandler>getArgument(1).handle(mock(IngestChunk.class));
+            return null;
+        }).when(ingestPipeline).run(any(), any(), eq(500));
+
+        bulkLoadClientUse.processPendingBulkLoad("p-1", IngestMode.STREAMING);
+
+        verify(ingestPipeline).run(any(), any(), eq(500));
+        IngestProgress progress = progressRegistry.find("p-1").orElseThrow();
+        assertEquals(95, progress.getPersistedCount().get());
+        assertEquals(11, progress.getErrorCount().get());
+    }
+
+    @Test
+    void testRejectedChunkIsRetriedRowByRow() throws Exception {
+        when(chunkWriter.start("p-1")).thenReturn(process(0, 0, 0));
+        when(chunkWriter.write(eq("p-1"), any(), any(), any()))
+                .thenThrow(new RowRejectedException("Duplicate entry '1000000001'", null));
+        when(chunkWriter.writeRowByRow(eq("p-1"), any(), any(), any()))
+                .thenReturn(new BulkLoadChunkWriter.ChunkResult(24, 1));
+        doAnswer(invocation -> {
+            invocation.<IngestPipeline.ChunkHandler>getArgument(1).handle(mock(IngestChunk.class));
+            return null;
+        }).when(ingestPipeline).run(any(), any(), eq(0));
+
+        bulkLoadClientUse.processPendingBulkLoad("p-1", IngestMode.STREAMING);
+
+        verify(chunkWriter).writeRowByRow(eq("p-1"), any(), any(), any());
+        IngestProgress progress = progressRegistry.find("p-1").orElseThrow();
+        assertEquals(24, progress.getPersistedCount().get());
+        assertEquals(1, progress.getErrorCount().get());
+    }
+
+    @Test
+    void testNewLoadStartsFromZero() throws Exception {
+        when(chunkWriter.start("p-1")).thenReturn(process(0, 0, 0));
+
+        bulkLoadClientUse.processPendingBulkLoad("p-1", IngestMode.STREAMING);
+
+        verify(ingestPipeline).run(any(), any(), eq(0));
+        IngestProgress progress = progressRegistry.find("p-1").orElseThrow();
+        assertEquals(0, progress.getPersistedCount().get());
+        assertEquals(0, progress.getErrorCount().get());
+    }
+
+    private static BulkLoadProcess process(int lastCommittedLine, int successful, int errors) {
+        return BulkLoadProcess.builder()
+                .processId("p-1")
+                .fileName("carga.txt")
+                .processingDate(LocalDateTime.now())
+                .successfulCount(successful)
+                .errorCount(errors)
+                .lastCommittedLine(lastCommittedLine)
+                .build();
+    }
+}
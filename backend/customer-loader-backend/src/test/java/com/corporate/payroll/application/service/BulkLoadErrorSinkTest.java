@@ -0,0 +1,66 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.port.out.BulkLoadErrorRepositoryPort;
+import com.corporate.payroll.domain.model.BulkLoadError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class BulkLoadErrorSinkTest {
+
+    @Mock
+    private BulkLoadErrorRepositoryPort errorRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(errorRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+    }
+
+    @Test
+    void testAddWritesOneInsertPerFullBatchAndFlushWritesRemainder() {
+        BulkLoadErrorSink sink = new BulkLoadErrorSink(errorRepository, 2);
+
+        sink.addAll(List.of(error(1), error(2), error(3)));
+
+        verify(errorRepository, times(1)).insertAll(anyList());
+        assertEquals(1, sink.getPendingCount());
+
+        sink.flush();
+
+        verify(errorRepository, times(2)).insertAll(anyList());
+        assertEquals(3, sink.getQueuedCount());
+        assertEquals(3, sink.getWrittenCount());
+        assertEquals(0, sink.getPendingCount());
+    }
+
+    @Test
+    void testDiscardDropsErrorsOfTheFailedChunk() {
+        BulkLoadErrorSink sink = new BulkLoadErrorSink(errorRepository, 2);
+        sink.add(error(1));
+        sink.flush();
+
+        sink.addAll(List.of(error(2), error(3), error(4)));
+        sink.discard();
+
+        assertEquals(1, sink.getQueuedCount());
+        assertEquals(1, sink.getWrittenCount());
+        assertEquals(0, sink.getPendingCount());
+    }
+
+    private BulkLoadError error(int lineNumber) {
+        return BulkLoadError.builder()
+                .processId("process-1")
+                .lineNumber(lineNumber)
+                .fieldName("clients.txt")
+                .errorMessage("error")
+                .build();
+    }
+}
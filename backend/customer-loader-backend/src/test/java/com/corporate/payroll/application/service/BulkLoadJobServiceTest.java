@@ -0,0 +1,136 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.port.in.BulkLoadClientUseCase;
+import com.corporate.payroll.application.port.in.IngestMode;
+import com.corporate.payroll.application.service.ingest.IngestPipeline;
+import com.corporate.payroll.application.service.ingest.IngestProgressRegistry;
+import com.corporate.payroll.application.service.ingest.IngestSpooler;
+import com.corporate.payroll.application.util.FileProcessingConstants;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BulkLoadJobServiceTest {
+
+    @Mock
+    private BulkLoadClientUseCase bulkLoadUseCase;
+
+    @Mock
+    private IngestSpooler ingestSpooler;
+
+    @Spy
+    private IngestProgressRegistry progressRegistry = new IngestProgressRegistry();
+
+    @Mock
+    private ManagedExecutorService jobExecutor;
+
+    /** Executor de la etapa de lectura del pipeline. */
+    @Mock
+    private ManagedExecutorService executor;
+
+    @InjectMocks
+    private BulkLoadJobService bulkLoadJobService;
+
+    @InjectMocks
+    private IngestPipeline ingestPipeline;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(jobExecutor.submit(any(Runnable.class))).thenAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        });
+    }
+
+    @Test
+    void testSubmitRegistersPendingProcessBeforeRunningJob() {
+        InputStream inputStream = new ByteArrayInputStream("C|12345678|2024-01-15|500|a@b.com|3125551234".getBytes());
+
+        String processId = bulkLoadJobService.submitBulkLoad(inputStream, "clients.txt", IngestMode.STREAMING);
+
+        InOrder order = inOrder(ingestSpooler, bulkLoadUseCase);
+        order.verify(ingestSpooler).spool(inputStream, processId);
+        order.verify(bulkLoadUseCase).registerPendingBulkLoad(processId, "clients.txt");
+        order.verify(bulkLoadUseCase).processPendingBulkLoad(processId, IngestMode.STREAMING);
+        assertFalse(progressRegistry.isActive(processId));
+    }
+
+    @Test
+    void testFailedJobMarksProcessAsError() {
+        InputStream inputStream = new ByteArrayInputStream("C|1".getBytes());
+        when(bulkLoadUseCase.processPendingBulkLoad(anyString(), any()))
+                .thenThrow(new BusinessLogicException("Error procesando archivo"));
+
+        String processId = bulkLoadJobService.submitBulkLoad(inputStream, "clients.txt", IngestMode.PARALLEL);
+
+        verify(bulkLoadUseCase).markBulkLoadFailed(processId);
+        assertFalse(progressRegistry.isActive(processId));
+    }
+
+    @Test
+    void testSubmitWithoutFileNameThrowsException() {
+        InputStream inputStream = new ByteArrayInputStream("C|1".getBytes());
+
+        assertThrows(BusinessLogicException.class,
+                () -> bulkLoadJobService.submitBulkLoad(inputStream, " ", IngestMode.STREAMING));
+        verifyNoInteractions(ingestSpooler, jobExecutor);
+    }
+
+    @Test
+    void testConcurrentJobsFinishWithBoundedPools() throws Exception {
+        int jobs = 6;
+        int chunksPerJob = FileProcessingConstants.INGEST_QUEUE_CAPACITY * 3;
+        ExecutorService jobPool = Executors.newFixedThreadPool(2);
+        ExecutorService readerPool = Executors.newFixedThreadPool(2);
+        try {
+            when(jobExecutor.submit(any(Runnable.class)))
+                    .thenAnswer(invocation -> jobPool.submit((Runnable) invocation.getArgument(0)));
+            when(executor.submit(any(Runnable.class)))
+                    .thenAnswer(invocation -> readerPool.submit((Runnable) invocation.getArgument(0)));
+
+            CountDownLatch finished = new CountDownLatch(jobs);
+            AtomicInteger handledChunks = new AtomicInteger();
+            when(bulkLoadUseCase.processPendingBulkLoad(anyString(), any())).thenAnswer(invocation -> {
+                ingestPipeline.run(emitter -> {
+                    for (int line = 1; line <= chunksPerJob * FileProcessingConstants.INGEST_CHUNK_SIZE; line++) {
+                        emitter.reject(line, List.of());
+                    }
+                }, chunk -> handledChunks.incrementAndGet());
+                finished.countDown();
+                return null;
+            });
+
+            for (int i = 0; i < jobs; i++) {
+                bulkLoadJobService.submitBulkLoad(new ByteArrayInputStream("C|1".getBytes()),
+                        "clients-" + i + ".txt", IngestMode.STREAMING);
+            }
+
+            assertTrue(finished.await(10, TimeUnit.SECONDS), "Las cargas no terminaron");
+            assertEquals(jobs * chunksPerJob, handledChunks.get());
+        } finally {
+            jobPool.shutdownNow();
+            readerPool.shutdownNow();
+        }
+    }
+}
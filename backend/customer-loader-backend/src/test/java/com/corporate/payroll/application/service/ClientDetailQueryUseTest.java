@@ -0,0 +1,53 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.port.out.ClientDetailQueryPort;
+import com.corporate.payroll.application.service.dto.ClientDetail;
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ClientDetailQueryUseTest {
+
+    @Mock
+    private ClientDetailQueryPort clientDetailQuery;
+
+    @InjectMocks
+    private ClientDetailQueryUse clientDetailQueryUse;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testGetClientDetailReturnsProjection() {
+        ClientDetail detail = ClientDetail.builder().clientCode("CLI_01").build();
+        when(clientDetailQuery.findByClientCode("CLI_01")).thenReturn(Optional.of(detail));
+
+        assertSame(detail, clientDetailQueryUse.getClientDetail("CLI_01"));
+    }
+
+    @Test
+    void testGetClientDetailWithUnknownCodeThrowsException() {
+        when(clientDetailQuery.findByClientCode("CLI_99")).thenReturn(Optional.empty());
+
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                () -> clientDetailQueryUse.getClientDetail("CLI_99"));
+        assertTrue(exception.getMessage().contains("no existe"));
+    }
+
+    @Test
+    void testGetClientDetailWithBlankCodeSkipsQuery() {
+        assertThrows(BusinessLogicException.class, () -> clientDetailQueryUse.getClientDetail(" "));
+        verify(clientDetailQuery, never()).findByClientCode(anyString());
+    }
+}
@@ -0,0 +1,29 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.util.ClientCodeGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientFactoryTest {
+
+    @Test
+    void testNodeIdIsParsed() {
+        assertEquals(7, ClientFactory.nodeId(" 7 "));
+        assertEquals(ClientCodeGenerator.MAX_NODE_ID, ClientFactory.nodeId(String.valueOf(ClientCodeGenerator.MAX_NODE_ID)));
+    }
+
+    @Test
+    void testMissingNodeIdFailsInsteadOfDefaulting() {
+        assertThrows(IllegalStateException.class, () -> ClientFactory.nodeId(null));
+        assertThrows(IllegalStateException.class, () -> ClientFactory.nodeId(" "));
+    }
+
+    @Test
+    void testInvalidNodeIdFails() {
+        assertThrows(IllegalStateException.class, () -> ClientFactory.nodeId("nodo-1"));
+        assertThrows(IllegalStateException.class, () -> ClientFactory.nodeId("-1"));
+        assertThrows(IllegalStateException.class,
+                () -> ClientFactory.nodeId(String.valueOf(ClientCodeGenerator.MAX_NODE_ID + 1)));
+    }
+}
@@ -0,0 +1,136 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.adapter.in.web.dto.DatabookResponseDto;
+import com.corporate.payroll.application.port.out.AccountRepositoryPort;
+import com.corporate.payroll.application.port.out.ClientRepositoryPort;
+import com.corporate.payroll.application.port.out.DatabookPort;
+import com.corporate.payroll.application.port.out.PayrollPaymentRepositoryPort;
+import com.corporate.payroll.application.service.dto.RowProcessingContext;
+import com.corporate.payroll.application.service.ingest.IngestStageTimings;
+import com.corporate.payroll.domain.exception.RowRejectedException;
+import com.corporate.payroll.domain.model.BulkLoadError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ClientProcessingServiceTest {
+
+    @Mock
+    private ClientRepositoryPort clientRepository;
+
+    @Mock
+    private AccountRepositoryPort accountRepository;
+
+    @Mock
+    private PayrollPaymentRepositoryPort paymentRepository;
+
+    @Mock
+    private DatabookPort databookService;
+
+    @Mock
+    private ClientFactory clientFactory;
+
+    @Mock
+    private AccountFactory accountFactory;
+
+    @Mock
+    private IsolatedRowWriter isolatedRowWriter;
+
+    @Mock
+    private BulkLoadErrorSink errorSink;
+
+    @InjectMocks
+    private ClientProcessingService clientProcessingService;
+
+    private final IngestStageTimings timings = new IngestStageTimings();
+    private final List<RowProcessingContext> rows = List.of(row(10, "1000000001"), row(11, "1000000002"),
+            row(12, "1000000003"));
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(clientRepository.findExistingIdNumbers(anyList())).thenReturn(Set.of());
+        when(databookService.getClientInfo(anyString(), anyString())).thenReturn(Optional.of(DatabookResponseDto.builder()
+                .firstNames("Juan")
+                .lastNames("Pérez")
+                .birthDate("1985-03-15")
+                .build()));
+        when(clientFactory.generateUniqueClientCodes(anyInt()))
+                .thenAnswer(invocation -> List.of("CLI_1", "CLI_2", "CLI_3").subList(0, invocation.getArgument(0)));
+        when(accountFactory.generateAccountNumbers(anyInt()))
+                .thenAnswer(invocation -> List.of("1000000000", "1000000001", "1000000002")
+                        .subList(0, invocation.getArgument(0)));
+        when(clientRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(accountRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(isolatedRowWriter.write(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Test
+    void testChunkIsInsertedInOneBatch() {
+        int saved = clientProcessingService.processClients(rows, errorSink, timings);
+
+        assertEquals(3, saved);
+        verify(clientRepository).saveAll(argThat(clients -> clients.size() == 3));
+        verify(accountRepository).saveAll(argThat(accounts -> accounts.size() == 3));
+        verify(paymentRepository).saveAll(argThat(payments -> payments.size() == 3));
+        verifyNoInteractions(isolatedRowWriter, errorSink);
+    }
+
+    @Test
+    void testRowByRowRecordsRejectedRowAndKeepsTheRest() {
+        when(clientRepository.saveAll(argThat(clients -> clients.size() == 1
+                && "1000000002".equals(clients.get(0).getIdNumber()))))
+                .thenThrow(new RowRejectedException("Data too long for column 'email' at row 1", null));
+
+        int saved = clientProcessingService.processClientsRowByRow(rows, errorSink, timings);
+
+        assertEquals(2, saved, "Las filas aceptadas por la base deben confirmarse");
+        verify(isolatedRowWriter, times(3)).write(any());
+        verify(clientRepository, times(3)).saveAll(argThat(clients -> clients.size() == 1));
+        verify(accountRepository, times(2)).saveAll(anyList());
+        verify(paymentRepository, times(2)).saveAll(anyList());
+
+        ArgumentCaptor<BulkLoadError> error = ArgumentCaptor.forClass(BulkLoadError.class);
+        verify(errorSink).add(error.capture());
+        assertEquals(11, error.getValue().getLineNumber());
+        assertEquals("Error al procesar: Data too long for column 'email' at row 1", error.getValue().getErrorMessage());
+    }
+
+    @Test
+    void testRowByRowPropagatesFailuresNotCausedByARow() {
+        when(clientRepository.saveAll(anyList())).thenThrow(new IllegalStateException("conexión cerrada"));
+
+        assertThrows(IllegalStateException.class,
+                () -> clientProcessingService.processClientsRowByRow(rows, errorSink, timings));
+        verify(errorSink, never()).add(any());
+    }
+
+    private static RowProcessingContext row(int lineNumber, String idNumber) {
+        return RowProcessingContext.builder()
+                .idType("C")
+                .idNumber(idNumber)
+                .joinDate("2024-01-15")
+                .payrollValue("800")
+                .email("a@b.com")
+                .phoneNumber("0954887845")
+                .lineNumber(lineNumber)
+                .fileName("carga.txt")
+                .processId("p-1")
+                .build();
+    }
+}
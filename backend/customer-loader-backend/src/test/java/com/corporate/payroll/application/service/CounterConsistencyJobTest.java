@@ -0,0 +1,37 @@
+package com.corporate.payroll.application.service;
+
+import com.corporate.payroll.application.port.out.EntityCounterPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.mockito.Mockito.*;
+
+class CounterConsistencyJobTest {
+
+    @Mock
+    private EntityCounterPort entityCounters;
+
+    @InjectMocks
+    private CounterConsistencyJob counterConsistencyJob;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testCheckCountersReconcilesEveryCounterEvenWhenOneFails() {
+        when(entityCounters.reconcile(EntityCounterPort.Counter.CLIENTS))
+                .thenThrow(new IllegalStateException("timeout"));
+        when(entityCounters.reconcile(EntityCounterPort.Counter.PROCESSES)).thenReturn(3L);
+
+        counterConsistencyJob.checkCounters();
+
+        for (EntityCounterPort.Counter counter : EntityCounterPort.Counter.values()) {
+            verify(entityCounters).reconcile(counter);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.domain.exception.BusinessLogicException;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.corporate.payroll.application.util.FileProcessingConstants.INGEST_CHUNK_SIZE;
+import static com.corporate.payroll.application.util.FileProcessingConstants.INGEST_QUEUE_CAPACITY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class IngestPipelineTest {
+
+    @Mock
+    private ManagedExecutorService executor;
+
+    @InjectMocks
+    private IngestPipeline ingestPipeline;
+
+    private final ExecutorService readerPool = Executors.newSingleThreadExecutor();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(executor.submit(any(Runnable.class)))
+                .thenAnswer(invocation -> readerPool.submit((Runnable) invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        readerPool.shutdownNow();
+    }
+
+    @Test
+    void testChunksArriveInFileOrder() throws Exception {
+        int rows = INGEST_CHUNK_SIZE * 2 + INGEST_CHUNK_SIZE / 2;
+        List<IngestChunk> chunks = new ArrayList<>();
+
+        ingestPipeline.run(emitter -> emitRows(emitter, 1, rows, null), chunks::add);
+
+        assertEquals(List.of(INGEST_CHUNK_SIZE, INGEST_CHUNK_SIZE * 2, rows),
+                chunks.stream().map(IngestChunk::getLastLineNumber).toList());
+        assertEquals(List.of(INGEST_CHUNK_SIZE, INGEST_CHUNK_SIZE, INGEST_CHUNK_SIZE / 2),
+                chunks.stream().map(IngestChunk::getRowCount).toList());
+    }
+
+    @Test
+    void testReaderBlocksWhileQueueIsFull() throws Exception {
+        int chunkCount = INGEST_QUEUE_CAPACITY * 3;
+        AtomicInteger emitted = new AtomicInteger();
+        AtomicReference<Thread> reader = new AtomicReference<>();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> handled = new ArrayList<>();
+
+        Thread consumer = new Thread(() -> {
+            try {
+                ingestPipeline.run(emitter -> {
+                    reader.set(Thread.currentThread());
+                    emitRows(emitter, 1, chunkCount * INGEST_CHUNK_SIZE, emitted);
+                }, chunk -> {
+                    awaitQuietly(release);
+                    handled.add(chunk.getLastLineNumber());
+                });
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        consumer.start();
+
+        // Un bloque en el handler, la cola llena y la última fila del siguiente bloque esperando espacio
+        int blockedAt = (INGEST_QUEUE_CAPACITY + 2) * INGEST_CHUNK_SIZE - 1;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!(emitted.get() == blockedAt && reader.get().getState() == Thread.State.WAITING)) {
+            assertTrue(System.nanoTime() < deadline, "La lectura no se bloqueó con la cola llena");
+            Thread.sleep(5);
+        }
+        Thread.sleep(100);
+        assertEquals(blockedAt, emitted.get());
+
+        release.countDown();
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertFalse(consumer.isAlive());
+        assertEquals(chunkCount * INGEST_CHUNK_SIZE, emitted.get());
+        assertEquals(chunkCount, handled.size());
+        assertEquals(chunkCount * INGEST_CHUNK_SIZE, handled.get(chunkCount - 1));
+    }
+
+    @Test
+    void testReaderFailureIsRethrown() {
+        IOException readFailure = new IOException("disco no disponible");
+        IllegalArgumentException runtimeFailure = new IllegalArgumentException("separador");
+
+        IOException io = assertThrows(IOException.class, () -> ingestPipeline.run(emitter -> {
+            emitRows(emitter, 1, INGEST_CHUNK_SIZE, null);
+            throw readFailure;
+        }, chunk -> { }));
+        assertSame(readFailure, io);
+
+        assertSame(runtimeFailure, assertThrows(IllegalArgumentException.class,
+                () -> ingestPipeline.run(emitter -> { throw runtimeFailure; }, chunk -> { })));
+
+        BusinessLogicException wrapped = assertThrows(BusinessLogicException.class,
+                () -> ingestPipeline.run(emitter -> { throw new Exception("checked"); }, chunk -> { }));
+        assertEquals("Error procesando archivo", wrapped.getMessage());
+    }
+
+    @Test
+    void testHandlerFailureCancelsReader() throws Exception {
+        CountDownLatch readerFinished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        IllegalStateException handlerFailure = new IllegalStateException("base de datos");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> ingestPipeline.run(emitter -> {
+            try {
+                emitRows(emitter, 1, Integer.MAX_VALUE, null);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            } finally {
+                readerFinished.countDown();
+            }
+        }, chunk -> {
+            throw handlerFailure;
+        }));
+
+        assertSame(handlerFailure, thrown);
+        assertTrue(readerFinished.await(5, TimeUnit.SECONDS), "La lectura siguió después de la falla");
+        assertTrue(interrupted.get());
+    }
+
+    private static void emitRows(IngestChunkEmitter emitter, int firstLine, int count, AtomicInteger emitted)
+            throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            emitter.reject(firstLine + i, List.of());
+            if (emitted != null) {
+                emitted.incrementAndGet();
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.domain.model.StageTiming;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestStageTimingsTest {
+
+    @Test
+    void testSnapshotOnlyIncludesStagesThatRan() {
+        IngestStageTimings timings = new IngestStageTimings();
+        long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(40);
+
+        timings.recordSince(IngestStage.DATABOOK_LOOKUP, start);
+        timings.recordSince(IngestStage.DATABOOK_LOOKUP, System.nanoTime());
+        timings.recordSince(IngestStage.CODE_GENERATION, System.nanoTime(), 500);
+
+        List<StageTiming> snapshot = timings.snapshot("PROC123");
+
+        assertEquals(List.of("DATABOOK_LOOKUP", "CODE_GENERATION"),
+                snapshot.stream().map(StageTiming::getStage).toList());
+        assertEquals(2, snapshot.get(0).getCalls());
+        assertTrue(snapshot.get(0).getElapsedMillis() >= 40);
+        assertEquals(500, snapshot.get(1).getCalls());
+        assertEquals("PROC123", snapshot.get(1).getProcessId());
+    }
+}
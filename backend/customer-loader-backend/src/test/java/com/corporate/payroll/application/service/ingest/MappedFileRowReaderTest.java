@@ -0,0 +1,154 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.application.monitoring.RowParseEvent;
+import com.corporate.payroll.application.monitoring.RowValidationEvent;
+import com.corporate.payroll.application.service.RowValidationService;
+import com.corporate.payroll.application.service.dto.RowProcessingContext;
+import com.corporate.payroll.domain.model.BulkLoadError;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileRowReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testParallelRangesKeepOriginalLineNumbers() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            if (i % 50 == 10) {
+                content.append("\r\n");
+            } else if (i % 50 == 20) {
+                content.append("X|ABC").append(i).append("|2024-01-15|800|a@b.com|0954887845\n");
+            } else {
+                content.append("C|").append(1000000000L + i).append("|2024-01-15|800|a@b.com|0954887845\r\n");
+            }
+        }
+        content.append("C|1000000001|2024-01-15|800|dup@b.com|0954887845");
+        Path file = Files.writeString(tempDir.resolve("carga.txt"), content, StandardCharsets.UTF_8);
+
+        List<IngestChunk> chunks = read(file, 512);
+
+        List<RowProcessingContext> valid = new ArrayList<>();
+        List<BulkLoadError> errors = new ArrayList<>();
+        chunks.forEach(chunk -> {
+            valid.addAll(chunk.getValidRows());
+            errors.addAll(chunk.getErrors());
+        });
+
+        assertEquals(192, valid.size());
+        assertEquals(1, valid.get(0).getLineNumber());
+        assertEquals(200, valid.get(valid.size() - 1).getLineNumber());
+        assertEquals("1000000199", valid.get(valid.size() - 1).getIdNumber());
+
+        assertEquals(List.of(21, 71, 121, 171, 201),
+                errors.stream().map(BulkLoadError::getLineNumber).toList());
+        assertTrue(errors.get(4).getErrorMessage().contains("duplicado"));
+    }
+
+    @Test
+    void testResumeSkipsCommittedLinesButStillDetectsDuplicates() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            content.append("C|").append(1000000000L + i).append("|2024-01-15|800|a@b.com|0954887845\n");
+        }
+        content.append("C|1000000001|2024-01-15|800|dup@b.com|0954887845\n");
+        Path file = Files.writeString(tempDir.resolve("carga.txt"), content, StandardCharsets.UTF_8);
+
+        List<IngestChunk> chunks = read(file, 512, 150);
+
+        List<RowProcessingContext> valid = new ArrayList<>();
+        List<BulkLoadError> errors = new ArrayList<>();
+        chunks.forEach(chunk -> {
+            valid.addAll(chunk.getValidRows());
+            errors.addAll(chunk.getErrors());
+        });
+
+        assertEquals(50, valid.size());
+        assertEquals(151, valid.get(0).getLineNumber());
+        assertEquals(1, errors.size());
+        assertEquals(201, errors.get(0).getLineNumber());
+        assertEquals(201, chunks.get(chunks.size() - 1).getLastLineNumber());
+    }
+
+    @Test
+    void testRowEventsUseFileLineNumbers() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            content.append("C|").append(1000000000L + i).append("|2024-01-15|800|a@b.com|0954887845\n");
+        }
+        content.append("C|1000000001|2024-01-15|800|dup@b.com|0954887845\n");
+        Path file = Files.writeString(tempDir.resolve("carga.txt"), content, StandardCharsets.UTF_8);
+        Path events = tempDir.resolve("filas.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(RowParseEvent.class);
+            recording.enable(RowValidationEvent.class);
+            recording.start();
+            read(file, 512);
+            recording.stop();
+            recording.dump(events);
+        }
+
+        List<RecordedEvent> recorded = RecordingFile.readAllEvents(events);
+        List<Integer> parsedLines = recorded.stream()
+                .filter(event -> event.getEventType().getName().equals("com.corporate.payroll.ingest.RowParse"))
+                .map(event -> event.getInt("lineNumber"))
+                .sorted()
+                .toList();
+        List<RecordedEvent> validations = recorded.stream()
+                .filter(event -> event.getEventType().getName().equals("com.corporate.payroll.ingest.RowValidation"))
+                .toList();
+
+        assertEquals(41, parsedLines.size());
+        assertEquals(41, parsedLines.get(40), "La última fila debe registrarse con su línea del archivo");
+        assertEquals(41, validations.size(), "Cada fila debe tener un solo evento de validación");
+        List<RecordedEvent> lastRow = validations.stream().filter(event -> event.getInt("lineNumber") == 41).toList();
+        assertEquals(1, lastRow.size());
+        assertEquals(RowValidationEvent.DUPLICATE, lastRow.get(0).getString("outcome"));
+    }
+
+    @Test
+    void testEmptyFileProducesNoChunks() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("vacio.txt"), "");
+
+        assertTrue(read(file, 512).isEmpty());
+    }
+
+    private List<IngestChunk> read(Path file, int rangeSize) throws Exception {
+        return read(file, rangeSize, 0);
+    }
+
+    private List<IngestChunk> read(Path file, int rangeSize, int resumeAfterLine) throws Exception {
+        BlockingQueue<IngestChunk> queue = new LinkedBlockingQueue<>();
+        IngestChunkEmitter emitter = new IngestChunkEmitter(queue, 25, resumeAfterLine);
+        MappedFileRowReader reader = new MappedFileRowReader(file, new RowValidationService(), "PROC123",
+                "carga.txt", LocalDateTime.now(), new ForkJoinPool(3), new IngestStageTimings(), rangeSize);
+
+        reader.readInto(emitter);
+        emitter.complete();
+
+        List<IngestChunk> chunks = new ArrayList<>();
+        IngestChunk chunk;
+        while ((chunk = queue.take()) != IngestChunk.END) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,99 @@
+package com.corporate.payroll.application.service.ingest;
+
+import com.corporate.payroll.application.service.RowValidationService;
+import com.corporate.payroll.application.service.dto.RowProcessingContext;
+import com.corporate.payroll.domain.model.BulkLoadError;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingRowReaderTest {
+
+    @Test
+    void testRowsKeepFileLineNumbers() throws Exception {
+        String content = "C|1000000001|2024-01-15|800|a@b.com|0954887845\n"
+                + "\n"
+                + "X|ABC|2024-01-15|800|a@b.com|0954887845\n"
+                + "C|1000000002|2024-01-15|800|a@b.com|0954887845\n"
+                + "C|1000000001|2024-01-15|800|dup@b.com|0954887845\n";
+
+        List<IngestChunk> chunks = read(content, 0);
+
+        List<RowProcessingContext> valid = new ArrayList<>();
+        List<BulkLoadError> errors = new ArrayList<>();
+        chunks.forEach(chunk -> {
+            valid.addAll(chunk.getValidRows());
+            errors.addAll(chunk.getErrors());
+        });
+
+        assertEquals(List.of(1, 4), valid.stream().map(RowProcessingContext::getLineNumber).toList());
+        assertEquals(List.of("1000000001", "1000000002"), valid.stream().map(RowProcessingContext::getIdNumber).toList());
+        assertTrue(errors.stream().allMatch(error -> error.getLineNumber() == 3 || error.getLineNumber() == 5));
+        assertTrue(errors.stream().anyMatch(error -> error.getLineNumber() == 5
+                && error.getErrorMessage().contains("duplicado")));
+        assertEquals(5, chunks.get(chunks.size() - 1).getLastLineNumber());
+    }
+
+    @Test
+    void testChunksAreCutAtChunkSize() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 60; i++) {
+            content.append("C,").append(1000000000L + i).append(",2024-01-15,800,a@b.com,0954887845\n");
+        }
+
+        List<IngestChunk> chunks = read(content.toString(), 0);
+
+        assertEquals(List.of(25, 25, 10), chunks.stream().map(IngestChunk::getRowCount).toList());
+        assertEquals(List.of(25, 50, 60), chunks.stream().map(IngestChunk::getLastLineNumber).toList());
+    }
+
+    @Test
+    void testResumeSkipsCommittedLinesButStillDetectsDuplicates() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            content.append("C|").append(1000000000L + i).append("|2024-01-15|800|a@b.com|0954887845\n");
+        }
+        content.append("C|1000000003|2024-01-15|800|dup@b.com|0954887845\n");
+
+        List<IngestChunk> chunks = read(content.toString(), 30);
+
+        List<RowProcessingContext> valid = new ArrayList<>();
+        List<BulkLoadError> errors = new ArrayList<>();
+        chunks.forEach(chunk -> {
+            valid.addAll(chunk.getValidRows());
+            errors.addAll(chunk.getErrors());
+        });
+
+        assertEquals(10, valid.size());
+        assertEquals(31, valid.get(0).getLineNumber());
+        assertEquals(1, errors.size());
+        assertEquals(41, errors.get(0).getLineNumber());
+        assertTrue(errors.get(0).getErrorMessage().contains("duplicado"));
+        assertEquals(11, chunks.stream().mapToInt(IngestChunk::getRowCount).sum());
+    }
+
+    private List<IngestChunk> read(String content, int resumeAfterLine) throws Exception {
+        BlockingQueue<IngestChunk> queue = new LinkedBlockingQueue<>();
+        IngestChunkEmitter emitter = new IngestChunkEmitter(queue, 25, resumeAfterLine);
+        StreamingRowReader reader = new StreamingRowReader(new BufferedReader(new StringReader(content)),
+                new RowValidationService(), "PROC123", "carga.txt", LocalDateTime.now(), new IngestStageTimings());
+
+        reader.readInto(emitter);
+        emitter.complete();
+
+        List<IngestChunk> chunks = new ArrayList<>();
+        IngestChunk chunk;
+        while ((chunk = queue.take()) != IngestChunk.END) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
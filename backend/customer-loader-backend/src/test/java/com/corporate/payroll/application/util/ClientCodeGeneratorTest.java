@@ -0,0 +1,84 @@
+package com.corporate.payroll.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientCodeGeneratorTest {
+
+    @Test
+    void testCodesKeepPrefixAndAreOrderedWithinSameMillisecond() {
+        ClientCodeGenerator generator = new ClientCodeGenerator("CLI_", 1, () -> 1_750_000_000_000L);
+
+        String first = generator.next();
+        String second = generator.next();
+
+        assertTrue(first.matches("CLI_[0-9A-HJKMNP-TV-Z]{13}"), first);
+        assertTrue(second.compareTo(first) > 0);
+    }
+
+    @Test
+    void testClockGoingBackwardsDoesNotRepeatCodes() {
+        long[] now = {1_750_000_000_000L};
+        ClientCodeGenerator generator = new ClientCodeGenerator("CLI_", 1, () -> now[0]);
+        Set<String> codes = new HashSet<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                now[0] -= 1_000;
+            }
+            assertTrue(codes.add(generator.next()));
+        }
+    }
+
+    @Test
+    void testDifferentNodesNeverCollide() {
+        ClientCodeGenerator nodeA = new ClientCodeGenerator("CLI_", 1, () -> 1_750_000_000_000L);
+        ClientCodeGenerator nodeB = new ClientCodeGenerator("CLI_", 2, () -> 1_750_000_000_000L);
+        Set<String> codes = new HashSet<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(codes.add(nodeA.next()));
+            assertTrue(codes.add(nodeB.next()));
+        }
+    }
+
+    @Test
+    void testConcurrentGenerationIsUnique() throws Exception {
+        ClientCodeGenerator generator = new ClientCodeGenerator("CLI_", 7);
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        codes.add(generator.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(40_000, codes.size());
+    }
+
+    @Test
+    void testRejectsNodeIdOutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ClientCodeGenerator("CLI_", ClientCodeGenerator.MAX_NODE_ID + 1));
+    }
+}
@@ -0,0 +1,74 @@
+package com.corporate.payroll.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DelimitedLineTokenizerTest {
+
+    @Test
+    void testDetectDelimiterPrefersPipe() {
+        assertEquals('|', DelimitedLineTokenizer.detectDelimiter("C|1725364578|2026-01-09|800|a@b.com|0954887845"));
+        assertEquals(',', DelimitedLineTokenizer.detectDelimiter("C,1725364578,2026-01-09,800,a@b.com,0954887845"));
+        assertEquals(',', DelimitedLineTokenizer.detectDelimiter("C,\"a|b\",2026-01-09"));
+    }
+
+    @Test
+    void testTokenizeTrimsFields() {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer('|');
+
+        int count = tokenizer.tokenize(" C | 1725364578 |2026-01-09| 800 |a@b.com|0954887845 ");
+
+        assertEquals(6, count);
+        assertEquals("C", tokenizer.field(0));
+        assertEquals("1725364578", tokenizer.field(1));
+        assertEquals("800", tokenizer.field(3));
+        assertEquals("0954887845", tokenizer.field(5));
+        assertEquals("", tokenizer.field(6), "Out of range fields should be empty");
+    }
+
+    @Test
+    void testTokenizeDropsTrailingEmptyFieldsLikeSplit() {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(',');
+
+        assertEquals(1, tokenizer.tokenize("X,"));
+        assertEquals(3, tokenizer.tokenize(",A,B,,"));
+        assertEquals("", tokenizer.field(0));
+        assertEquals("B", tokenizer.field(2));
+        assertEquals(0, tokenizer.tokenize("   "));
+    }
+
+    @Test
+    void testTokenizeSupportsQuotedFields() {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(',');
+
+        int count = tokenizer.tokenize("C, \"12,34\" ,\"dice \"\"hola\"\"\",\" x \"");
+
+        assertEquals(4, count);
+        assertEquals("12,34", tokenizer.field(1));
+        assertEquals("dice \"hola\"", tokenizer.field(2));
+        assertEquals(" x ", tokenizer.field(3), "Quoted content keeps its spaces");
+    }
+
+    @Test
+    void testTokenizerIsReusableAcrossLines() {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer('|');
+
+        tokenizer.tokenize("C|1725364578|2026-01-09|800|jaime123@gmail.com|0954887845");
+        String first = tokenizer.field(4);
+        tokenizer.tokenize("P|A123");
+
+        assertEquals("jaime123@gmail.com", first);
+        assertEquals(2, tokenizer.fieldCount());
+        assertEquals("A123", tokenizer.field(1));
+        assertEquals("", tokenizer.field(4));
+    }
+
+    @Test
+    void testParseCsvLineMatchesTokenizer() {
+        String[] values = FileFieldValidator.parseCsvLine("P|A123|2026-01-07|700|jose123@gmail.com|0954887842");
+
+        assertArrayEquals(new String[]{"P", "A123", "2026-01-07", "700", "jose123@gmail.com", "0954887842"}, values);
+        assertEquals(0, FileFieldValidator.parseCsvLine("").length);
+    }
+}
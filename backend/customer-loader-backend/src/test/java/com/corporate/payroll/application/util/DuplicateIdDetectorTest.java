@@ -0,0 +1,67 @@
+package com.corporate.payroll.application.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateIdDetectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEncodingKeepsDistinctIdsDistinct() {
+        assertNotEquals(DuplicateIdDetector.encode("0954887845"), DuplicateIdDetector.encode("954887845"),
+                "Leading zeros must be significant");
+        assertNotEquals(DuplicateIdDetector.encode("AB12"), DuplicateIdDetector.encode("ab12"));
+        assertNotEquals(DuplicateIdDetector.encode("10"), DuplicateIdDetector.encode("A"));
+        assertTrue(DuplicateIdDetector.encode("99999999999999999") > 0);
+        assertTrue(DuplicateIdDetector.encode("zzzzzzzzzz") > 0);
+        assertEquals(0, DuplicateIdDetector.encode("999999999999999999"), "18 digits do not fit");
+        assertEquals(0, DuplicateIdDetector.encode("ABCDEFGHIJK"), "11 alphanumeric chars do not fit");
+    }
+
+    @Test
+    void testDetectsDuplicatesIncludingUnencodableIds() {
+        try (DuplicateIdDetector detector = new DuplicateIdDetector()) {
+            assertFalse(detector.isDuplicate("1725364578"));
+            assertFalse(detector.isDuplicate("PAS12345"));
+            assertFalse(detector.isDuplicate("1234567890123456789"));
+
+            assertTrue(detector.isDuplicate("1725364578"));
+            assertTrue(detector.isDuplicate("PAS12345"));
+            assertTrue(detector.isDuplicate("1234567890123456789"));
+            assertFalse(detector.isDuplicate("pas12345"));
+
+            assertEquals(4, detector.size());
+            assertEquals("HEAP", detector.storage());
+        }
+    }
+
+    @Test
+    void testSpillsFromHeapToDirectMemoryAndDisk() throws Exception {
+        DuplicateIdDetector detector = new DuplicateIdDetector(64 * 1024, 256 * 1024, tempDir);
+
+        for (long id = 1_000_000_000L; id < 1_000_020_000L; id++) {
+            assertFalse(detector.isDuplicate(Long.toString(id)));
+        }
+
+        assertEquals("MAPPED_FILE", detector.storage());
+        assertTrue(detector.isDuplicate("1000000000"));
+        assertTrue(detector.isDuplicate("1000019999"));
+        assertFalse(detector.isDuplicate("1000020000"));
+        assertEquals(20_001, detector.size());
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+        detector.close();
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count(), "Spill file should be removed on close");
+        }
+    }
+}
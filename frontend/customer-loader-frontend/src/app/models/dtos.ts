@@ -50,6 +50,30 @@ export interface ProcessDetails {
   processingDate: string; 
   clients?: ClientDetail[];
   errors?: BulkLoadError[];
+  errorsReportUrl?: string;
+  stageTimings?: StageTiming[];
+}
+
+/**
+ * DTO: Tiempo acumulado de una etapa de la carga
+ */
+export interface StageTiming {
+  stage: string;
+  elapsedMillis: number;
+  calls: number;
+}
+
+/**
+ * DTO: Evento de progreso de una carga en curso
+ */
+export interface ProcessProgressEvent {
+  processId: string;
+  status: string;
+  rowsRead: number;
+  validRows: number;
+  successfulCount: number;
+  errorCount: number;
+  rowsPerSecond: number;
 }
 
 /**
@@ -138,4 +162,5 @@ export interface PaginatedResponse<T> {
   size: number;
   number: number;
   empty: boolean;
+  nextCursor?: string | null;
 }
@@ -66,8 +66,8 @@ export class ClientDetailsDialogComponent implements OnInit, OnDestroy {
 
   ngOnInit(): void {
     const client = this.clientDetails$.value;
-    if (client?.id) {
-      this.loadAccountAndPayment(client.id);
+    if (client?.clientCode) {
+      this.loadAccountAndPayment(client.clientCode);
     }
   }
 
@@ -77,39 +77,22 @@ export class ClientDetailsDialogComponent implements OnInit, OnDestroy {
   }
 
   /**
-   * Carga la cuenta y el primer pago del cliente
+   * Carga la cuenta y el primer pago del cliente en una sola petición
    */
-  private loadAccountAndPayment(clientId: number): void {
+  private loadAccountAndPayment(clientCode: string): void {
     this.isLoading$.next(true);
     this.error$.next(null);
 
-    // Cargar cuenta
-    this.clientService.getAccountByClientId(clientId)
+    this.clientService.getClientDetail(clientCode)
       .pipe(takeUntil(this.destroy$))
       .subscribe({
-        next: (account) => {
-          this.account$.next(account);
-          
-          // Si hay cuenta, cargar el primer pago
-          if (account?.id) {
-            this.clientService.getFirstPaymentByAccountId(account.id)
-              .pipe(takeUntil(this.destroy$))
-              .subscribe({
-                next: (payment) => {
-                  this.firstPayment$.next(payment);
-                  this.isLoading$.next(false);
-                },
-                error: (err) => {
-                  console.error('Error loading payment:', err);
-                  this.isLoading$.next(false);
-                }
-              });
-          } else {
-            this.isLoading$.next(false);
-          }
+        next: (detail) => {
+          this.account$.next(detail.account ?? null);
+          this.firstPayment$.next(detail.firstPayment ?? null);
+          this.isLoading$.next(false);
         },
         error: (err) => {
-          console.error('Error loading account:', err);
+          console.error('Error loading client detail:', err);
           this.error$.next('No se pudieron cargar los datos de la cuenta');
           this.isLoading$.next(false);
         }
@@ -117,6 +117,25 @@ export class ClientService {
     );
   }
 
+  /**
+   * Obtiene el cliente con su cuenta y su primer pago en una sola petición
+   * 
+   * @param clientCode - Código único del cliente
+   * @returns Observable con el detalle del cliente
+   */
+  public getClientDetail(clientCode: string): Observable<ClientDetail> {
+    if (!clientCode) {
+      return throwError(() => new Error('Código de cliente requerido'));
+    }
+
+    return this.http.get<ClientDetail>(
+      `${this.apiUrl}/code/${clientCode}/detail`
+    ).pipe(
+      timeout(this.requestTimeout),
+      catchError(error => this.handleError(error, 'obtener detalle del cliente'))
+    );
+  }
+
   /**
    * Obtiene la cuenta de un cliente
    * 
@@ -2,7 +2,7 @@ import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { environment } from '../../environments/environment';
-import { ProcessDetails, BulkLoadProcess, PaginatedResponse, BulkLoadError } from '../models';
+import { ProcessDetails, BulkLoadProcess, PaginatedResponse, BulkLoadError, ProcessProgressEvent } from '../models';
 
 @Injectable({
   providedIn: 'root'
@@ -59,6 +59,16 @@ export class ProcessService {
     );
   }
 
+  /**
+   * URL de descarga del reporte completo de errores de un proceso
+   * @param processId ID del proceso
+   * @param format formato del reporte
+   * @returns URL del reporte
+   */
+  getErrorReportUrl(processId: string, format: 'csv' | 'ndjson' = 'csv'): string {
+    return `${this.apiUrl}/${processId}/errors/report?format=${format}`;
+  }
+
   /**
    * Obtiene el estado de un proceso
    * @param processId ID del proceso
@@ -69,4 +79,29 @@ export class ProcessService {
       `${this.apiUrl}/${processId}/status`
     );
   }
+
+  /**
+   * Progreso en vivo de una carga por Server-Sent Events, en lugar de consultar los detalles
+   * periódicamente. Emite un evento por segundo y se completa cuando la carga termina.
+   * @param processId ID del proceso
+   * @returns Observable con el progreso de la carga
+   */
+  watchProcessProgress(processId: string): Observable<ProcessProgressEvent> {
+    return new Observable<ProcessProgressEvent>(subscriber => {
+      const source = new EventSource(`${this.apiUrl}/${processId}/events`);
+      source.addEventListener('progress', event =>
+        subscriber.next(JSON.parse((event as MessageEvent).data)));
+      source.addEventListener('complete', event => {
+        subscriber.next(JSON.parse((event as MessageEvent).data));
+        subscriber.complete();
+      });
+      // Mientras readyState sea CONNECTING el navegador reintenta solo
+      source.onerror = () => {
+        if (source.readyState === EventSource.CLOSED) {
+          subscriber.error(new Error('Se perdió la conexión con el progreso del proceso'));
+        }
+      };
+      return () => source.close();
+    });
+  }
 }
@@ -14,13 +14,42 @@ CREATE TABLE bulk_load_processes (
     total_records INT,
     successful_count INT DEFAULT 0,
     error_count INT DEFAULT 0,
+    last_committed_line INT NOT NULL DEFAULT 0,
     processing_date DATETIME NOT NULL,
     created_at TIMESTAMP DEFAULT now(),
     updated_at TIMESTAMP DEFAULT now() ON UPDATE now(),
     INDEX idx_process_id (process_id),
-    INDEX idx_status (status)
+    INDEX idx_status (status),
+    INDEX idx_processing_date_id (processing_date, id)
+);
+
+-- ============================================
+-- Generadores de IDs por bloques (clients, accounts, payroll_payments)
+-- Hibernate reserva bloques de 50 IDs por acceso y crea cada fila en su primer uso.
+-- En una base existente inicializar con un valor mayor al máximo actual, por ejemplo:
+--   INSERT INTO id_generators SELECT 'clients', COALESCE(MAX(id), 0) + 50 FROM clients;
+-- ============================================
+CREATE TABLE id_generators (
+    gen_name VARCHAR(50) NOT NULL PRIMARY KEY,
+    gen_value BIGINT NOT NULL
+);
+
+-- Contador de números de cuenta: gen_value es el siguiente número libre.
+-- La aplicación reserva bloques con UPDATE ... SET gen_value = gen_value + n.
+-- Si la fila no existe se crea a partir del mayor número de cuenta registrado.
+INSERT INTO id_generators (gen_name, gen_value) VALUES ('account_number', 1000000000);
+
+-- ============================================
+-- Totales de registros mantenidos incrementalmente (evita COUNT(*) en cada página)
+-- La aplicación los verifica y corrige periódicamente contra el conteo real.
+-- ============================================
+CREATE TABLE entity_counters (
+    counter_name VARCHAR(50) NOT NULL PRIMARY KEY,
+    counter_value BIGINT NOT NULL
 );
 
+INSERT INTO entity_counters (counter_name, counter_value) VALUES ('clients', 0), ('bulk_load_processes', 0);
+
 -- ============================================
 -- Tabla de clientes (1:1 con cuentas)
 -- ============================================
@@ -87,5 +116,18 @@ CREATE TABLE bulk_load_errors (
     created_at TIMESTAMP DEFAULT now(),
     FOREIGN KEY (process_id) REFERENCES bulk_load_processes(process_id) ON DELETE CASCADE,
     INDEX idx_process_id (process_id),
-    INDEX idx_line_number (line_number)
+    INDEX idx_line_number (line_number),
+    INDEX idx_process_line_id (process_id, line_number, id)
+);
+
+-- ============================================
+-- Tiempos por etapa de cada carga masiva
+-- ============================================
+CREATE TABLE bulk_load_stage_timings (
+    process_id VARCHAR(36) NOT NULL,
+    stage VARCHAR(30) NOT NULL,
+    elapsed_ms BIGINT NOT NULL,
+    calls BIGINT NOT NULL,
+    PRIMARY KEY (process_id, stage),
+    FOREIGN KEY (process_id) REFERENCES bulk_load_processes(process_id) ON DELETE CASCADE
 );